@@ -0,0 +1,222 @@
+package org.ikuzo.otboo.domain.recommendation.service.engine.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
+import org.ikuzo.otboo.domain.clothes.entity.Clothes;
+import org.ikuzo.otboo.domain.clothes.entity.ClothesAttribute;
+import org.ikuzo.otboo.domain.clothes.entity.ClothesAttributeDef;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
+import org.ikuzo.otboo.domain.recommendation.support.WeatherContextProvider;
+import org.ikuzo.otboo.domain.user.entity.User;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.ikuzo.otboo.global.base.BaseEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+/**
+ * 옷장 크기/날씨별 점수 기반 추천 벤치마크 (DB 없이 ClothesRepository 스텁 사용)
+ * - cached=true : 옷장 인덱스 캐시 적중 상태 (추천 요청의 일반 경로)
+ * - cached=false: 매 요청마다 옷장 인덱스 컴파일 (캐시 무효화 직후 경로)
+ * - outfitSearch=true: 카테고리별 탐욕 선택 대신 코디 조합 탐색 (recommendation.outfit-search.enabled)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreBasedRecommendationEngineBenchmark {
+
+    private static final String[] SEASONS = {"사계절", "봄", "여름", "가을", "겨울"};
+    private static final String[] STYLES = {"기본", "캐주얼", "미니멀", "포멀", "시크", "빈티지", "러블리", "스포츠"};
+    private static final String[] THICKNESSES = {"얇음", "보통", "두꺼움"};
+    private static final String[] MATERIALS = {"면", "니트", "데님", "린넨", "폴리에스터", "가죽", "스웨이드"};
+
+    // 실제 옷장 분포에 가깝게 상의/하의 비중을 높게
+    private static final ClothesType[] TYPE_MIX = {
+        ClothesType.TOP, ClothesType.TOP, ClothesType.TOP, ClothesType.TOP,
+        ClothesType.BOTTOM, ClothesType.BOTTOM, ClothesType.BOTTOM,
+        ClothesType.OUTER, ClothesType.OUTER,
+        ClothesType.DRESS, ClothesType.SHOES, ClothesType.SHOES,
+        ClothesType.HAT, ClothesType.SCARF, ClothesType.ACCESSORY, ClothesType.BAG
+    };
+
+    @Param({"10", "100", "1000", "10000"})
+    public int wardrobeSize;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    @Param({"COLD_SNOW", "MILD", "HOT_RAIN"})
+    public String weatherCase;
+
+    @Param({"false", "true"})
+    public boolean outfitSearch;
+
+    private ScoreBasedRecommendationEngine engine;
+    private User owner;
+    private Weather weather;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        owner = new User("bench@otboo.io", "bench", "password");
+        setId(owner, UUID.randomUUID());
+
+        List<Clothes> wardrobe = buildWardrobe(owner, wardrobeSize, new Random(7));
+        ClothesRepository repository = stubRepository(wardrobe);
+        CacheManager cacheManager = cached
+            ? new ConcurrentMapCacheManager(WardrobeIndexProvider.CACHE_NAME,
+                WeatherContextProvider.CACHE_NAME)
+            : new NoOpCacheManager();
+
+        engine = new ScoreBasedRecommendationEngine(repository,
+            new WardrobeIndexProvider(repository, cacheManager),
+            new WeatherContextProvider(cacheManager), new SimpleMeterRegistry());
+        // 스프링 없이 생성하므로 @Value 설정은 application.yaml 기본값으로 직접 주입
+        setField(engine, "outfitSearchEnabled", outfitSearch);
+        setField(engine, "outfitSearchMaxNodes", 20_000L);
+        setField(engine, "outfitSearchTimeBudgetMs", 50L);
+        weather = buildWeather(owner, weatherCase);
+    }
+
+    @Benchmark
+    public List<Clothes> recommend() {
+        return engine.recommend(owner, weather);
+    }
+
+    private static Weather buildWeather(User owner, String weatherCase) {
+        Weather.WeatherBuilder builder = Weather.builder()
+            .user(owner)
+            .forecastedAt(Instant.parse("2025-01-14T20:00:00Z"))
+            .skyStatus("CLOUDY");
+        return switch (weatherCase) {
+            case "COLD_SNOW" -> builder
+                .forecastAt(Instant.parse("2025-01-15T03:00:00Z"))
+                .precipitationType("SNOW").precipitationProbability(70.0)
+                .temperatureCurrent(-3.0).temperatureMin(-8.0).temperatureMax(1.0)
+                .windSpeed(4.5).humidityCurrent(60.0)
+                .build();
+            case "HOT_RAIN" -> builder
+                .forecastAt(Instant.parse("2025-07-15T03:00:00Z"))
+                .precipitationType("RAIN").precipitationProbability(80.0)
+                .temperatureCurrent(29.0).temperatureMin(25.0).temperatureMax(32.0)
+                .windSpeed(2.0).humidityCurrent(85.0)
+                .build();
+            default -> builder
+                .forecastAt(Instant.parse("2025-04-20T03:00:00Z"))
+                .precipitationType("NONE").precipitationProbability(10.0)
+                .temperatureCurrent(18.0).temperatureMin(11.0).temperatureMax(21.0)
+                .windSpeed(1.5).humidityCurrent(45.0)
+                .build();
+        };
+    }
+
+    private static List<Clothes> buildWardrobe(User owner, int size, Random random)
+        throws ReflectiveOperationException {
+        ClothesAttributeDef season = ClothesAttributeDef.builder().name("계절").build();
+        ClothesAttributeDef style = ClothesAttributeDef.builder().name("스타일").build();
+        ClothesAttributeDef thickness = ClothesAttributeDef.builder().name("두께").build();
+        ClothesAttributeDef material = ClothesAttributeDef.builder().name("재질").build();
+
+        List<Clothes> wardrobe = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ClothesType type = TYPE_MIX[random.nextInt(TYPE_MIX.length)];
+            Clothes clothes = Clothes.builder()
+                .name(type.name().toLowerCase() + "-" + i)
+                .type(type)
+                .owner(owner)
+                .build();
+            setId(clothes, UUID.randomUUID());
+
+            // 속성 누락도 섞어서 실제 데이터처럼 구성
+            addAttribute(clothes, season, pick(SEASONS, random), random, 0.9);
+            addAttribute(clothes, style, pick(STYLES, random), random, 0.85);
+            addAttribute(clothes, thickness, pick(THICKNESSES, random), random, 0.8);
+            addAttribute(clothes, material, pick(MATERIALS, random), random, 0.6);
+            wardrobe.add(clothes);
+        }
+        return wardrobe;
+    }
+
+    private static void addAttribute(Clothes clothes, ClothesAttributeDef def, String value,
+                                     Random random, double presence) {
+        if (random.nextDouble() >= presence) {
+            return;
+        }
+        clothes.getAttributes().add(ClothesAttribute.builder()
+            .clothes(clothes)
+            .definition(def)
+            .optionValue(value)
+            .build());
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ClothesRepository stubRepository(List<Clothes> wardrobe) {
+        Map<UUID, Clothes> byId = new HashMap<>();
+        for (Clothes c : wardrobe) {
+            byId.put(c.getId(), c);
+        }
+        List<ClothesProjection> projections = wardrobe.stream()
+            .map(c -> new ClothesProjection(c.getId(), c.getName(), c.getType(), c.getImageUrl(),
+                c.getAttributes().stream()
+                    .map(a -> new ClothesProjection.Attribute(a.getDefinition().getId(),
+                        a.getDefinition().getName(), a.getOptionValue()))
+                    .toList()))
+            .toList();
+        return (ClothesRepository) Proxy.newProxyInstance(
+            ClothesRepository.class.getClassLoader(),
+            new Class<?>[]{ClothesRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findProjectionsByOwnerId" -> projections;
+                case "findAllById" -> {
+                    List<Clothes> found = new ArrayList<>();
+                    for (UUID id : (Iterable<UUID>) args[0]) {
+                        Clothes c = byId.get(id);
+                        if (c != null) {
+                            found.add(c);
+                        }
+                    }
+                    yield found;
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "ClothesRepositoryStub";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static void setField(Object target, String name, Object value)
+        throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static void setId(BaseEntity entity, UUID id) throws ReflectiveOperationException {
+        Field field = BaseEntity.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(entity, id);
+    }
+}
@@ -0,0 +1,63 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 체감온도 계산(KMA 여름/겨울식) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KmaPerceivedTemperatureBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"SUMMER", "WINTER"})
+    public String season;
+
+    private double[] temperatures;
+    private double[] humidities;
+    private double[] windSpeeds;
+    private Instant forecastAt;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        boolean summer = "SUMMER".equals(season);
+
+        temperatures = new double[SAMPLES];
+        humidities = new double[SAMPLES];
+        windSpeeds = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            temperatures[i] = summer ? 20 + random.nextDouble() * 15 : -15 + random.nextDouble() * 25;
+            humidities[i] = 20 + random.nextDouble() * 80;
+            windSpeeds[i] = random.nextDouble() * 10;
+        }
+        forecastAt = Instant.parse(summer ? "2025-07-15T03:00:00Z" : "2025-01-15T03:00:00Z");
+    }
+
+    @Benchmark
+    public void compute(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(KmaPerceivedTemperature.compute(temperatures[i], humidities[i], windSpeeds[i], forecastAt));
+        }
+    }
+
+    @Benchmark
+    public void wetBulbTempStull(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(KmaPerceivedTemperature.wetBulbTempStull(temperatures[i], humidities[i]));
+        }
+    }
+}
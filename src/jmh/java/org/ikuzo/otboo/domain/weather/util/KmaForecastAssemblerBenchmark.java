@@ -0,0 +1,80 @@
+package org.ikuzo.otboo.domain.weather.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastGrid;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastStreamParser;
+import org.ikuzo.otboo.domain.weather.dto.WeatherAPILocation;
+import org.ikuzo.otboo.domain.weather.dto.WeatherDto;
+import org.ikuzo.otboo.domain.weather.util.KmaForecastAssembler.DailyExtrema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 단기예보(getVilageFcst) 응답 1000행 기준 스트리밍 파싱/DTO 변환 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KmaForecastAssemblerBenchmark {
+
+    private static final String FIXTURE = "/kma/village-forecast-1000.json";
+
+    private byte[] rawResponse;
+    private KmaForecastGrid grid;
+    private WeatherAPILocation location;
+    private DailyExtrema extrema;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream(FIXTURE), FIXTURE)) {
+            rawResponse = in.readAllBytes();
+        }
+        grid = parse();
+        location = WeatherAPILocation.builder()
+            .latitude(37.5665)
+            .longitude(126.9780)
+            .x(grid.nx())
+            .y(grid.ny())
+            .locationNames(List.of("서울특별시", "중구", "태평로1가"))
+            .build();
+
+        extrema = KmaForecastAssembler.computeDailyExtrema(grid);
+    }
+
+    @Benchmark
+    public KmaForecastGrid parseResponse() throws IOException {
+        return parse();
+    }
+
+    @Benchmark
+    public DailyExtrema computeDailyExtrema() {
+        return KmaForecastAssembler.computeDailyExtrema(grid);
+    }
+
+    @Benchmark
+    public List<WeatherDto> buildWeatherDtos() {
+        return KmaForecastAssembler.buildWeatherDtos(grid, grid, grid.baseDate(), grid.baseTime(), location,
+            extrema);
+    }
+
+    @Benchmark
+    public List<WeatherDto> fullPipeline() throws IOException {
+        KmaForecastGrid parsed = parse();
+        return KmaForecastAssembler.buildWeatherDtos(parsed, KmaForecastGrid.empty(), parsed.baseDate(),
+            parsed.baseTime(), location, KmaForecastAssembler.computeDailyExtrema(parsed));
+    }
+
+    private KmaForecastGrid parse() throws IOException {
+        return KmaForecastStreamParser.parse(new ByteArrayInputStream(rawResponse));
+    }
+}
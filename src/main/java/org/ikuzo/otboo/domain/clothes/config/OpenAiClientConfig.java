@@ -1,30 +1,22 @@
 package org.ikuzo.otboo.domain.clothes.config;
 
-import io.netty.channel.ChannelOption;
-import java.time.Duration;
+import org.ikuzo.otboo.global.http.OutboundHttpClients;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
 
 @Configuration
 @EnableConfigurationProperties(OpenAiProps.class)
 public class OpenAiClientConfig {
 
+    // 커넥션 풀/타임아웃은 outbound.http.upstreams.openai 설정을 따름
     @Bean
-    WebClient openAiWebClient(WebClient.Builder builder, OpenAiProps props) {
-        HttpClient http = HttpClient.create()
-            .responseTimeout(Duration.ofMillis(props.timeoutMs()))
-            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000);
-
-
-        return builder
+    WebClient openAiWebClient(OutboundHttpClients outboundHttpClients, OpenAiProps props) {
+        return outboundHttpClients.builder(OutboundHttpClients.OPENAI)
             .baseUrl(props.baseUrl())
-            .clientConnector(new ReactorClientHttpConnector(http))
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + props.apiKey())
             .build();
@@ -13,6 +13,8 @@ import org.ikuzo.otboo.domain.clothes.dto.request.ClothesUpdateRequest;
 import org.ikuzo.otboo.domain.clothes.service.ClothesService;
 import org.ikuzo.otboo.domain.clothes.service.ClothingExtractionService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -46,12 +48,15 @@ public class ClothesController implements ClothesApi {
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) UUID idAfter,
         @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
-        @RequestParam(required = false) String typeEqual
+        @RequestParam(required = false) String typeEqual,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         log.info("[Controller] 의상 목록 조회 요청 - ownerId: {}", ownerId);
 
         PageResponse<ClothesDto> response =
-            clothesService.getWithCursor(ownerId, cursor, idAfter, limit, typeEqual);
+            clothesService.getWithCursor(ownerId, cursor, idAfter, limit, typeEqual,
+                TotalCountMode.from(countMode, TotalCountMode.EXACT));
 
         log.info("[Controller] 의상 목록 조회 완료 - ownerId: {}", ownerId);
 
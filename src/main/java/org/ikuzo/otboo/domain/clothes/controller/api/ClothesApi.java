@@ -17,6 +17,7 @@ import org.ikuzo.otboo.domain.clothes.dto.request.ClothesCreateRequest;
 import org.ikuzo.otboo.domain.clothes.dto.request.ClothesUpdateRequest;
 import org.ikuzo.otboo.global.dto.PageResponse;
 import org.ikuzo.otboo.global.exception.ErrorResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -51,7 +52,9 @@ public interface ClothesApi {
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) UUID idAfter,
         @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
-        @RequestParam(required = false) String typeEqual
+        @RequestParam(required = false) String typeEqual,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     );
 
     @Operation(summary = "의상 등록")
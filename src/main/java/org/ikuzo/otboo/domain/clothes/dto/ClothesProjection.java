@@ -0,0 +1,25 @@
+package org.ikuzo.otboo.domain.clothes.dto;
+
+import java.util.List;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+
+/**
+ * 추천/OOTD 조회용 읽기 전용 의상 프로젝션 (영속성 컨텍스트를 거치지 않음)
+ */
+public record ClothesProjection(
+    UUID id,
+    String name,
+    ClothesType type,
+    String imageUrl,
+    List<Attribute> attributes
+) {
+
+    public record Attribute(
+        UUID definitionId,
+        String definitionName,
+        String optionValue
+    ) {
+
+    }
+}
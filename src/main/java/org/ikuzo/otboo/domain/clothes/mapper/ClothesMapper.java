@@ -1,9 +1,12 @@
 package org.ikuzo.otboo.domain.clothes.mapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import org.ikuzo.otboo.domain.clothes.dto.ClothesAttributeWithDefDto;
 import org.ikuzo.otboo.domain.clothes.dto.ClothesDto;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
 import org.ikuzo.otboo.domain.clothes.entity.AttributeOption;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
 import org.ikuzo.otboo.domain.clothes.entity.ClothesAttribute;
@@ -46,6 +49,30 @@ public interface ClothesMapper {
             .build();
     }
 
+    /**
+     * 프로젝션 기반 변환 (selectableByDefinitionId: 속성 정의별 선택 가능 값)
+     */
+    default OotdDto toOotdDto(ClothesProjection clothes,
+                              Map<UUID, List<String>> selectableByDefinitionId) {
+        if (clothes == null) {
+            return null;
+        }
+        return OotdDto.builder()
+            .clothesId(clothes.id())
+            .name(clothes.name())
+            .imageUrl(clothes.imageUrl())
+            .type(clothes.type())
+            .attributes(clothes.attributes().stream()
+                .map(attribute -> new ClothesAttributeWithDefDto(
+                    attribute.definitionId(),
+                    attribute.definitionName(),
+                    selectableByDefinitionId.getOrDefault(attribute.definitionId(), List.of()),
+                    attribute.optionValue()
+                ))
+                .toList())
+            .build();
+    }
+
     @Named("mapAttributes")
     default List<ClothesAttributeWithDefDto> mapAttributes(List<ClothesAttribute> attributes) {
         if (attributes == null || attributes.isEmpty()) {
@@ -1,66 +1,141 @@
 package org.ikuzo.otboo.domain.clothes.parser;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.Connection;
+import org.ikuzo.otboo.global.http.OutboundHttpClients;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+/**
+ * 상품 페이지 HTML 조회/파싱
+ * - 조회는 공통 outbound 커넥션 풀(product-page) 사용, 응답 크기는 upstream 설정의 max-in-memory-size 로 제한
+ * - 리다이렉트는 직접 따라가며 최종 URL 을 기준 URL 로 사용
+ */
 @Component
-@RequiredArgsConstructor
 public class JsoupHtmlParser implements HtmlParserResolver {
 
-    private static final int TIMEOUT_MS = 7000;
+    private static final Duration TIMEOUT = Duration.ofMillis(7000);
+    private static final int MAX_REDIRECTS = 5;
     private static final String UA =
         "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
             + "(KHTML, like Gecko) Chrome/125.0.0.0 Safari/537.36";
 
+    private final WebClient webClient;
+
+    public JsoupHtmlParser(OutboundHttpClients outboundHttpClients) {
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.PRODUCT_PAGE)
+            .defaultHeader(HttpHeaders.USER_AGENT, UA)
+            .build();
+    }
+
+    private record Fetched(URI url, int status, URI location, String contentType, byte[] body) {
+
+    }
+
     @Override
     public Parsed parse(URI uri) {
-        try {
-            Connection.Response res = Jsoup.connect(uri.toString())
-                .userAgent(UA)
-                .ignoreContentType(true)
-                .followRedirects(true)
-                .timeout(TIMEOUT_MS)
-                .method(Connection.Method.GET)
-                .execute();
-
-            String finalUrl = Optional.of(res.url()).map(Object::toString)
-                .orElse(uri.toString());
-            String contentType = Optional.ofNullable(res.contentType()).orElse("text/html");
-            String ct = contentType.toLowerCase();
-            if (!(ct.startsWith("text/html") || ct.contains("xhtml"))) {
-                throw new IllegalStateException(
-                    "Unsupported content-type for parsing: " + contentType);
-            }
+        Fetched res = fetch(uri);
+
+        String finalUrl = res.url().toString();
+        String contentType = Optional.ofNullable(res.contentType()).orElse("text/html");
+        String ct = contentType.toLowerCase();
+        if (!(ct.startsWith("text/html") || ct.contains("xhtml"))) {
+            throw new IllegalStateException(
+                "Unsupported content-type for parsing: " + contentType);
+        }
 
-            Document doc = res.parse();
-            doc.select("script, style, noscript").remove();
+        Document doc;
+        try {
+            // charset 이 null 이면 Jsoup 이 BOM/meta 태그로 판별
+            doc = Jsoup.parse(new ByteArrayInputStream(res.body()), charsetOf(contentType), finalUrl);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch/parse HTML: " + uri, e);
+        }
+        doc.select("script, style, noscript").remove();
 
-            String title = Optional.ofNullable(doc.selectFirst("meta[property=og:title]"))
-                .map(e -> e.attr("content")).filter(s -> !s.isBlank())
-                .orElse(doc.title());
+        String title = Optional.ofNullable(doc.selectFirst("meta[property=og:title]"))
+            .map(e -> e.attr("content")).filter(s -> !s.isBlank())
+            .orElse(doc.title());
 
-            String ogImage = Optional.ofNullable(doc.selectFirst("meta[property=og:image]"))
-                .map(e -> e.attr("content")).filter(s -> !s.isBlank())
-                .orElse(null);
+        String ogImage = Optional.ofNullable(doc.selectFirst("meta[property=og:image]"))
+            .map(e -> e.attr("content")).filter(s -> !s.isBlank())
+            .orElse(null);
 
-            String strippedText = doc.text();
+        String strippedText = doc.text();
 
-            return new Parsed(
-                doc.outerHtml(),
-                finalUrl, title,
-                ogImage,
-                contentType,
-                strippedText
-            );
+        return new Parsed(
+            doc.outerHtml(),
+            finalUrl, title,
+            ogImage,
+            contentType,
+            strippedText
+        );
+    }
 
-        } catch (IOException e) {
+    private Fetched fetch(URI uri) {
+        URI current = uri;
+        try {
+            for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+                Fetched res = get(current).block(TIMEOUT);
+                if (res == null) {
+                    throw new IllegalStateException("Empty response: " + current);
+                }
+                if (res.status() / 100 == 3) {
+                    // Location 없는 리다이렉트(304 포함)는 본문이 없으므로 파싱하지 않고 실패 처리
+                    if (res.location() == null) {
+                        throw new IllegalStateException(
+                            "HTTP " + res.status() + " without Location for " + current);
+                    }
+                    current = current.resolve(res.location());
+                    continue;
+                }
+                if (res.status() >= 400) {
+                    throw new IllegalStateException("HTTP " + res.status() + " for " + current);
+                }
+                return res;
+            }
+        } catch (Exception e) {
             throw new RuntimeException("Failed to fetch/parse HTML: " + uri, e);
         }
+        throw new RuntimeException("Failed to fetch/parse HTML: " + uri
+            + " (too many redirects)");
+    }
+
+    private Mono<Fetched> get(URI url) {
+        return webClient.get()
+            .uri(url)
+            .accept(MediaType.TEXT_HTML, MediaType.APPLICATION_XHTML_XML, MediaType.ALL)
+            .exchangeToMono(response -> {
+                HttpHeaders headers = response.headers().asHttpHeaders();
+                String contentType = Optional.ofNullable(headers.getContentType())
+                    .map(MediaType::toString).orElse(null);
+                int status = response.statusCode().value();
+                if (status / 100 == 3) {
+                    // 리다이렉트 본문은 버리고 커넥션 반환
+                    return response.releaseBody()
+                        .thenReturn(new Fetched(url, status, headers.getLocation(), contentType,
+                            new byte[0]));
+                }
+                return response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> new Fetched(url, status, null, contentType, body));
+            });
+    }
+
+    private static String charsetOf(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mediaType.getCharset() != null ? mediaType.getCharset().name() : null;
+        } catch (Exception e) {
+            return null;
+        }
     }
 }
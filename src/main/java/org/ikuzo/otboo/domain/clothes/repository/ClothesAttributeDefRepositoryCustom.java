@@ -1,6 +1,9 @@
 package org.ikuzo.otboo.domain.clothes.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.ikuzo.otboo.domain.clothes.entity.ClothesAttributeDef;
 import org.ikuzo.otboo.domain.clothes.enums.AttributeDefSortBy;
 import org.ikuzo.otboo.domain.clothes.enums.AttributeDefSortDirection;
@@ -12,4 +15,9 @@ public interface ClothesAttributeDefRepositoryCustom {
         AttributeDefSortDirection direction,
         String keywordLike
     );
+
+    /**
+     * 속성 정의별 선택 가능 값 목록 (definitionId -> values)
+     */
+    Map<UUID, List<String>> findSelectableValuesByDefinitionIds(Collection<UUID> definitionIds);
 }
@@ -1,8 +1,11 @@
 package org.ikuzo.otboo.domain.clothes.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
 
 public interface ClothesRepositoryCustom {
 
@@ -16,4 +19,13 @@ public interface ClothesRepositoryCustom {
 
     Long countClothes(UUID ownerId, String typeEqual);
 
+    /**
+     * 사용자 옷장 전체를 속성(정의명, 값)과 함께 한 번의 쿼리로 조회
+     *
+     * @param types null 또는 비어 있으면 전체 타입
+     */
+    List<ClothesProjection> findProjectionsByOwnerId(UUID ownerId, Collection<ClothesType> types);
+
+    List<ClothesProjection> findProjectionsByIds(Collection<UUID> ids);
+
 }
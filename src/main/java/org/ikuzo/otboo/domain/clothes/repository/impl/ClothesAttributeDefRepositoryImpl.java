@@ -1,12 +1,19 @@
 package org.ikuzo.otboo.domain.clothes.repository.impl;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.clothes.entity.ClothesAttributeDef;
+import org.ikuzo.otboo.domain.clothes.entity.QAttributeOption;
 import org.ikuzo.otboo.domain.clothes.entity.QClothesAttributeDef;
 import org.ikuzo.otboo.domain.clothes.enums.AttributeDefSortBy;
 import org.ikuzo.otboo.domain.clothes.enums.AttributeDefSortDirection;
@@ -37,6 +44,30 @@ public class ClothesAttributeDefRepositoryImpl implements ClothesAttributeDefRep
             .fetch();
     }
 
+    @Override
+    public Map<UUID, List<String>> findSelectableValuesByDefinitionIds(
+        Collection<UUID> definitionIds
+    ) {
+        if (definitionIds == null || definitionIds.isEmpty()) {
+            return Map.of();
+        }
+        QAttributeOption o = QAttributeOption.attributeOption;
+
+        List<Tuple> rows = queryFactory
+            .select(o.definition.id, o.value)
+            .from(o)
+            .where(o.definition.id.in(definitionIds))
+            .orderBy(o.createdAt.asc())
+            .fetch();
+
+        Map<UUID, List<String>> result = new HashMap<>();
+        for (Tuple row : rows) {
+            result.computeIfAbsent(row.get(o.definition.id), k -> new ArrayList<>())
+                .add(row.get(o.value));
+        }
+        return result;
+    }
+
     private BooleanExpression likeKeyword(
         QClothesAttributeDef d, String keywordLike
     ) {
@@ -1,14 +1,23 @@
 package org.ikuzo.otboo.domain.clothes.repository.impl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
+import org.ikuzo.otboo.domain.clothes.entity.QClothesAttribute;
+import org.ikuzo.otboo.domain.clothes.entity.QClothesAttributeDef;
 import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
 import org.ikuzo.otboo.domain.clothes.entity.QClothes;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesRepositoryCustom;
@@ -59,6 +68,61 @@ public class ClothesRepositoryImpl implements ClothesRepositoryCustom {
         return count != null ? count : 0L;
     }
 
+    @Override
+    public List<ClothesProjection> findProjectionsByOwnerId(UUID ownerId,
+                                                            Collection<ClothesType> types) {
+        QClothes c = QClothes.clothes;
+        return fetchProjections(
+            c.owner.id.eq(ownerId),
+            (types == null || types.isEmpty()) ? null : c.type.in(types)
+        );
+    }
+
+    @Override
+    public List<ClothesProjection> findProjectionsByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return fetchProjections(QClothes.clothes.id.in(ids));
+    }
+
+    /**
+     * 의상 + 속성 + 속성 정의를 스칼라 컬럼으로 한 번에 조회 후 의상 단위로 묶음
+     */
+    private List<ClothesProjection> fetchProjections(Predicate... where) {
+        QClothes c = QClothes.clothes;
+        QClothesAttribute a = QClothesAttribute.clothesAttribute;
+        QClothesAttributeDef d = QClothesAttributeDef.clothesAttributeDef;
+
+        List<Tuple> rows = queryFactory
+            .select(c.id, c.name, c.type, c.imageUrl, d.id, d.name, a.optionValue)
+            .from(c)
+            .leftJoin(c.attributes, a)
+            .leftJoin(a.definition, d)
+            .where(where)
+            .orderBy(c.createdAt.desc(), c.id.desc(), a.createdAt.asc())
+            .fetch();
+
+        Map<UUID, ClothesProjection> byId = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            UUID clothesId = row.get(c.id);
+            ClothesProjection projection = byId.computeIfAbsent(clothesId,
+                id -> new ClothesProjection(id, row.get(c.name), row.get(c.type),
+                    row.get(c.imageUrl), new ArrayList<>()));
+
+            UUID definitionId = row.get(d.id);
+            if (definitionId != null) {
+                projection.attributes().add(new ClothesProjection.Attribute(
+                    definitionId, row.get(d.name), row.get(a.optionValue)));
+            }
+        }
+
+        return byId.values().stream()
+            .map(p -> new ClothesProjection(p.id(), p.name(), p.type(), p.imageUrl(),
+                List.copyOf(p.attributes())))
+            .toList();
+    }
+
     private BooleanExpression eqType(QClothes clothes, String typeEqual) {
         if (typeEqual == null || typeEqual.isBlank()) {
             return null;
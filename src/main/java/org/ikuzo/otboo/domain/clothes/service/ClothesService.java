@@ -5,6 +5,7 @@ import org.ikuzo.otboo.domain.clothes.dto.ClothesDto;
 import org.ikuzo.otboo.domain.clothes.dto.request.ClothesCreateRequest;
 import org.ikuzo.otboo.domain.clothes.dto.request.ClothesUpdateRequest;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface ClothesService {
@@ -16,7 +17,7 @@ public interface ClothesService {
     void delete(UUID clothesId);
 
     PageResponse<ClothesDto> getWithCursor(
-        UUID ownerId, String cursor, UUID idAfter, int limit, String typeEqual
+        UUID ownerId, String cursor, UUID idAfter, int limit, String typeEqual, TotalCountMode countMode
     );
 
 }
@@ -22,6 +22,9 @@ import org.ikuzo.otboo.domain.clothes.exception.MissingRequiredFieldException;
 import org.ikuzo.otboo.domain.clothes.mapper.ClothesAttributeDefMapper;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
 import org.ikuzo.otboo.domain.clothes.service.ClothesAttributeDefService;
+import org.ikuzo.otboo.domain.recommendation.service.RecommendationService;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
+import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.event.message.ClothesAttributeDefCreatedEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -37,6 +40,9 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
     private final ClothesAttributeDefRepository clothesAttributeDefRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ClothesAttributeDefMapper mapper;
+    private final UserRepository userRepository;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
+    private final RecommendationService recommendationService;
 
     @Transactional(readOnly = true)
     @Override
@@ -116,7 +122,10 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
             throw new DuplicatedAttributeNameException(newName);
         }
 
+        userRepository.incrementWardrobeVersionByDefinitionId(definitionId);
         def.update(newName, selectableValues);
+        wardrobeIndexProvider.evictAllAfterCommit();
+        recommendationService.invalidateAllCached();
         try {
             ClothesAttributeDef saved = clothesAttributeDefRepository.save(def);
             log.info("[Service] 속성 수정 완료 - id: {}, name: {}", saved.getId(), saved.getName());
@@ -136,7 +145,10 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
         ClothesAttributeDef def = clothesAttributeDefRepository.findById(definitionId)
             .orElseThrow(() -> new AttributeDefinitionNotFoundException(definitionId));
 
+        userRepository.incrementWardrobeVersionByDefinitionId(definitionId);
         clothesAttributeDefRepository.delete(def);
+        wardrobeIndexProvider.evictAllAfterCommit();
+        recommendationService.invalidateAllCached();
 
         log.info("[Service] 속성 삭제 완료 - definitionId: {}", definitionId);
     }
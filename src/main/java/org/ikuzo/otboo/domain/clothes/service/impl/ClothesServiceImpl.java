@@ -23,10 +23,14 @@ import org.ikuzo.otboo.domain.clothes.mapper.ClothesMapper;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
 import org.ikuzo.otboo.domain.clothes.service.ClothesService;
+import org.ikuzo.otboo.domain.recommendation.service.RecommendationService;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.util.ImageSwapHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,6 +46,9 @@ public class ClothesServiceImpl implements ClothesService {
     private final ClothesAttributeDefRepository clothesAttributeDefRepository;
     private final ClothesMapper clothesMapper;
     private final ImageSwapHelper imageSwapHelper;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
+    private final RecommendationService recommendationService;
+    private final TotalCountResolver totalCountResolver;
 
     @Transactional(readOnly = true)
     @Override
@@ -50,7 +57,8 @@ public class ClothesServiceImpl implements ClothesService {
         String cursor,
         UUID idAfter,
         int limit,
-        String typeEqual
+        String typeEqual,
+        TotalCountMode countMode
     ) {
         log.info("[Service] 의상 목록 조회 시작 - ownerId: {}", ownerId);
 
@@ -69,7 +77,9 @@ public class ClothesServiceImpl implements ClothesService {
             nextIdAfter = last.getId();
         }
 
-        Long totalCount = clothesRepository.countClothes(ownerId, typeEqual);
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> clothesRepository.countClothes(ownerId, typeEqual),
+            "clothes", ownerId, typeEqual);
 
         List<ClothesDto> data = convertClothesToDto(content);
 
@@ -110,6 +120,7 @@ public class ClothesServiceImpl implements ClothesService {
         attachAttributes(clothes, request.attributes());
 
         Clothes saved = clothesRepository.save(clothes);
+        onWardrobeChanged(owner.getId());
 
         log.info("[Service] 의상 등록 완료 - ownerId: {}, name: {}",
             saved.getOwner().getId(), saved.getName());
@@ -142,6 +153,7 @@ public class ClothesServiceImpl implements ClothesService {
         }
 
         Clothes savedClothes = clothesRepository.save(clothes);
+        onWardrobeChanged(savedClothes.getOwner().getId());
 
         log.info("[Service] 의상 수정 완료 - clothesId: {}, name: {}",
             savedClothes.getId(), savedClothes.getName());
@@ -160,6 +172,7 @@ public class ClothesServiceImpl implements ClothesService {
 
         String oldImageUrl = clothes.getImageUrl();
 
+        onWardrobeChanged(clothes.getOwner().getId());
         clothesRepository.delete(clothes);
 
         imageSwapHelper.deleteAfterCommit(oldImageUrl, "의상 삭제");
@@ -167,6 +180,12 @@ public class ClothesServiceImpl implements ClothesService {
         log.info("[Service] 의상 삭제 완료 - clothesId: {}", clothesId);
     }
 
+    private void onWardrobeChanged(UUID ownerId) {
+        userRepository.incrementWardrobeVersion(ownerId);
+        wardrobeIndexProvider.evictAfterCommit(ownerId);
+        recommendationService.invalidateStored(ownerId);
+    }
+
     private void validateClothesCreateRequest(ClothesCreateRequest request) {
         if (request.ownerId() == null) {
             throw new MissingRequiredFieldException("ownerId is null");
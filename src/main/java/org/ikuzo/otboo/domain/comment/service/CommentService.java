@@ -4,6 +4,7 @@ import java.util.UUID;
 import org.ikuzo.otboo.domain.comment.dto.CommentCreateRequest;
 import org.ikuzo.otboo.domain.comment.dto.CommentDto;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 
 public interface CommentService {
     CommentDto create(CommentCreateRequest request);
@@ -11,5 +12,6 @@ public interface CommentService {
     PageResponse<CommentDto> getComments(UUID feedId,
                                          String cursor,
                                          UUID idAfter,
-                                         Integer limit);
+                                         Integer limit,
+                                         TotalCountMode countMode);
 }
@@ -21,6 +21,8 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.security.OtbooUserDetails;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.Authentication;
@@ -38,6 +40,7 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final NotificationService notificationService;
+    private final TotalCountResolver totalCountResolver;
 
     @Transactional
     @Override
@@ -78,7 +81,8 @@ public class CommentServiceImpl implements CommentService {
     public PageResponse<CommentDto> getComments(UUID feedId,
                                                 String cursor,
                                                 UUID idAfter,
-                                                Integer limit) {
+                                                Integer limit,
+                                                TotalCountMode countMode) {
 
         log.info("[CommentService] 피드 댓글 조회 시작 feedId={}", feedId);
 
@@ -101,7 +105,9 @@ public class CommentServiceImpl implements CommentService {
             nextIdAfter = last.getId();
         }
 
-        long totalCount = commentRepository.countByFeed_Id(feedId);
+        // 댓글 수는 피드의 comment_count 카운터(댓글 생성 시 증가)로 대체
+        Long totalCount = totalCountResolver.resolveCounter(countMode,
+            () -> feedRepository.findCommentCountById(feedId).map(Integer::longValue).orElse(0L));
         List<CommentDto> data = content.stream().map(commentMapper::toDto).toList();
 
         log.info("[CommentService] 피드 댓글 조회 완료 feedId={}", feedId);
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.ikuzo.otboo.domain.directMessage.dto.DirectMessageDto;
 import org.ikuzo.otboo.domain.directMessage.service.DirectMessageService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,9 +28,12 @@ public class DirectMessageController {
         @RequestParam UUID userId,
         @RequestParam(required = false) Instant cursor,
         @RequestParam(required = false) UUID idAfter,
-        @RequestParam int limit
+        @RequestParam int limit,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
         ) {
-        PageResponse<DirectMessageDto> response = directMessageService.getDirectMessages(userId, cursor, idAfter, limit);
+        PageResponse<DirectMessageDto> response = directMessageService.getDirectMessages(userId, cursor, idAfter, limit,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 }
@@ -6,9 +6,11 @@ import org.ikuzo.otboo.global.dto.PageResponse;
 
 import java.time.Instant;
 import java.util.UUID;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 
 public interface DirectMessageService {
     DirectMessageDto sendMessage(DirectMessageCreateRequest directMessageCreateRequest);
 
-    PageResponse<DirectMessageDto> getDirectMessages(UUID userId, Instant cursor, UUID idAfter, int limit);
+    PageResponse<DirectMessageDto> getDirectMessages(UUID userId, Instant cursor, UUID idAfter, int limit,
+                                                     TotalCountMode countMode);
 }
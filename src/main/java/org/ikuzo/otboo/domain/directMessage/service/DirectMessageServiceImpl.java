@@ -13,6 +13,8 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.event.message.MessageCreatedEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
@@ -34,6 +36,7 @@ public class DirectMessageServiceImpl implements DirectMessageService {
     private final DirectMessageMapper directMessageMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationService notificationService;
+    private final TotalCountResolver totalCountResolver;
 
     @Override
     @Transactional
@@ -87,7 +90,8 @@ public class DirectMessageServiceImpl implements DirectMessageService {
      */
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<DirectMessageDto> getDirectMessages(UUID userId, Instant cursor, UUID idAfter, int limit) {
+    public PageResponse<DirectMessageDto> getDirectMessages(UUID userId, Instant cursor, UUID idAfter, int limit,
+                                                            TotalCountMode countMode) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
         User currentUser = userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
@@ -105,7 +109,9 @@ public class DirectMessageServiceImpl implements DirectMessageService {
         }
         String sortBy = "createdAt";
         String sortDirection = "DESCENDING";
-        long totalCount = directMessageRepository.countDirectMessages(currentUser.getId(), userId);
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> directMessageRepository.countDirectMessages(currentUser.getId(), userId),
+            "directMessages", currentUser.getId(), userId);
 
         List<DirectMessageDto> content = list.stream()
             .map(directMessageMapper::toDto)
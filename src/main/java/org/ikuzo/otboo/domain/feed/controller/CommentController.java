@@ -8,6 +8,8 @@ import org.ikuzo.otboo.domain.comment.dto.CommentCreateRequest;
 import org.ikuzo.otboo.domain.comment.dto.CommentDto;
 import org.ikuzo.otboo.domain.comment.service.CommentService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -49,11 +51,14 @@ public class CommentController {
         @PathVariable UUID feedId,
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) UUID idAfter,
-        @RequestParam(required = false, defaultValue = "10") Integer limit
+        @RequestParam(required = false, defaultValue = "10") Integer limit,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         log.info("[CommentController] 피드 댓글 조회 시작 feedId={}", feedId);
 
-        PageResponse<CommentDto> response = commentService.getComments(feedId, cursor, idAfter, limit);
+        PageResponse<CommentDto> response = commentService.getComments(feedId, cursor, idAfter, limit,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
 
         log.info("[CommentController] 피드 댓글 조회 완료 feedId={}", feedId);
 
@@ -9,6 +9,8 @@ import org.ikuzo.otboo.domain.feed.dto.FeedDto;
 import org.ikuzo.otboo.domain.feed.dto.FeedUpdateRequest;
 import org.ikuzo.otboo.domain.feed.service.FeedService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,13 +44,28 @@ public class FeedController {
         @RequestParam(required = false) String keywordLike,
         @RequestParam(required = false) String skyStatusEqual,
         @RequestParam(required = false) String precipitationTypeEqual,
-        @RequestParam(required = false) UUID authorIdEqual
+        @RequestParam(required = false) UUID authorIdEqual,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         PageResponse<FeedDto> response = feedService.getFeeds(cursor, idAfter, limit, sortBy, sortDirection,
-            keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual);
+            keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/home")
+    public ResponseEntity<PageResponse<FeedDto>> getHomeFeeds(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) UUID idAfter,
+        @RequestParam(required = false, defaultValue = "10") Integer limit,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
+    ) {
+        return ResponseEntity.ok(feedService.getHomeFeeds(cursor, idAfter, limit,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT)));
+    }
+
     @PatchMapping("/{feedId}")
     public ResponseEntity<FeedDto> update(
         @NotNull @PathVariable UUID feedId,
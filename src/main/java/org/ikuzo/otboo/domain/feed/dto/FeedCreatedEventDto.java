@@ -1,11 +1,13 @@
 package org.ikuzo.otboo.domain.feed.dto;
 
+import java.time.Instant;
 import java.util.UUID;
 import org.ikuzo.otboo.domain.user.dto.UserSummary;
 
 public record FeedCreatedEventDto(
     UUID feedId,
     String content,
-    UserSummary author
+    UserSummary author,
+    Instant createdAt
 ) {
 }
\ No newline at end of file
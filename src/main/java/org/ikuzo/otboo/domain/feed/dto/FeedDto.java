@@ -26,4 +26,9 @@ public record FeedDto(
     public FeedDto withLikedByMe(boolean likedByMe) {
         return this.toBuilder().likedByMe(likedByMe).build();
     }
+
+    // 아직 feeds 에 반영되지 않은 좋아요 증감량 합산
+    public FeedDto withPendingLikes(long delta) {
+        return delta == 0L ? this : this.toBuilder().likeCount(Math.max(0L, likeCount + delta)).build();
+    }
 }
@@ -2,8 +2,11 @@ package org.ikuzo.otboo.domain.feed.entity;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +25,12 @@ import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.ikuzo.otboo.global.base.BaseUpdatableEntity;
 
 @Entity
-@Table(name = "feeds")
+@Table(
+    name = "feeds",
+    indexes = {
+        // 홈 타임라인 pull 병합/재구성 (작성자별 최신순 키셋)
+        @Index(name = "idx_feeds_author_created", columnList = "author_id, created_at DESC, id DESC")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,7 +38,9 @@ import org.ikuzo.otboo.global.base.BaseUpdatableEntity;
 public class Feed extends BaseUpdatableEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "weather_id", nullable = false)
+    // weathers 는 forecast_at 파티션 테이블 -> (id) 단독 FK 미생성
+    @JoinColumn(name = "weather_id", nullable = false,
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Weather weather;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -44,8 +54,9 @@ public class Feed extends BaseUpdatableEntity {
     @Column(name = "comment_count", nullable = false)
     private int commentCount = 0;
 
+    // FeedLikeCounter 가 JDBC 로만 갱신 -> 더티 체킹 UPDATE 에서 제외 (조회 시점 값으로 덮어쓰지 않도록)
     @Builder.Default
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private long likeCount = 0L;
 
     @Builder.Default
@@ -73,16 +84,6 @@ public class Feed extends BaseUpdatableEntity {
         }
     }
 
-    public void like() {
-        this.likeCount++;
-    }
-
-    public void unlike() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     public void attachAuthor(User author) {
         this.author = author;
     }
@@ -1,9 +1,12 @@
 package org.ikuzo.otboo.domain.feed.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.ikuzo.otboo.domain.feed.entity.Feed;
 import org.ikuzo.otboo.domain.feed.repository.dto.FeedSortKey;
+import org.ikuzo.otboo.domain.feed.repository.dto.FeedTimelineRow;
 
 public interface FeedCustomRepository {
     List<Feed> findFeedsWithCursor(String cursor,
@@ -20,4 +23,16 @@ public interface FeedCustomRepository {
                     String skyStatusEqual,
                     String precipitationTypeEqual,
                     UUID authorIdEqual);
+
+    // 홈 타임라인 하이드레이션: 본인 또는 팔로우 중인 작성자의 피드만 (삭제/언팔로우 항목 제외)
+    List<Feed> findVisibleFeedsByIdIn(UUID viewerId, Collection<UUID> feedIds);
+
+    // 작성자 목록의 피드를 (createdAt, id) 최신순 키셋으로 조회 (pull 작성자 병합, 팔로우 백필)
+    List<FeedTimelineRow> findTimelineRowsByAuthors(Collection<UUID> authorIds,
+                                                    Instant cursor,
+                                                    UUID idAfter,
+                                                    int limit);
+
+    // 비어 있는 타임라인 재구성용: 본인 + 팔로우 중인 작성자의 최신 피드
+    List<FeedTimelineRow> findTimelineSeed(UUID userId, int limit);
 }
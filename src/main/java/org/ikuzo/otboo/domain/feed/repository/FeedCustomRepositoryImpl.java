@@ -2,13 +2,15 @@ package org.ikuzo.otboo.domain.feed.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,8 +22,11 @@ import org.ikuzo.otboo.domain.feed.entity.Feed;
 import org.ikuzo.otboo.domain.feed.entity.QFeed;
 import org.ikuzo.otboo.domain.feed.entity.QFeedClothes;
 import org.ikuzo.otboo.domain.feed.repository.dto.FeedSortKey;
+import org.ikuzo.otboo.domain.feed.repository.dto.FeedTimelineRow;
+import org.ikuzo.otboo.domain.follow.entity.QFollow;
 import org.ikuzo.otboo.domain.user.entity.QUser;
 import org.ikuzo.otboo.domain.weather.entity.QWeather;
+import org.ikuzo.otboo.global.util.NgramSearchSupport;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
@@ -30,6 +35,7 @@ import org.springframework.stereotype.Repository;
 public class FeedCustomRepositoryImpl implements FeedCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final NgramSearchSupport ngramSearchSupport;
 
     @Override
     public List<Feed> findFeedsWithCursor(String cursor,
@@ -119,6 +125,75 @@ public class FeedCustomRepositoryImpl implements FeedCustomRepository {
         return total != null ? total : 0L;
     }
 
+    @Override
+    public List<Feed> findVisibleFeedsByIdIn(UUID viewerId, Collection<UUID> feedIds) {
+        if (feedIds.isEmpty()) {
+            return List.of();
+        }
+        QFeed feed = QFeed.feed;
+        QWeather weather = QWeather.weather;
+        QUser author = QUser.user;
+        QFeedClothes feedClothes = QFeedClothes.feedClothes;
+        QClothes clothes = QClothes.clothes;
+        QFollow follow = QFollow.follow;
+
+        return queryFactory.selectDistinct(feed)
+            .from(feed)
+            .leftJoin(feed.weather, weather).fetchJoin()
+            .join(feed.author, author).fetchJoin()
+            .leftJoin(feed.feedClothes, feedClothes).fetchJoin()
+            .leftJoin(feedClothes.clothes, clothes).fetchJoin()
+            .where(
+                feed.id.in(feedIds),
+                author.id.eq(viewerId).or(JPAExpressions.selectOne()
+                    .from(follow)
+                    .where(follow.follower.id.eq(viewerId), follow.following.id.eq(author.id))
+                    .exists())
+            )
+            .fetch();
+    }
+
+    @Override
+    public List<FeedTimelineRow> findTimelineRowsByAuthors(Collection<UUID> authorIds,
+                                                           Instant cursor,
+                                                           UUID idAfter,
+                                                           int limit) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        QFeed feed = QFeed.feed;
+
+        BooleanBuilder filter = new BooleanBuilder(feed.author.id.in(authorIds));
+        BooleanExpression cursorPredicate = buildCursorPredicate(FeedSortKey.CREATED_AT, false,
+            cursor != null ? cursor.toString() : null, idAfter, feed);
+        if (cursorPredicate != null) {
+            filter.and(cursorPredicate);
+        }
+
+        return queryFactory.select(Projections.constructor(FeedTimelineRow.class, feed.id, feed.createdAt))
+            .from(feed)
+            .where(filter)
+            .orderBy(feed.createdAt.desc(), feed.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FeedTimelineRow> findTimelineSeed(UUID userId, int limit) {
+        QFeed feed = QFeed.feed;
+        QFollow follow = QFollow.follow;
+
+        return queryFactory.select(Projections.constructor(FeedTimelineRow.class, feed.id, feed.createdAt))
+            .from(feed)
+            .where(feed.author.id.eq(userId).or(feed.author.id.in(
+                JPAExpressions.select(follow.following.id)
+                    .from(follow)
+                    .where(follow.follower.id.eq(userId)))))
+            .orderBy(feed.createdAt.desc(), feed.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
     private BooleanBuilder buildBaseFilter(String keywordLike,
                                            String skyStatusEqual,
                                            String precipitationTypeEqual,
@@ -129,13 +204,7 @@ public class FeedCustomRepositoryImpl implements FeedCustomRepository {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (keywordLike != null && !keywordLike.isBlank()) {
-            builder.and(
-                Expressions.booleanTemplate(
-                    "{0} ILIKE {1}",
-                    feed.content,
-                    "%" + keywordLike.trim() + "%"
-                )
-            );
+            builder.and(ngramSearchSupport.containsIgnoreCase(feed.content, keywordLike));
         }
 
         if (skyStatusEqual != null && !skyStatusEqual.isBlank()) {
@@ -1,10 +1,16 @@
 package org.ikuzo.otboo.domain.feed.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.ikuzo.otboo.domain.feed.entity.Feed;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedCustomRepository {
+
+    @Query("select f.commentCount from Feed f where f.id = :feedId")
+    Optional<Integer> findCommentCountById(@Param("feedId") UUID feedId);
 }
@@ -0,0 +1,7 @@
+package org.ikuzo.otboo.domain.feed.repository.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FeedTimelineRow(UUID id, Instant createdAt) {
+}
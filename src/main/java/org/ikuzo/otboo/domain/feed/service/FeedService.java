@@ -5,6 +5,7 @@ import org.ikuzo.otboo.domain.feed.dto.FeedCreateRequest;
 import org.ikuzo.otboo.domain.feed.dto.FeedDto;
 import org.ikuzo.otboo.domain.feed.dto.FeedUpdateRequest;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 
 public interface FeedService {
     FeedDto createFeed(FeedCreateRequest request);
@@ -17,7 +18,10 @@ public interface FeedService {
                                    String keywordLike,
                                    String skyStatusEqual,
                                    String precipitationTypeEqual,
-                                   UUID authorIdEqual);
+                                   UUID authorIdEqual,
+                                   TotalCountMode countMode);
+
+    PageResponse<FeedDto> getHomeFeeds(String cursor, UUID idAfter, Integer limit, TotalCountMode countMode);
 
     FeedDto updateFeed(UUID feedId, FeedUpdateRequest request);
 
@@ -24,7 +24,10 @@ import org.ikuzo.otboo.domain.feed.exception.FeedNotFoundException;
 import org.ikuzo.otboo.domain.feed.mapper.FeedMapper;
 import org.ikuzo.otboo.domain.feed.repository.FeedRepository;
 import org.ikuzo.otboo.domain.feed.repository.dto.FeedSortKey;
+import org.ikuzo.otboo.domain.feed.timeline.HomeTimelinePage;
+import org.ikuzo.otboo.domain.feed.timeline.HomeTimelineService;
 import org.ikuzo.otboo.domain.feedLike.repository.FeedLikeRepository;
+import org.ikuzo.otboo.domain.feedLike.service.FeedLikeCounter;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
@@ -33,6 +36,8 @@ import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.ikuzo.otboo.domain.weather.exception.WeatherNotFoundException;
 import org.ikuzo.otboo.domain.weather.repository.WeatherRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.event.message.FeedCreatedEvent;
 import org.ikuzo.otboo.global.security.OtbooUserDetails;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -53,7 +58,10 @@ public class FeedServiceImpl implements FeedService {
     private final ClothesRepository clothesRepository;
     private final FeedMapper feedMapper;
     private final FeedLikeRepository feedLikeRepository;
+    private final FeedLikeCounter feedLikeCounter;
     private final ApplicationEventPublisher eventPublisher;
+    private final HomeTimelineService homeTimelineService;
+    private final TotalCountResolver totalCountResolver;
 
     @Override
     @Transactional
@@ -111,7 +119,8 @@ public class FeedServiceImpl implements FeedService {
         FeedCreatedEventDto eventDto = new FeedCreatedEventDto(
             saved.getId(),
             saved.getContent(),
-            new UserSummary(author.getId(), author.getName(), author.getProfileImageUrl())
+            new UserSummary(author.getId(), author.getName(), author.getProfileImageUrl()),
+            saved.getCreatedAt()
         );
         eventPublisher.publishEvent(new FeedCreatedEvent(eventDto, Instant.now()));
 
@@ -130,7 +139,8 @@ public class FeedServiceImpl implements FeedService {
                                           String keywordLike,
                                           String skyStatusEqual,
                                           String precipitationTypeEqual,
-                                          UUID authorIdEqual) {
+                                          UUID authorIdEqual,
+                                          TotalCountMode countMode) {
 
         log.info("[FeedService] Feed 조회 시작");
 
@@ -185,10 +195,13 @@ public class FeedServiceImpl implements FeedService {
         Set<UUID> finalLikedFeedIds = likedFeedIds;
         boolean finalHasCurrentUser = hasCurrentUser;
 
-        long totalCount = feedRepository.countFeeds(keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual);
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> feedRepository.countFeeds(keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual),
+            "feeds", keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual);
         List<FeedDto> data = content.stream()
             .map(feedMapper::toDto)
             .map(dto -> dto.withLikedByMe(finalHasCurrentUser && finalLikedFeedIds.contains(dto.id())))
+            .map(dto -> dto.withPendingLikes(feedLikeCounter.pending(dto.id())))
             .toList();
 
         log.info("[FeedService] Feed 조회 완료");
@@ -204,6 +217,46 @@ public class FeedServiceImpl implements FeedService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<FeedDto> getHomeFeeds(String cursor, UUID idAfter, Integer limit, TotalCountMode countMode) {
+        UUID currentUserId = currentUserId();
+        log.info("[FeedService] 홈 피드 조회 시작 userId = {}", currentUserId);
+
+        int pageLimit = (limit == null || limit <= 0) ? 10 : Math.min(limit, 50);
+        HomeTimelinePage page = homeTimelineService.readPage(currentUserId, cursor, idAfter, pageLimit);
+
+        Set<UUID> likedFeedIds = Set.of();
+        if (!page.feeds().isEmpty()) {
+            List<UUID> feedIds = page.feeds().stream()
+                .map(Feed::getId)
+                .toList();
+
+            likedFeedIds = feedLikeRepository.findByUser_IdAndFeed_IdIn(currentUserId, feedIds).stream()
+                .map(feedLike -> feedLike.getFeed().getId())
+                .collect(Collectors.toSet());
+        }
+
+        Set<UUID> finalLikedFeedIds = likedFeedIds;
+        List<FeedDto> data = page.feeds().stream()
+            .map(feedMapper::toDto)
+            .map(dto -> dto.withLikedByMe(finalLikedFeedIds.contains(dto.id())))
+            .map(dto -> dto.withPendingLikes(feedLikeCounter.pending(dto.id())))
+            .toList();
+
+        log.info("[FeedService] 홈 피드 조회 완료 userId = {}, size = {}", currentUserId, data.size());
+
+        return new PageResponse<>(
+            data,
+            page.nextCursor() != null ? page.nextCursor().toString() : null,
+            page.nextIdAfter(),
+            page.hasNext(),
+            totalCountResolver.resolveCounter(countMode, page::totalCount),
+            "createdAt",
+            "DESCENDING"
+        );
+    }
+
     @Override
     @Transactional
     public FeedDto updateFeed(UUID feedId, FeedUpdateRequest request) {
@@ -224,7 +277,7 @@ public class FeedServiceImpl implements FeedService {
 
         log.info("[FeedService] Feed 수정 완료 feedId = {}", feedId);
 
-        return feedMapper.toDto(feed);
+        return feedMapper.toDto(feed).withPendingLikes(feedLikeCounter.pending(feedId));
     }
 
     @Override
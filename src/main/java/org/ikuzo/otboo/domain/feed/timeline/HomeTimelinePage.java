@@ -0,0 +1,15 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.feed.entity.Feed;
+
+public record HomeTimelinePage(
+    List<Feed> feeds,
+    boolean hasNext,
+    Instant nextCursor,
+    UUID nextIdAfter,
+    long totalCount
+) {
+}
@@ -0,0 +1,217 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.feed.entity.Feed;
+import org.ikuzo.otboo.domain.feed.repository.FeedRepository;
+import org.ikuzo.otboo.domain.feed.repository.dto.FeedTimelineRow;
+import org.ikuzo.otboo.domain.follow.repository.FollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팔로우 기반 홈 타임라인
+ * - 쓰기: 피드 생성 시 작성자 본인 + 팔로워 타임라인에 push (팔로워 fanout-max-followers 초과 작성자는 pull 대상으로 표시)
+ *   이미 있는 타임라인에만 추가, 만료/미조회 사용자는 다음 조회 시 DB 에서 재구성
+ * - 읽기: 타임라인에서 limit+1 개 ID + 팔로우 중인 pull 작성자 피드 limit+1 개를 병합 후 1회 쿼리로 하이드레이션
+ * - pull 작성자는 팔로워가 기준 이하로 줄면 최근 피드를 팔로워 타임라인에 채운 뒤 push 대상으로 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+
+    private static final int FANOUT_CHUNK_SIZE = 500;
+
+    private final HomeTimelineStore timelineStore;
+    private final FeedRepository feedRepository;
+    private final FollowRepository followRepository;
+
+    @Value("${feed.timeline.capacity:800}")
+    private int capacity;
+
+    @Value("${feed.timeline.fanout-max-followers:10000}")
+    private long fanoutMaxFollowers;
+
+    @Value("${feed.timeline.follow-backfill-size:20}")
+    private int followBackfillSize;
+
+    @Transactional(readOnly = true)
+    public void fanOut(UUID feedId, UUID authorId, Instant createdAt) {
+        TimelineEntry entry = TimelineEntry.of(feedId, createdAt);
+        timelineStore.push(List.of(authorId), entry);
+
+        long followerCount = followRepository.countByFollowing_Id(authorId);
+        if (followerCount > fanoutMaxFollowers) {
+            timelineStore.markPullAuthor(authorId);
+            log.info("[HomeTimeline] 팔로워 {}명 → fan-out 생략, 조회 시 병합: authorId={}", followerCount, authorId);
+            return;
+        }
+
+        List<UUID> followerIds = followRepository.findFollowerIdsByFollowingId(authorId);
+        pushToFollowers(followerIds, entry);
+        log.debug("[HomeTimeline] fan-out 완료: feedId={}, followers={}", feedId, followerIds.size());
+
+        if (timelineStore.pullAuthors().contains(authorId)) {
+            demotePullAuthor(authorId);
+        }
+    }
+
+    /**
+     * 팔로워가 fanout-max-followers 이하로 줄었거나 탈퇴한 pull 작성자 정리
+     */
+    @Scheduled(cron = "${feed.timeline.pull-author-prune-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    @Transactional(readOnly = true)
+    public void prunePullAuthors() {
+        int demoted = 0;
+        for (UUID authorId : timelineStore.pullAuthors()) {
+            if (followRepository.countByFollowing_Id(authorId) <= fanoutMaxFollowers) {
+                demotePullAuthor(authorId);
+                demoted++;
+            }
+        }
+        if (demoted > 0) {
+            log.info("[HomeTimeline] pull 작성자 정리: {}명 push 대상으로 전환", demoted);
+        }
+    }
+
+    /**
+     * 새로 팔로우한 작성자의 최근 피드를 팔로워 타임라인에 채움 (pull 작성자는 조회 시 병합되므로 생략)
+     */
+    @Transactional(readOnly = true)
+    public void backfill(UUID followerId, UUID followingId) {
+        if (!timelineStore.exists(followerId) || timelineStore.pullAuthors().contains(followingId)) {
+            return;
+        }
+        List<FeedTimelineRow> rows = feedRepository.findTimelineRowsByAuthors(List.of(followingId), null, null,
+            followBackfillSize);
+        timelineStore.pushAll(followerId, rows.stream().map(r -> TimelineEntry.of(r.id(), r.createdAt())).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public HomeTimelinePage readPage(UUID userId, String cursor, UUID idAfter, int limit) {
+        TimelineEntry before = parseCursor(cursor, idAfter);
+        if (before == null && !timelineStore.exists(userId)) {
+            rebuild(userId);
+        }
+
+        int fetchSize = limit + 1;
+        List<TimelineEntry> raw = timelineStore.read(userId,
+            before != null ? before.score() : Long.MAX_VALUE, fetchSize);
+
+        // 타임라인이 fetchSize 만큼 찼으면 마지막 항목(floor) 이후는 다음 페이지에서 다시 읽음
+        boolean truncated = raw.size() >= fetchSize;
+        TimelineEntry floor = truncated ? raw.get(raw.size() - 1) : null;
+
+        Map<UUID, TimelineEntry> candidates = new LinkedHashMap<>();
+        for (TimelineEntry entry : raw) {
+            if (before == null || entry.isOlderThan(before)) {
+                candidates.put(entry.feedId(), entry);
+            }
+        }
+        Set<UUID> pushedIds = Set.copyOf(candidates.keySet());
+
+        for (TimelineEntry entry : pullCandidates(userId, before, fetchSize)) {
+            if (floor == null || !entry.isOlderThan(floor)) {
+                candidates.putIfAbsent(entry.feedId(), entry);
+            }
+        }
+
+        List<Feed> feeds = new ArrayList<>(feedRepository.findVisibleFeedsByIdIn(userId, candidates.keySet()));
+        feeds.sort((a, b) -> TimelineEntry.NEWEST_FIRST.compare(
+            candidates.get(a.getId()), candidates.get(b.getId())));
+
+        // 삭제되었거나 언팔로우한 작성자의 항목은 타임라인에서 정리
+        Set<UUID> stale = new HashSet<>(pushedIds);
+        feeds.forEach(f -> stale.remove(f.getId()));
+        timelineStore.remove(userId, stale);
+
+        boolean hasNext = feeds.size() > limit || truncated;
+        List<Feed> content = feeds.size() > limit ? feeds.subList(0, limit) : feeds;
+
+        TimelineEntry next = null;
+        if (feeds.size() > limit) {
+            next = candidates.get(content.get(content.size() - 1).getId());
+        } else if (truncated) {
+            next = floor;
+        }
+
+        return new HomeTimelinePage(
+            content,
+            hasNext,
+            next != null ? next.createdAt() : null,
+            next != null ? next.feedId() : null,
+            timelineStore.size(userId)
+        );
+    }
+
+    // 조회 병합이 빠져도 누락되지 않도록 최근 피드를 팔로워 타임라인에 먼저 채운 뒤 해제
+    private void demotePullAuthor(UUID authorId) {
+        List<FeedTimelineRow> rows = feedRepository.findTimelineRowsByAuthors(List.of(authorId), null, null,
+            followBackfillSize);
+        List<UUID> followerIds = followRepository.findFollowerIdsByFollowingId(authorId);
+        for (FeedTimelineRow row : rows) {
+            pushToFollowers(followerIds, TimelineEntry.of(row.id(), row.createdAt()));
+        }
+        timelineStore.unmarkPullAuthor(authorId);
+        log.info("[HomeTimeline] pull 작성자 해제: authorId={}, followers={}, backfill={}",
+            authorId, followerIds.size(), rows.size());
+    }
+
+    private void pushToFollowers(List<UUID> followerIds, TimelineEntry entry) {
+        for (int from = 0; from < followerIds.size(); from += FANOUT_CHUNK_SIZE) {
+            timelineStore.push(followerIds.subList(from, Math.min(from + FANOUT_CHUNK_SIZE, followerIds.size())), entry);
+        }
+    }
+
+    private List<TimelineEntry> pullCandidates(UUID userId, TimelineEntry before, int limit) {
+        Set<UUID> pullAuthors = timelineStore.pullAuthors();
+        if (pullAuthors.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> followed = followRepository.findFollowingIdsIn(userId, pullAuthors);
+        if (followed.isEmpty()) {
+            return List.of();
+        }
+        return feedRepository.findTimelineRowsByAuthors(followed,
+                before != null ? before.createdAt() : null,
+                before != null ? before.feedId() : null,
+                limit).stream()
+            .map(r -> TimelineEntry.of(r.id(), r.createdAt()))
+            .toList();
+    }
+
+    // 만료/유실된 타임라인은 본인 + 팔로우 작성자의 최신 피드로 재구성 (결과가 없으면 빈 타임라인으로 표시)
+    private void rebuild(UUID userId) {
+        List<FeedTimelineRow> rows = feedRepository.findTimelineSeed(userId, capacity);
+        if (rows.isEmpty()) {
+            timelineStore.markEmpty(userId);
+            return;
+        }
+        timelineStore.pushAll(userId, rows.stream().map(r -> TimelineEntry.of(r.id(), r.createdAt())).toList());
+        log.info("[HomeTimeline] 타임라인 재구성: userId={}, entries={}", userId, rows.size());
+    }
+
+    private TimelineEntry parseCursor(String cursor, UUID idAfter) {
+        if (cursor == null || cursor.isBlank() || idAfter == null) {
+            return null;
+        }
+        try {
+            return TimelineEntry.of(idAfter, Instant.parse(cursor));
+        } catch (DateTimeParseException e) {
+            log.warn("[HomeTimeline] createdAt 커서 값이 올바르지 않습니다: {}", cursor);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 홈 타임라인 저장소 (쓰기 시점 fan-out 대상)
+ * - 사용자마다 최신 capacity 개만 유지
+ * - pull 작성자: 팔로워가 많아 fan-out 하지 않는 작성자, 조회 시점에 직접 읽어 병합
+ */
+public interface HomeTimelineStore {
+
+    /**
+     * fan-out: 타임라인이 있거나 비어 있음으로 표시된 사용자에게만 추가
+     * - 만료/미조회 사용자의 타임라인을 새 항목 하나로 만들면 exists 가 true 가 되어 재구성되지 않으므로 만들지 않음
+     */
+    void push(Collection<UUID> userIds, TimelineEntry entry);
+
+    /**
+     * 타임라인 생성/채움 (재구성, 팔로우 backfill 전용)
+     */
+    void pushAll(UUID userId, Collection<TimelineEntry> entries);
+
+    /**
+     * 점수 maxScore 이하 항목을 최신순으로 최대 count 개
+     */
+    List<TimelineEntry> read(UUID userId, long maxScore, int count);
+
+    void remove(UUID userId, Collection<UUID> feedIds);
+
+    /**
+     * 타임라인이 있거나 비어 있음으로 표시된 상태인지 (없으면 조회 시 재구성)
+     */
+    boolean exists(UUID userId);
+
+    /**
+     * 재구성 결과가 비어 있는 타임라인 표시 (타임라인 TTL 동안 재구성 반복 방지, 이후 push 는 타임라인을 만들어 반영)
+     */
+    void markEmpty(UUID userId);
+
+    long size(UUID userId);
+
+    void markPullAuthor(UUID authorId);
+
+    void unmarkPullAuthor(UUID authorId);
+
+    Set<UUID> pullAuthors();
+}
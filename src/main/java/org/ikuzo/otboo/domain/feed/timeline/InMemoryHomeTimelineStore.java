@@ -0,0 +1,119 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 인메모리 홈 타임라인 (단일 인스턴스 전용, TTL 없음, HomeTimelineServiceTest 에서 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "feed.timeline.store", havingValue = "memory")
+public class InMemoryHomeTimelineStore implements HomeTimelineStore {
+
+    private final Map<UUID, NavigableSet<TimelineEntry>> timelines = new ConcurrentHashMap<>();
+    private final Set<UUID> emptyTimelines = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pullAuthors = ConcurrentHashMap.newKeySet();
+
+    @Value("${feed.timeline.capacity:800}")
+    private int capacity;
+
+    @Override
+    public void push(Collection<UUID> userIds, TimelineEntry entry) {
+        for (UUID userId : userIds) {
+            NavigableSet<TimelineEntry> pushed =
+                timelines.computeIfPresent(userId, (id, timeline) -> add(timeline, List.of(entry)));
+            if (pushed == null && emptyTimelines.remove(userId)) {
+                pushAll(userId, List.of(entry));
+            }
+        }
+    }
+
+    @Override
+    public void pushAll(UUID userId, Collection<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        timelines.compute(userId, (id, timeline) -> add(
+            timeline != null ? timeline : new ConcurrentSkipListSet<>(TimelineEntry.NEWEST_FIRST), entries));
+    }
+
+    @Override
+    public List<TimelineEntry> read(UUID userId, long maxScore, int count) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        if (timeline == null) {
+            return List.of();
+        }
+        List<TimelineEntry> result = new ArrayList<>(count);
+        for (TimelineEntry entry : timeline) {
+            if (entry.score() > maxScore) {
+                continue;
+            }
+            result.add(entry);
+            if (result.size() >= count) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(UUID userId, Collection<UUID> feedIds) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        if (timeline != null) {
+            timeline.removeIf(e -> feedIds.contains(e.feedId()));
+        }
+    }
+
+    @Override
+    public boolean exists(UUID userId) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        return (timeline != null && !timeline.isEmpty()) || emptyTimelines.contains(userId);
+    }
+
+    @Override
+    public void markEmpty(UUID userId) {
+        emptyTimelines.add(userId);
+    }
+
+    @Override
+    public long size(UUID userId) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        return timeline != null ? timeline.size() : 0L;
+    }
+
+    @Override
+    public void markPullAuthor(UUID authorId) {
+        pullAuthors.add(authorId);
+    }
+
+    @Override
+    public void unmarkPullAuthor(UUID authorId) {
+        pullAuthors.remove(authorId);
+    }
+
+    @Override
+    public Set<UUID> pullAuthors() {
+        return Set.copyOf(pullAuthors);
+    }
+
+    private NavigableSet<TimelineEntry> add(NavigableSet<TimelineEntry> timeline, Collection<TimelineEntry> entries) {
+        for (TimelineEntry entry : entries) {
+            timeline.removeIf(e -> e.feedId().equals(entry.feedId()));
+            timeline.add(entry);
+        }
+        while (timeline.size() > capacity) {
+            timeline.pollLast();
+        }
+        return timeline;
+    }
+}
@@ -0,0 +1,213 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Sorted Set 기반 홈 타임라인 (key = timeline:home:{userId}, member = feedId, score = 생성 시각 µs)
+ * - fan-out 은 파이프라인으로 사용자별 스크립트 실행: 타임라인(또는 빈 타임라인 표시)이 있을 때만 ZADD + 초과분 ZREMRANGEBYRANK + EXPIRE
+ * - 비활성 사용자 타임라인은 TTL 로 만료, 다음 조회 시 DB 에서 재구성
+ * - 재구성 결과가 비어 있으면 timeline:home:{userId}:empty 표시 키를 같은 TTL 로 저장
+ * - pull 작성자 집합은 pull-authors-refresh 주기로만 SMEMBERS (다른 인스턴스의 변경은 최대 한 주기 늦게 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feed.timeline.store", havingValue = "redis", matchIfMissing = true)
+public class RedisHomeTimelineStore implements HomeTimelineStore {
+
+    private static final String KEY_PREFIX = "timeline:home:";
+    private static final String EMPTY_SUFFIX = ":empty";
+    private static final String PULL_AUTHORS_KEY = "timeline:pull-authors";
+
+    // KEYS[1] 타임라인, KEYS[2] 빈 타임라인 표시 / ARGV score, member, capacity, ttl(초)
+    // 빈 타임라인 표시가 있으면 표시를 지우고 타임라인 생성, 둘 다 없으면 건너뜀 (조회 시 재구성)
+    private static final String PUSH_IF_PRESENT_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('DEL', KEYS[2]) == 0 then
+            return 0
+        end
+        redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+        redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+        redis.call('EXPIRE', KEYS[1], ARGV[4])
+        return 1
+        """;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${feed.timeline.capacity:800}")
+    private int capacity;
+
+    @Value("${feed.timeline.ttl:P14D}")
+    private Duration ttl;
+
+    @Value("${feed.timeline.pull-authors-refresh:PT10S}")
+    private Duration pullAuthorsRefresh;
+
+    private volatile Set<UUID> pullAuthors = Set.of();
+    private volatile long pullAuthorsLoadedAt;
+    private volatile boolean pullAuthorsLoaded;
+    private volatile String pushScriptSha;
+
+    @Override
+    public void push(Collection<UUID> userIds, TimelineEntry entry) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String[] args = {
+            Long.toString(entry.score()),
+            entry.feedId().toString(),
+            Integer.toString(capacity),
+            Long.toString(ttl.toSeconds())
+        };
+        try {
+            pushIfPresent(pushScriptSha(), userIds, args);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // Redis 재시작 등으로 스크립트 캐시가 비었으면 다시 등록 후 1회 재시도 (ZADD 는 멱등)
+            pushScriptSha = null;
+            pushIfPresent(pushScriptSha(), userIds, args);
+        }
+    }
+
+    @Override
+    public void pushAll(UUID userId, Collection<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String key = key(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (TimelineEntry entry : entries) {
+                conn.zAdd(key, entry.score(), entry.feedId().toString());
+            }
+            conn.zRemRange(key, 0, -(capacity + 1L));
+            conn.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    @Override
+    public List<TimelineEntry> read(UUID userId, long maxScore, int count) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+            .reverseRangeByScoreWithScores(key(userId), Double.NEGATIVE_INFINITY, maxScore, 0, count);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<TimelineEntry> entries = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            entries.add(new TimelineEntry(UUID.fromString(tuple.getValue()), tuple.getScore().longValue()));
+        }
+        // 동점 항목은 Redis 가 member 역사전순으로 반환하지만 명시적으로 정렬 기준을 맞춤
+        entries.sort(TimelineEntry.NEWEST_FIRST);
+        return entries;
+    }
+
+    @Override
+    public void remove(UUID userId, Collection<UUID> feedIds) {
+        if (feedIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(key(userId), feedIds.stream().map(UUID::toString).toArray());
+    }
+
+    @Override
+    public boolean exists(UUID userId) {
+        Long count = redisTemplate.countExistingKeys(List.of(key(userId), key(userId) + EMPTY_SUFFIX));
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void markEmpty(UUID userId) {
+        redisTemplate.opsForValue().set(key(userId) + EMPTY_SUFFIX, "1", ttl);
+    }
+
+    @Override
+    public long size(UUID userId) {
+        Long size = redisTemplate.opsForZSet().zCard(key(userId));
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public void markPullAuthor(UUID authorId) {
+        redisTemplate.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+        Set<UUID> updated = new HashSet<>(pullAuthors);
+        updated.add(authorId);
+        pullAuthors = Set.copyOf(updated);
+    }
+
+    @Override
+    public void unmarkPullAuthor(UUID authorId) {
+        redisTemplate.opsForSet().remove(PULL_AUTHORS_KEY, authorId.toString());
+        Set<UUID> updated = new HashSet<>(pullAuthors);
+        updated.remove(authorId);
+        pullAuthors = Set.copyOf(updated);
+    }
+
+    @Override
+    public Set<UUID> pullAuthors() {
+        long now = System.nanoTime();
+        if (!pullAuthorsLoaded || now - pullAuthorsLoadedAt >= pullAuthorsRefresh.toNanos()) {
+            Set<String> members = redisTemplate.opsForSet().members(PULL_AUTHORS_KEY);
+            pullAuthors = members == null ? Set.of()
+                : members.stream().map(UUID::fromString).collect(Collectors.toUnmodifiableSet());
+            pullAuthorsLoadedAt = now;
+            pullAuthorsLoaded = true;
+        }
+        return pullAuthors;
+    }
+
+    private void pushIfPresent(String sha, Collection<UUID> userIds, String[] args) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                String key = key(userId);
+                conn.evalSha(sha, ReturnType.INTEGER, 2, key, key + EMPTY_SUFFIX, args[0], args[1], args[2], args[3]);
+            }
+            return null;
+        });
+    }
+
+    private String pushScriptSha() {
+        String sha = pushScriptSha;
+        if (sha == null) {
+            sha = redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                .scriptLoad(PUSH_IF_PRESENT_SCRIPT.getBytes(StandardCharsets.UTF_8)));
+            pushScriptSha = sha;
+        }
+        return sha;
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
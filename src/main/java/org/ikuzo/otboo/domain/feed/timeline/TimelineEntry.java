@@ -0,0 +1,36 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 홈 타임라인 항목 (피드 ID + 생성 시각 점수)
+ * - 점수: 생성 시각 epoch 마이크로초 (DB timestamptz 정밀도와 동일, double 로 손실 없이 표현)
+ * - 정렬: 점수 내림차순, 동점이면 ID 문자열 내림차순 (PostgreSQL uuid 정렬과 동일)
+ */
+public record TimelineEntry(UUID feedId, long score) {
+
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+        .comparingLong(TimelineEntry::score)
+        .thenComparing(e -> e.feedId().toString())
+        .reversed();
+
+    public static TimelineEntry of(UUID feedId, Instant createdAt) {
+        return new TimelineEntry(feedId, scoreOf(createdAt));
+    }
+
+    public static long scoreOf(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public Instant createdAt() {
+        return Instant.EPOCH.plus(score, ChronoUnit.MICROS);
+    }
+
+    // 정렬상 other 보다 뒤(더 오래된) 항목인지
+    public boolean isOlderThan(TimelineEntry other) {
+        return NEWEST_FIRST.compare(this, other) > 0;
+    }
+}
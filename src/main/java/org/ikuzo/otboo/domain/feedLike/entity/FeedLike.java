@@ -2,9 +2,11 @@ package org.ikuzo.otboo.domain.feedLike.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +16,9 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.global.base.BaseEntity;
 
 @Entity
-@Table(name = "feed_likes")
+@Table(name = "feed_likes",
+    uniqueConstraints = @UniqueConstraint(name = "UK_FEED_LIKES_USER_FEED", columnNames = {"user_id", "feed_id"}),
+    indexes = @Index(name = "idx_feed_likes_feed", columnList = "feed_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
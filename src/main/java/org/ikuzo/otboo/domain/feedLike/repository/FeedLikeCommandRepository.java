@@ -0,0 +1,75 @@
+package org.ikuzo.otboo.domain.feedLike.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.ikuzo.otboo.domain.feedLike.repository.dto.FeedLikeInsertResult;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요/취소 쓰기 경로 (엔티티 로딩 없이 단일 SQL, UK_FEED_LIKES_USER_FEED 기준 멱등)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedLikeCommandRepository {
+
+    // INSERT 는 피드/사용자가 모두 있을 때만, 중복이면 무시. 같은 문장에서 이벤트용 요약까지 조회
+    private static final String LIKE_SQL = """
+        WITH inserted AS (
+            INSERT INTO feed_likes (id, user_id, feed_id, created_at)
+            SELECT ?, u.id, f.id, now()
+              FROM feeds f
+              JOIN users u ON u.id = ?
+             WHERE f.id = ?
+            ON CONFLICT (user_id, feed_id) DO NOTHING
+            RETURNING feed_id
+        )
+        SELECT EXISTS (SELECT 1 FROM inserted) AS inserted,
+               f.content,
+               a.id                AS author_id,
+               a.name              AS author_name,
+               a.profile_image_url AS author_profile_image_url,
+               l.id                AS liker_id,
+               l.name              AS liker_name,
+               l.profile_image_url AS liker_profile_image_url
+          FROM feeds f
+          JOIN users a ON a.id = f.author_id
+          LEFT JOIN users l ON l.id = ?
+         WHERE f.id = ?
+        """;
+
+    private static final String UNLIKE_SQL = """
+        DELETE FROM feed_likes
+         WHERE user_id = ?
+           AND feed_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 피드가 없으면 empty
+     */
+    public Optional<FeedLikeInsertResult> like(UUID userId, UUID feedId) {
+        List<FeedLikeInsertResult> rows = jdbcTemplate.query(LIKE_SQL,
+            (rs, rowNum) -> new FeedLikeInsertResult(
+                rs.getBoolean("inserted"),
+                rs.getString("content"),
+                rs.getObject("author_id", UUID.class),
+                rs.getString("author_name"),
+                rs.getString("author_profile_image_url"),
+                rs.getObject("liker_id", UUID.class),
+                rs.getString("liker_name"),
+                rs.getString("liker_profile_image_url")),
+            UUID.randomUUID(), userId, feedId, userId, feedId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * @return 실제로 삭제되었는지 (좋아요 상태가 아니었으면 false)
+     */
+    public boolean unlike(UUID userId, UUID feedId) {
+        return jdbcTemplate.update(UNLIKE_SQL, userId, feedId) > 0;
+    }
+}
@@ -0,0 +1,53 @@
+package org.ikuzo.otboo.domain.feedLike.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * feeds.like_count 일괄 반영 (updated_at 은 갱신하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedLikeCountRepository {
+
+    private static final String APPLY_DELTA_SQL = """
+        UPDATE feeds
+           SET like_count = GREATEST(like_count + ?, 0)
+         WHERE id = ?
+        """;
+
+    // applyDeltas 와 같은 id 순으로 행 잠금 후 지정 피드만 다시 계산 (feed_likes.feed_id 인덱스 사용)
+    private static final String RECOUNT_SQL = """
+        UPDATE feeds f
+           SET like_count = (SELECT count(*) FROM feed_likes fl WHERE fl.feed_id = f.id)
+          FROM (SELECT id FROM feeds WHERE id = ANY (?) ORDER BY id FOR UPDATE) locked
+         WHERE f.id = locked.id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltas feedId 순으로 정렬된 증감량 (여러 인스턴스가 동시에 반영해도 같은 순서로 행 잠금)
+     */
+    public void applyDeltas(List<Map.Entry<UUID, Long>> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setObject(2, delta.getKey());
+        });
+    }
+
+    /**
+     * 지정한 피드의 like_count 를 feed_likes 행 수로 다시 계산 (여러 번 실행해도 결과가 같음)
+     *
+     * @return 갱신된 피드 수
+     */
+    public int recount(Collection<UUID> feedIds) {
+        return jdbcTemplate.update(RECOUNT_SQL, ps ->
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", feedIds.toArray())));
+    }
+}
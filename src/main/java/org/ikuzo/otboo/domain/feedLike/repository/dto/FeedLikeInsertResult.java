@@ -0,0 +1,21 @@
+package org.ikuzo.otboo.domain.feedLike.repository.dto;
+
+import java.util.UUID;
+
+/**
+ * 좋아요 INSERT 결과 + 이벤트용 피드/작성자/좋아요한 사용자 요약
+ *
+ * @param inserted 새 행이 추가되었는지 (이미 좋아요 상태면 false)
+ * @param likerId  사용자가 없으면 null
+ */
+public record FeedLikeInsertResult(
+    boolean inserted,
+    String feedContent,
+    UUID authorId,
+    String authorName,
+    String authorProfileImageUrl,
+    UUID likerId,
+    String likerName,
+    String likerProfileImageUrl
+) {
+}
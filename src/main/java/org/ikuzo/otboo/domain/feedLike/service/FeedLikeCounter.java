@@ -0,0 +1,120 @@
+package org.ikuzo.otboo.domain.feedLike.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.feedLike.repository.FeedLikeCountRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 좋아요 수 write-behind 카운터
+ * - 좋아요/취소는 피드별 증감량만 메모리에 누적 (ConcurrentHashMap 버킷 단위 잠금, feeds 행 잠금 없음)
+ * - flush-interval-ms 마다 누적분을 feedId 순으로 묶어 feeds.like_count 에 반영
+ * - 조회 응답의 likeCount 는 DB 값 + 미반영분, 정렬/커서는 DB 값 기준 (페이지 간 순서 일관성 유지)
+ * - 반영 실패 시 해당 피드만 feed_likes 기준으로 다시 계산 (전체 테이블 보정 작업 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedLikeCounter {
+
+    private final FeedLikeCountRepository feedLikeCountRepository;
+
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(UUID feedId) {
+        addAfterCommit(feedId, 1L);
+    }
+
+    public void decrement(UUID feedId) {
+        addAfterCommit(feedId, -1L);
+    }
+
+    public long pending(UUID feedId) {
+        return pending.getOrDefault(feedId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${feed.like-counter.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별 remove 는 원자적 -> 이후 증감은 새 항목으로 누적되어 유실 없음
+        List<Map.Entry<UUID, Long>> deltas = new ArrayList<>();
+        for (UUID feedId : pending.keySet()) {
+            Long delta = pending.remove(feedId);
+            if (delta != null && delta != 0L) {
+                deltas.add(Map.entry(feedId, delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.sort(Map.Entry.comparingByKey(Comparator.comparing(UUID::toString)));
+
+        try {
+            feedLikeCountRepository.applyDeltas(deltas);
+            log.debug("[FeedLikeCounter] 좋아요 수 반영 완료: feeds={}", deltas.size());
+        } catch (Exception e) {
+            log.warn("[FeedLikeCounter] 좋아요 수 반영 실패 - 해당 피드 재계산: feeds={}, {}", deltas.size(),
+                e.getMessage());
+            recount(deltas);
+        }
+    }
+
+    /**
+     * 배치 일부가 이미 커밋됐을 수 있어 증감량을 다시 더하지 않고 feed_likes 기준으로 다시 계산
+     * - 그사이 이 인스턴스에 새로 누적된 같은 피드의 증감은 이미 커밋된 것이므로 재계산에 포함 -> 재계산 직전에 비움
+     * - 다른 인스턴스의 같은 피드 미반영분(최대 flush 1회분)은 이후 더해져 잠시 어긋날 수 있으며, 해당 피드가 다시 재계산될 때 맞춰짐
+     * - 재계산도 실패하면(DB 장애 등) 증감량을 다시 누적해 다음 주기에 재시도
+     */
+    private void recount(List<Map.Entry<UUID, Long>> deltas) {
+        List<UUID> feedIds = new ArrayList<>(deltas.size());
+        List<Map.Entry<UUID, Long>> requeue = new ArrayList<>(deltas);
+        for (Map.Entry<UUID, Long> delta : deltas) {
+            feedIds.add(delta.getKey());
+            Long added = pending.remove(delta.getKey());
+            if (added != null) {
+                requeue.add(Map.entry(delta.getKey(), added));
+            }
+        }
+
+        try {
+            feedLikeCountRepository.recount(feedIds);
+            log.info("[FeedLikeCounter] 좋아요 수 재계산 완료: feeds={}", feedIds.size());
+        } catch (Exception e) {
+            requeue.forEach(d -> pending.merge(d.getKey(), d.getValue(), Long::sum));
+            log.warn("[FeedLikeCounter] 좋아요 수 재계산 실패 - 다음 주기 재시도: feeds={}, {}", feedIds.size(),
+                e.getMessage());
+        }
+    }
+
+    // feed_likes 변경이 커밋된 경우에만 누적 (롤백 시 카운트가 어긋나지 않도록)
+    private void addAfterCommit(UUID feedId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.merge(feedId, delta, Long::sum);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.merge(feedId, delta, Long::sum);
+            }
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,21 +1,17 @@
 package org.ikuzo.otboo.domain.feedLike.service;
 
+import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.ikuzo.otboo.domain.feed.entity.Feed;
-import org.ikuzo.otboo.domain.feed.exception.FeedLikeNotFoundException;
 import org.ikuzo.otboo.domain.feed.exception.FeedNotFoundException;
-import org.ikuzo.otboo.domain.feed.repository.FeedRepository;
-import org.ikuzo.otboo.domain.feedLike.entity.FeedLike;
 import org.ikuzo.otboo.domain.feedLike.dto.FeedLikeEventDto;
-import org.ikuzo.otboo.domain.feedLike.repository.FeedLikeRepository;
-import org.ikuzo.otboo.domain.user.entity.User;
-import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
-import org.ikuzo.otboo.domain.user.repository.UserRepository;
+import org.ikuzo.otboo.domain.feedLike.repository.FeedLikeCommandRepository;
+import org.ikuzo.otboo.domain.feedLike.repository.dto.FeedLikeInsertResult;
 import org.ikuzo.otboo.domain.user.dto.UserSummary;
-import org.ikuzo.otboo.global.security.OtbooUserDetails;
+import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.global.event.message.FeedLikeCreatedEvent;
+import org.ikuzo.otboo.global.security.OtbooUserDetails;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.Authentication;
@@ -27,11 +23,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @RequiredArgsConstructor
 public class FeedLikeServiceImpl implements FeedLikeService {
-    private final FeedRepository feedRepository;
-    private final UserRepository userRepository;
-    private final FeedLikeRepository feedLikeRepository;
+    private final FeedLikeCommandRepository feedLikeCommandRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final FeedLikeCounter feedLikeCounter;
 
+    /**
+     * 멱등: 이미 좋아요 상태면 아무것도 변경하지 않음 (카운트/알림 없음)
+     */
     @Override
     @Transactional
     public void create(UUID feedId) {
@@ -39,34 +37,35 @@ public class FeedLikeServiceImpl implements FeedLikeService {
 
         UUID userId = currentUserId();
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> UserNotFoundException.withId(userId));
-
-        Feed feed = feedRepository.findById(feedId)
+        FeedLikeInsertResult result = feedLikeCommandRepository.like(userId, feedId)
             .orElseThrow(() -> new FeedNotFoundException(feedId));
-        feed.like();
-
-        FeedLike feedLike = FeedLike.builder()
-            .user(user)
-            .feed(feed)
-            .build();
+        if (result.likerId() == null) {
+            throw UserNotFoundException.withId(userId);
+        }
+        if (!result.inserted()) {
+            log.info("[FeedLikeService] 이미 좋아요한 피드 feedId={}, userId={}", feedId, userId);
+            return;
+        }
 
-        feedLikeRepository.save(feedLike);
+        // feeds 행을 직접 갱신하지 않고 증감량만 누적 (FeedLikeCounter 가 주기적으로 반영)
+        feedLikeCounter.increment(feedId);
 
-        User author = feed.getAuthor();
-        if (author != null && !author.getId().equals(userId)) {
+        if (result.authorId() != null && !result.authorId().equals(userId)) {
             FeedLikeEventDto eventDto = new FeedLikeEventDto(
-                feed.getId(),
-                feed.getContent(),
-                new UserSummary(author.getId(), author.getName(), author.getProfileImageUrl()),
-                new UserSummary(user.getId(), user.getName(), user.getProfileImageUrl())
+                feedId,
+                result.feedContent(),
+                new UserSummary(result.authorId(), result.authorName(), result.authorProfileImageUrl()),
+                new UserSummary(result.likerId(), result.likerName(), result.likerProfileImageUrl())
             );
-            eventPublisher.publishEvent(new FeedLikeCreatedEvent(eventDto, java.time.Instant.now()));
+            eventPublisher.publishEvent(new FeedLikeCreatedEvent(eventDto, Instant.now()));
         }
 
         log.info("[FeedLikeService] 피드 좋아요 생성 완료 feedId={}, userId={}", feedId, userId);
     }
 
+    /**
+     * 멱등: 좋아요 상태가 아니면 아무것도 변경하지 않음
+     */
     @Override
     @Transactional
     public void delete(UUID feedId) {
@@ -74,17 +73,11 @@ public class FeedLikeServiceImpl implements FeedLikeService {
 
         UUID userId = currentUserId();
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> UserNotFoundException.withId(userId));
-
-        Feed feed = feedRepository.findById(feedId)
-            .orElseThrow(() -> new FeedNotFoundException(feedId));
-        feed.unlike();
-
-        FeedLike feedLike = feedLikeRepository.findByFeedAndUser(feed, user)
-            .orElseThrow(FeedLikeNotFoundException::new);
-
-        feedLikeRepository.delete(feedLike);
+        if (!feedLikeCommandRepository.unlike(userId, feedId)) {
+            log.info("[FeedLikeService] 좋아요 상태가 아닌 피드 feedId={}, userId={}", feedId, userId);
+            return;
+        }
+        feedLikeCounter.decrement(feedId);
 
         log.info("[FeedLikeService] 피드 좋아요 삭제 완료 feedId={}, userId={}", feedId, userId);
     }
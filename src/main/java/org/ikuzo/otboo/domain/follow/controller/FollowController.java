@@ -7,6 +7,8 @@ import org.ikuzo.otboo.domain.follow.dto.FollowDto;
 import org.ikuzo.otboo.domain.follow.dto.FollowSummaryDto;
 import org.ikuzo.otboo.domain.follow.service.FollowService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -40,10 +42,13 @@ public class FollowController {
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) UUID idAfter,
         @RequestParam int limit,
-        @RequestParam(required = false) String nameLike
+        @RequestParam(required = false) String nameLike,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         log.info("[FollowController] 팔로워 목록 조회 컨트롤러 진입 followeeId: {}, cursor: {}, idAfter: {}, limit: {}, nameLike: {}", followeeId, cursor, idAfter,  limit, nameLike);
-        PageResponse<FollowDto> response = followService.getFollowers(followeeId, cursor, idAfter, limit, nameLike);
+        PageResponse<FollowDto> response = followService.getFollowers(followeeId, cursor, idAfter, limit, nameLike,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -53,10 +58,13 @@ public class FollowController {
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) UUID idAfter,
         @RequestParam int limit,
-        @RequestParam(required = false) String nameLike
+        @RequestParam(required = false) String nameLike,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         log.info("[FollowController] 팔로잉 목록 조회 컨트롤러 진입 followeeId: {}, cursor: {}, idAfter: {}, limit: {}, nameLike: {}", followerId, cursor, idAfter,  limit, nameLike);
-        PageResponse<FollowDto> response = followService.getFollowings(followerId, cursor, idAfter, limit, nameLike);
+        PageResponse<FollowDto> response = followService.getFollowings(followerId, cursor, idAfter, limit, nameLike,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
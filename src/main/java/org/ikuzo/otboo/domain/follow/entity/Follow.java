@@ -6,7 +6,12 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.global.base.BaseEntity;
 
 @Entity
-@Table(name = "follows")
+@Table(
+    name = "follows",
+    indexes = {
+        // 피드 fan-out 시 작성자의 팔로워 조회/카운트
+        @Index(name = "idx_follows_following", columnList = "following_id, follower_id")
+    })
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
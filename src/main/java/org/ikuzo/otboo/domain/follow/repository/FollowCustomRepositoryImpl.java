@@ -1,6 +1,5 @@
 package org.ikuzo.otboo.domain.follow.repository;
 
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.follow.entity.Follow;
 import org.ikuzo.otboo.domain.follow.entity.QFollow;
 import org.ikuzo.otboo.domain.user.entity.QUser;
+import org.ikuzo.otboo.global.util.NgramSearchSupport;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -20,6 +20,7 @@ import java.util.UUID;
 public class FollowCustomRepositoryImpl implements FollowCustomRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final NgramSearchSupport ngramSearchSupport;
 
     @Override
     public List<Follow> getFollows(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike, String type) {
@@ -35,9 +36,7 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository {
                 .where(follow.following.id.eq(followeeId));
 
             if (nameLike != null && !nameLike.isBlank()) {
-                query.where(
-                    Expressions.booleanTemplate("{0} ILIKE {1}", follower.name, "%" + nameLike.trim() + "%")
-                );
+                query.where(ngramSearchSupport.containsIgnoreCase(follower.name, nameLike));
             }
         } else if (type.equals("following")) {
             query.join(follow.follower, follower).fetchJoin()
@@ -45,9 +44,7 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository {
                 .where(follow.follower.id.eq(followeeId));
 
             if (nameLike != null && !nameLike.isBlank()) {
-                query.where(
-                    Expressions.booleanTemplate("{0} ILIKE {1}", following.name, "%" + nameLike.trim() + "%")
-                );
+                query.where(ngramSearchSupport.containsIgnoreCase(following.name, nameLike));
             }
         }
 
@@ -80,18 +77,14 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository {
                 .where(follow.following.id.eq(followeeId));
 
             if (nameLike != null && !nameLike.isBlank()) {
-                query.where(
-                    Expressions.booleanTemplate("{0} ILIKE {1}", follower.name, "%" + nameLike.trim() + "%")
-                );
+                query.where(ngramSearchSupport.containsIgnoreCase(follower.name, nameLike));
             }
         } else if (type.equals("following")) {
             query.join(follow.following, following)
                 .where(follow.follower.id.eq(followeeId));
 
             if (nameLike != null && !nameLike.isBlank()) {
-                query.where(
-                    Expressions.booleanTemplate("{0} ILIKE {1}", following.name, "%" + nameLike.trim() + "%")
-                );
+                query.where(ngramSearchSupport.containsIgnoreCase(following.name, nameLike));
             }
         }
 
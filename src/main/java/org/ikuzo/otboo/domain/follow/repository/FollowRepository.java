@@ -1,5 +1,6 @@
 package org.ikuzo.otboo.domain.follow.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,4 +23,8 @@ public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowCus
 
     @Query("select f.follower.id from Follow f where f.following.id = :followingId")
     List<UUID> findFollowerIdsByFollowingId(@Param("followingId") UUID followingId);
+
+    @Query("select f.following.id from Follow f where f.follower.id = :followerId and f.following.id in :followingIds")
+    List<UUID> findFollowingIdsIn(@Param("followerId") UUID followerId,
+                                  @Param("followingIds") Collection<UUID> followingIds);
 }
@@ -6,11 +6,14 @@ import org.ikuzo.otboo.domain.follow.dto.FollowSummaryDto;
 import org.ikuzo.otboo.global.dto.PageResponse;
 
 import java.util.UUID;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 
 public interface FollowService {
     FollowDto follow(FollowCreateRequest request);
     FollowSummaryDto followSummary(UUID userId);
-    PageResponse<FollowDto> getFollowers(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike);
-    PageResponse<FollowDto> getFollowings(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike);
+    PageResponse<FollowDto> getFollowers(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike,
+                                         TotalCountMode countMode);
+    PageResponse<FollowDto> getFollowings(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike,
+                                          TotalCountMode countMode);
     void cancel(UUID followId);
 }
@@ -15,6 +15,8 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.domain.follow.exception.FollowAlreadyException;
 import org.ikuzo.otboo.domain.follow.exception.FollowSelfNotAllowException;
 import org.ikuzo.otboo.global.event.message.FollowCreatedEvent;
@@ -45,6 +47,7 @@ public class FollowServiceImpl implements FollowService {
     private final FollowMapper followMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final CacheManager cacheManager;
+    private final TotalCountResolver totalCountResolver;
 
     /**
      * 팔로우 등록
@@ -148,10 +151,11 @@ public class FollowServiceImpl implements FollowService {
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = "followers",
-        key = "#followeeId",
+        key = "T(org.ikuzo.otboo.global.pagination.TotalCountResolver).cacheKey(#followeeId, #countMode)",
         condition = "#cursor == null && #idAfter == null && !T(org.springframework.util.StringUtils).hasText(#nameLike)"
     )
-    public PageResponse<FollowDto> getFollowers(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike) {
+    public PageResponse<FollowDto> getFollowers(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike,
+                                                TotalCountMode countMode) {
         log.info("[FollowService] 팔로워 목록 조회 서비스 진입");
         List<Follow> followers = followRepository.getFollows(followeeId, cursor, idAfter, limit, nameLike, "follower");
 
@@ -169,7 +173,9 @@ public class FollowServiceImpl implements FollowService {
         }
         String sortBy = "createdAt";
         String sortDirection = "DESCENDING";
-        long totalCount = followRepository.countByCursorFilter(followeeId, nameLike, "follower");
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> followRepository.countByCursorFilter(followeeId, nameLike, "follower"),
+            "followers", followeeId, nameLike);
 
         List<FollowDto> content = followList.stream()
             .map(follow -> {
@@ -204,10 +210,11 @@ public class FollowServiceImpl implements FollowService {
     @Transactional(readOnly = true)
     @Cacheable(
         cacheNames = "followings",
-        key = "#followeeId",
+        key = "T(org.ikuzo.otboo.global.pagination.TotalCountResolver).cacheKey(#followeeId, #countMode)",
         condition = "#cursor == null && #idAfter == null && !T(org.springframework.util.StringUtils).hasText(#nameLike)"
     )
-    public PageResponse<FollowDto> getFollowings(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike) {
+    public PageResponse<FollowDto> getFollowings(UUID followeeId, String cursor, UUID idAfter, int limit, String nameLike,
+                                                 TotalCountMode countMode) {
         log.info("[FollowService] 팔로잉 목록 조회 서비스 진입");
         List<Follow> followings = followRepository.getFollows(followeeId, cursor, idAfter, limit, nameLike, "following");
 
@@ -222,7 +229,9 @@ public class FollowServiceImpl implements FollowService {
         }
         String sortBy = "createdAt";
         String sortDirection = "DESCENDING";
-        long totalCount = followRepository.countByCursorFilter(followeeId, nameLike, "following");
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> followRepository.countByCursorFilter(followeeId, nameLike, "following"),
+            "followings", followeeId, nameLike);
 
         List<FollowDto> content = followList.stream()
             .map(follow -> {
@@ -267,9 +276,9 @@ public class FollowServiceImpl implements FollowService {
     }
 
     private void evictFollowCaches(UUID followeeId, UUID followerId) {
-        // 팔로워/팔로잉 목록 캐시 제거
-        Objects.requireNonNull(cacheManager.getCache("followers")).evict(followeeId);
-        Objects.requireNonNull(cacheManager.getCache("followings")).evict(followerId);
+        // 팔로워/팔로잉 목록 캐시 제거 (totalCount 방식별 키 모두)
+        TotalCountResolver.evictAllModes(Objects.requireNonNull(cacheManager.getCache("followers")), followeeId);
+        TotalCountResolver.evictAllModes(Objects.requireNonNull(cacheManager.getCache("followings")), followerId);
 
         // 팔로우 요약 캐시 제거 (userId 기준으로 단순화)
         Objects.requireNonNull(cacheManager.getCache("followSummary")).evict(followeeId);
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.ikuzo.otboo.domain.notification.dto.NotificationDto;
 import org.ikuzo.otboo.domain.notification.service.NotificationService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,9 +25,12 @@ public class NotificationController {
     public ResponseEntity<PageResponse<NotificationDto>> getNotifications(
         @RequestParam(required = false) Instant cursor,
         @RequestParam(required = false) UUID idAfter,
-        @RequestParam int limit
+        @RequestParam int limit,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
-        PageResponse<NotificationDto> response = notificationService.getNotifications(cursor, idAfter, limit);
+        PageResponse<NotificationDto> response = notificationService.getNotifications(cursor, idAfter, limit,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT));
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
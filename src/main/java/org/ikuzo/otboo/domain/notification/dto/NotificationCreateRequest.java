@@ -0,0 +1,15 @@
+package org.ikuzo.otboo.domain.notification.dto;
+
+import java.util.UUID;
+import org.ikuzo.otboo.domain.notification.entity.Level;
+
+/**
+ * 수신자별 알림 생성 요청 (수신자마다 내용이 다른 알림을 일괄 생성할 때 사용)
+ */
+public record NotificationCreateRequest(
+    UUID receiverId,
+    String title,
+    String content,
+    Level level
+) {
+}
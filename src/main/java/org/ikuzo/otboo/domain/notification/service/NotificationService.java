@@ -1,5 +1,6 @@
 package org.ikuzo.otboo.domain.notification.service;
 
+import org.ikuzo.otboo.domain.notification.dto.NotificationCreateRequest;
 import org.ikuzo.otboo.domain.notification.dto.NotificationDto;
 import org.ikuzo.otboo.domain.notification.entity.Level;
 import org.ikuzo.otboo.global.dto.PageResponse;
@@ -8,12 +9,18 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 
 public interface NotificationService {
 
     void create(Set<UUID> receiverIds, String title, String content, Level level);
 
-    PageResponse<NotificationDto> getNotifications(Instant cursor, UUID idAfter, int limit);
+    /**
+     * 호출 측 트랜잭션에 참여해 일괄 저장, 커밋 후 이벤트 1건으로 발행
+     */
+    void createAll(List<NotificationCreateRequest> requests);
+
+    PageResponse<NotificationDto> getNotifications(Instant cursor, UUID idAfter, int limit, TotalCountMode countMode);
 
     void deleteNotification(UUID notificationId);
 }
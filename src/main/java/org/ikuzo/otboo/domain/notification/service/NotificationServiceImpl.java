@@ -2,6 +2,7 @@ package org.ikuzo.otboo.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.notification.dto.NotificationCreateRequest;
 import org.ikuzo.otboo.domain.notification.dto.NotificationDto;
 import org.ikuzo.otboo.domain.notification.entity.Level;
 import org.ikuzo.otboo.domain.notification.entity.Notification;
@@ -12,8 +13,11 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.event.message.NotificationCreatedEvent;
 import org.ikuzo.otboo.global.security.OtbooUserDetails;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -38,6 +43,8 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationMapper notificationMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
+    private final TotalCountResolver totalCountResolver;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -48,12 +55,31 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
         log.debug("새 알림 생성 시작: receiverIds={}", receiverIds);
-        List<Notification> notifications = receiverIds.stream()
-            .map(receiverId -> Notification.builder()
-                .receiverId(receiverId)
-                .title(title)
-                .content(content)
-                .level(level)
+        saveAndPublish(receiverIds.stream()
+            .map(receiverId -> new NotificationCreateRequest(receiverId, title, content, level))
+            .toList());
+        log.info("새 알림 생성 완료: receiverIds={}", receiverIds);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = "notifications", allEntries = true)
+    public void createAll(List<NotificationCreateRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        saveAndPublish(requests);
+        log.info("알림 일괄 생성 완료: {}건", requests.size());
+    }
+
+    // hibernate.jdbc.batch_size 단위 배치 INSERT 후 생성 이벤트 한 번 발행
+    private void saveAndPublish(List<NotificationCreateRequest> requests) {
+        List<Notification> notifications = requests.stream()
+            .map(request -> Notification.builder()
+                .receiverId(request.receiverId())
+                .title(request.title())
+                .content(request.content())
+                .level(request.level())
                 .build()
             ).toList();
         notificationRepository.saveAll(notifications);
@@ -64,16 +90,17 @@ public class NotificationServiceImpl implements NotificationService {
         eventPublisher.publishEvent(
             new NotificationCreatedEvent(createdNotifications, Instant.now())
         );
-        log.info("새 알림 생성 완료: receiverIds={}", receiverIds);
     }
 
     @Override
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "notifications",
-        key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName()",
+        key = "T(org.ikuzo.otboo.global.pagination.TotalCountResolver).cacheKey("
+            + "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName(), #countMode)",
         condition = "#cursor == null && #idAfter == null"
     )
-    public PageResponse<NotificationDto> getNotifications(Instant cursor, UUID idAfter, int limit) {
+    public PageResponse<NotificationDto> getNotifications(Instant cursor, UUID idAfter, int limit,
+                                                          TotalCountMode countMode) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         OtbooUserDetails principal = (OtbooUserDetails) authentication.getPrincipal();
         String userEmail = principal.getUsername();
@@ -96,7 +123,9 @@ public class NotificationServiceImpl implements NotificationService {
         String sortBy = "createdAt";
         String sortDirection = "DESCENDING";
 
-        long totalCount = notificationRepository.countByReceiverId(user.getId());
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> notificationRepository.countByReceiverId(user.getId()),
+            "notifications", user.getId());
 
         List<NotificationDto> content = notifications.stream()
             .map(notificationMapper::toDto)
@@ -115,7 +144,6 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "notifications", key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName()")
     public void deleteNotification(UUID notificationId) {
         Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> NotificationNotFoundException.notFoundException(notificationId));
 
@@ -128,5 +156,7 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notificationRepository.delete(notification);
+        TotalCountResolver.evictAllModes(Objects.requireNonNull(cacheManager.getCache("notifications")),
+            authentication.getName());
     }
 }
@@ -0,0 +1,12 @@
+package org.ikuzo.otboo.domain.recommendation.batch;
+
+import java.util.List;
+import org.ikuzo.otboo.domain.recommendation.entity.Recommend;
+import org.ikuzo.otboo.domain.recommendation.entity.RecommendationClothes;
+
+public record PrecomputedRecommendation(
+    Recommend recommend,
+    List<RecommendationClothes> clothes
+) {
+
+}
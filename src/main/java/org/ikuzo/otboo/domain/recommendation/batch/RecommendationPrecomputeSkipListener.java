@@ -0,0 +1,43 @@
+package org.ikuzo.otboo.domain.recommendation.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * 추천 사전 계산 스텝에서 건너뛴 항목 로깅 및 스텝 종료 시 건수 요약
+ * - 건너뛴 건수는 스텝 실행의 processSkipCount / writeSkipCount 로 집계됨
+ */
+@Slf4j
+public class RecommendationPrecomputeSkipListener
+    implements SkipListener<Weather, PrecomputedRecommendation>, StepExecutionListener {
+
+    @Override
+    public void onSkipInProcess(Weather weather, Throwable t) {
+        log.warn("[RecommendationPrecompute] 날씨 {}의 추천 계산 실패로 건너뜀: {}",
+            weather.getId(), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(PrecomputedRecommendation item, Throwable t) {
+        log.warn("[RecommendationPrecompute] 날씨 {}의 추천 저장 실패로 건너뜀: {}",
+            item.recommend().getWeather().getId(), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.warn("[RecommendationPrecompute] 날씨 읽기 실패로 건너뜀: {}", t.getMessage());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("[RecommendationPrecompute] 날씨 {}건 중 추천 {}건 저장, 빈 추천 {}건, 실패 {}건(계산 {}, 저장 {})",
+            stepExecution.getReadCount(), stepExecution.getWriteCount(),
+            stepExecution.getFilterCount(), stepExecution.getSkipCount(),
+            stepExecution.getProcessSkipCount(), stepExecution.getWriteSkipCount());
+        return stepExecution.getExitStatus();
+    }
+}
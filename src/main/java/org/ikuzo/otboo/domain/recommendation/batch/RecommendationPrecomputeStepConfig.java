@@ -0,0 +1,137 @@
+package org.ikuzo.otboo.domain.recommendation.batch;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.clothes.entity.Clothes;
+import org.ikuzo.otboo.domain.recommendation.entity.Recommend;
+import org.ikuzo.otboo.domain.recommendation.entity.RecommendationClothes;
+import org.ikuzo.otboo.domain.recommendation.repository.RecommendRepository;
+import org.ikuzo.otboo.domain.recommendation.repository.RecommendationClothesRepository;
+import org.ikuzo.otboo.domain.recommendation.service.engine.impl.ScoreBasedRecommendationEngine;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 날씨 배치 직후 새로 수집된 날씨마다 추천을 미리 계산해 recommends / recommendation_clothes 에 저장
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RecommendationPrecomputeStepConfig {
+
+    private static final Duration DEFAULT_LOOKBACK = Duration.ofMinutes(30);
+
+    // 배치는 외부 호출 없이 점수 기반 엔진만 사용
+    private final ScoreBasedRecommendationEngine recommendationEngine;
+    private final RecommendRepository recommendRepository;
+    private final RecommendationClothesRepository recommendationClothesRepository;
+
+    @Value("${recommendation.batch.chunk-size:100}")
+    private int chunkSize;
+
+    // 추천 계산/저장 실패 시 건너뛸 최대 건수 (초과하면 스텝 실패)
+    @Value("${recommendation.batch.skip-limit:1000}")
+    private int skipLimit;
+
+    // Step
+    @Bean
+    public Step precomputeRecommendationsStep(JobRepository jobRepository,
+                                              PlatformTransactionManager transactionManager,
+                                              JpaPagingItemReader<Weather> collectedWeatherReader) {
+        RecommendationPrecomputeSkipListener skipListener = new RecommendationPrecomputeSkipListener();
+        return new StepBuilder("precomputeRecommendationsStep", jobRepository)
+            .<Weather, PrecomputedRecommendation>chunk(chunkSize, transactionManager)
+            .reader(collectedWeatherReader)
+            .processor(recommendationProcessor())
+            .writer(recommendationWriter())
+            .faultTolerant()
+            .skip(Exception.class)
+            .skipLimit(skipLimit)
+            .listener((SkipListener<Weather, PrecomputedRecommendation>) skipListener)
+            .listener((StepExecutionListener) skipListener)
+            .build();
+    }
+
+    // Reader: 이번 배치 실행 이후 저장된 날씨
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<Weather> collectedWeatherReader(
+        EntityManagerFactory entityManagerFactory,
+        @Value("#{jobParameters['ts']}") Long ts
+    ) {
+        Instant since = (ts == null) ? Instant.now().minus(DEFAULT_LOOKBACK) : Instant.ofEpochMilli(ts);
+
+        return new JpaPagingItemReaderBuilder<Weather>()
+            .name("collectedWeatherReader")
+            .entityManagerFactory(entityManagerFactory)
+            .queryString("""
+                select w from Weather w
+                join fetch w.user u
+                where w.createdAt >= :since
+                order by w.createdAt asc, w.id asc
+                """)
+            .parameterValues(Map.of("since", since))
+            .pageSize(chunkSize)
+            .build();
+    }
+
+    // Processor: 기본 추천 엔진 실행 (예외는 스텝의 skip 정책으로 해당 건만 건너뜀, 빈 추천은 필터링)
+    private ItemProcessor<Weather, PrecomputedRecommendation> recommendationProcessor() {
+        return weather -> {
+            List<Clothes> picks = recommendationEngine.recommend(weather.getUser(), weather);
+            if (picks.isEmpty()) {
+                return null;
+            }
+
+            Recommend recommend = Recommend.builder()
+                .user(weather.getUser())
+                .weather(weather)
+                .build();
+
+            List<RecommendationClothes> clothes = picks.stream()
+                .map(c -> RecommendationClothes.builder()
+                    .recommend(recommend)
+                    .clothes(c)
+                    .build())
+                .toList();
+
+            return new PrecomputedRecommendation(recommend, clothes);
+        };
+    }
+
+    // Writer: 청크 단위 일괄 저장
+    private ItemWriter<PrecomputedRecommendation> recommendationWriter() {
+        return chunk -> {
+            List<Recommend> recommends = chunk.getItems().stream()
+                .map(PrecomputedRecommendation::recommend)
+                .toList();
+            List<RecommendationClothes> clothes = chunk.getItems().stream()
+                .flatMap(p -> p.clothes().stream())
+                .toList();
+
+            recommendRepository.saveAll(recommends);
+            recommendationClothesRepository.saveAll(clothes);
+
+            log.info("[RecommendationPrecompute] 추천 {}건 저장 (의상 {}건)",
+                recommends.size(), clothes.size());
+        };
+    }
+}
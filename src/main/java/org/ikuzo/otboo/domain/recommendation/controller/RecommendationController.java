@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.recommendation.controller.api.RecommendationApi;
 import org.ikuzo.otboo.domain.recommendation.dto.OotdDto;
+import org.ikuzo.otboo.domain.recommendation.dto.RecommendationAlternativesDto;
 import org.ikuzo.otboo.domain.recommendation.dto.RecommendationDto;
 import org.ikuzo.otboo.domain.recommendation.service.RecommendationService;
 import org.springframework.http.HttpStatus;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -25,20 +27,32 @@ public class RecommendationController implements RecommendationApi {
 
     @GetMapping
     @Override
-    public ResponseEntity<RecommendationDto> create(
+    public Mono<ResponseEntity<RecommendationDto>> create(
         @RequestParam UUID weatherId
     ) {
         log.info("[Controller] 추천 조회 요청 - weatherId: {}", weatherId);
 
-        RecommendationDto response = recommendationService.create(weatherId);
-
-        List<String> clothesName = response.clothes().stream()
-                .map(OotdDto::name)
+        return recommendationService.createReactive(weatherId)
+            .doOnSuccess(response -> {
+                List<String> clothesName = response.clothes().stream()
+                    .map(OotdDto::name)
                     .toList();
+                log.info("[Controller] 추천 조회 완료 - clothes: {}", clothesName);
+            })
+            .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+    }
 
-        log.info("[Controller] 추천 조회 완료 - clothes: {}", clothesName);
+    @GetMapping("/alternatives")
+    @Override
+    public Mono<ResponseEntity<RecommendationAlternativesDto>> alternatives(
+        @RequestParam UUID weatherId
+    ) {
+        log.info("[Controller] 대안 코디 조회 요청 - weatherId: {}", weatherId);
 
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return recommendationService.createAlternatives(weatherId)
+            .doOnSuccess(response -> log.info("[Controller] 대안 코디 조회 완료 - outfits: {}",
+                response.outfits().size()))
+            .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
 }
@@ -7,10 +7,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.UUID;
+import org.ikuzo.otboo.domain.recommendation.dto.RecommendationAlternativesDto;
 import org.ikuzo.otboo.domain.recommendation.dto.RecommendationDto;
 import org.ikuzo.otboo.global.exception.ErrorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "추천 관리", description = "추천 관련 API")
 public interface RecommendationApi {
@@ -34,7 +36,30 @@ public interface RecommendationApi {
             )
         )
     })
-    ResponseEntity<RecommendationDto> create(
+    Mono<ResponseEntity<RecommendationDto>> create(
+        @RequestParam UUID weatherId
+    );
+
+    @Operation(summary = "대안 코디 조회", description = "코디 점수 상위 K개 (recommendation.outfit-search.alternatives)")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "대안 코디 조회 성공",
+            content = @Content(
+                mediaType = "*/*",
+                schema = @Schema(implementation = RecommendationAlternativesDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "대안 코디 조회 실패",
+            content = @Content(
+                mediaType = "*/*",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    Mono<ResponseEntity<RecommendationAlternativesDto>> alternatives(
         @RequestParam UUID weatherId
     );
 
@@ -0,0 +1,17 @@
+package org.ikuzo.otboo.domain.recommendation.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 대안 코디 (코디 점수 내림차순)
+ */
+@Builder
+public record RecommendationAlternativesDto(
+    UUID weatherId,
+    UUID userId,
+    List<List<OotdDto>> outfits
+) {
+
+}
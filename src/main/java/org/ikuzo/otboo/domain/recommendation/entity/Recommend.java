@@ -1,7 +1,10 @@
 package org.ikuzo.otboo.domain.recommendation.entity;
 
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +19,12 @@ import org.ikuzo.otboo.global.base.BaseEntity;
 
 @Builder
 @Entity
-@Table(name = "recommends")
+@Table(
+    name = "recommends",
+    indexes = {
+        @Index(name = "idx_recommends_weather_created", columnList = "weather_id, created_at DESC"),
+        @Index(name = "idx_recommends_user", columnList = "user_id")
+    })
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +35,8 @@ public class Recommend extends BaseEntity {
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "weather_id", nullable = false)
+    // weathers 는 forecast_at 파티션 테이블 -> (id) 단독 FK 미생성
+    @JoinColumn(name = "weather_id", nullable = false,
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Weather weather;
 }
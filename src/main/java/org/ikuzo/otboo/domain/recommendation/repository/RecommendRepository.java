@@ -1,11 +1,20 @@
 package org.ikuzo.otboo.domain.recommendation.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.ikuzo.otboo.domain.recommendation.entity.Recommend;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RecommendRepository extends JpaRepository<Recommend, UUID> {
 
+    Optional<Recommend> findTop1ByWeatherIdOrderByCreatedAtDesc(UUID weatherId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Recommend r where r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
@@ -1,11 +1,30 @@
 package org.ikuzo.otboo.domain.recommendation.repository;
 
+import java.util.List;
 import java.util.UUID;
 import org.ikuzo.otboo.domain.recommendation.entity.RecommendationClothes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RecommendationClothesRepository extends JpaRepository<RecommendationClothes, UUID> {
 
+    @Query("""
+        select rc from RecommendationClothes rc
+        join fetch rc.clothes c
+        where rc.recommend.id = :recommendId
+        order by rc.createdAt asc
+        """)
+    List<RecommendationClothes> findAllByRecommendIdWithClothes(
+        @Param("recommendId") UUID recommendId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        delete from RecommendationClothes rc
+        where rc.recommend.id in (select r.id from Recommend r where r.user.id = :userId)
+        """)
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
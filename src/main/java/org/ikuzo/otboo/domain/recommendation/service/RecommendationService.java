@@ -1,10 +1,18 @@
 package org.ikuzo.otboo.domain.recommendation.service;
 
 import java.util.UUID;
+import org.ikuzo.otboo.domain.recommendation.dto.RecommendationAlternativesDto;
 import org.ikuzo.otboo.domain.recommendation.dto.RecommendationDto;
+import reactor.core.publisher.Mono;
 
 public interface RecommendationService {
 
-    RecommendationDto create(UUID weatherId);
+    Mono<RecommendationDto> createReactive(UUID weatherId);
+
+    Mono<RecommendationAlternativesDto> createAlternatives(UUID weatherId);
+
+    void invalidateStored(UUID userId);
+
+    void invalidateAllCached();
 
 }
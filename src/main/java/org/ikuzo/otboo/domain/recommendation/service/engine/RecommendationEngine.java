@@ -4,9 +4,19 @@ import java.util.List;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public interface RecommendationEngine {
 
     List<Clothes> recommend(User owner, Weather weather);
 
+    /**
+     * 비동기 추천 (기본: 동기 추천을 boundedElastic 에서 실행, 원격 호출 엔진은 재정의)
+     */
+    default Mono<List<Clothes>> recommendReactive(User owner, Weather weather) {
+        return Mono.fromCallable(() -> recommend(owner, weather))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
 }
@@ -0,0 +1,100 @@
+package org.ikuzo.otboo.domain.recommendation.service.engine.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.clothes.entity.Clothes;
+import org.ikuzo.otboo.domain.recommendation.service.engine.RecommendationEngine;
+import org.ikuzo.otboo.domain.user.entity.User;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 점수 기반 엔진과 LLM 엔진을 동시에 실행하는 추천 엔진
+ * - LLM 결과가 마감 시간(기본 800ms) 안에 오면 LLM 결과, 아니면 점수 기반 결과
+ * - 둘 다 비어 있으면 랜덤 엔진
+ * - 지표: recommendation.engine.latency(engine, outcome), recommendation.hedge.winner(engine)
+ */
+@Primary
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HedgedRecommendationEngine implements RecommendationEngine {
+
+    private static final String ENGINE_SCORE = "score";
+    private static final String ENGINE_LLM = "llm";
+    private static final String ENGINE_RANDOM = "random";
+
+    private final ScoreBasedRecommendationEngine scoreEngine;
+    private final LLMRecommendationEngine llmEngine;
+    private final RandomRecommendationEngine randomEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${recommendation.hedge.llm-deadline-ms:800}")
+    private long llmDeadlineMs;
+
+    @Override
+    public List<Clothes> recommend(User owner, Weather weather) {
+        return recommendReactive(owner, weather).block();
+    }
+
+    @Override
+    public Mono<List<Clothes>> recommendReactive(User owner, Weather weather) {
+        Mono<List<Clothes>> score = timed(ENGINE_SCORE, scoreEngine.recommendReactive(owner, weather))
+            .onErrorResume(e -> {
+                log.warn("[HedgedRecommendationEngine] 점수 기반 추천 실패: {}", e.toString());
+                return Mono.just(List.of());
+            });
+
+        Mono<List<Clothes>> llm = timed(ENGINE_LLM, llmEngine.pickReactive(owner, weather))
+            .timeout(Duration.ofMillis(llmDeadlineMs), Mono.just(List.of()))
+            .onErrorResume(e -> Mono.just(List.of()));
+
+        return Mono.zip(score, llm)
+            .flatMap(results -> {
+                if (!results.getT2().isEmpty()) {
+                    return Mono.just(win(ENGINE_LLM, results.getT2()));
+                }
+                if (!results.getT1().isEmpty()) {
+                    return Mono.just(win(ENGINE_SCORE, results.getT1()));
+                }
+                return Mono.fromCallable(() -> win(ENGINE_RANDOM, randomEngine.recommend(owner, weather)))
+                    .subscribeOn(Schedulers.boundedElastic());
+            });
+    }
+
+    private List<Clothes> win(String engine, List<Clothes> result) {
+        meterRegistry.counter("recommendation.hedge.winner", "engine", engine).increment();
+        log.info("[HedgedRecommendationEngine] 추천 엔진 선택 - engine: {}, size: {}", engine, result.size());
+        return result;
+    }
+
+    private Mono<List<Clothes>> timed(String engine, Mono<List<Clothes>> source) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return source.doFinally(signal -> Timer.builder("recommendation.engine.latency")
+                .tag("engine", engine)
+                .tag("outcome", outcome(signal))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos)));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            case CANCEL -> "timeout";
+            default -> signal.name().toLowerCase();
+        };
+    }
+}
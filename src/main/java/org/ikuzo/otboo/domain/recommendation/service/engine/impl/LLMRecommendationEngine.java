@@ -12,14 +12,15 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.clothes.config.OpenAiProps;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
-import org.ikuzo.otboo.domain.clothes.entity.ClothesAttributeDef;
 import org.ikuzo.otboo.domain.clothes.extractions.OpenAiChatClient;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
 import org.ikuzo.otboo.domain.recommendation.dto.request.RecommendRequest;
 import org.ikuzo.otboo.domain.recommendation.dto.response.RecommendResponse;
 import org.ikuzo.otboo.domain.recommendation.service.engine.RecommendationEngine;
 import org.ikuzo.otboo.domain.recommendation.support.OpenAiRecommendPromptBuilder;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,60 +33,83 @@ import reactor.core.scheduler.Schedulers;
 public class LLMRecommendationEngine implements RecommendationEngine {
 
     private static final double OPENAI_TEMPERATURE = 0.3;
+    private static final int FALLBACK_SIZE = 3;
 
     private final ClothesRepository clothesRepository;
     private final OpenAiChatClient chatClient;
     private final OpenAiProps openAiProps;
     private final ObjectMapper objectMapper;
     private final RecommendationEngine randomEngine;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
 
     public LLMRecommendationEngine(
         ClothesRepository clothesRepository,
         OpenAiChatClient chatClient,
         OpenAiProps openAiProps,
         ObjectMapper objectMapper,
-        @Qualifier("randomRecommendationEngine") RecommendationEngine randomEngine
+        @Qualifier("randomRecommendationEngine") RecommendationEngine randomEngine,
+        WardrobeIndexProvider wardrobeIndexProvider
     ) {
         this.clothesRepository = clothesRepository;
         this.chatClient = chatClient;
         this.openAiProps = openAiProps;
         this.objectMapper = objectMapper;
         this.randomEngine = randomEngine;
+        this.wardrobeIndexProvider = wardrobeIndexProvider;
     }
 
     @Override
     public List<Clothes> recommend(User owner, Weather weather) {
+        return recommendReactive(owner, weather).block();
+    }
 
-        log.info("[OpenAiRecommendationEngine] recommendation start");
+    /**
+     * 옷장 조회(커넥션 반납) -> OpenAI 호출(논블로킹) -> 선택된 의상 조회 순으로 진행
+     * - LLM 결과가 없으면 랜덤 엔진으로 대체
+     */
+    @Override
+    public Mono<List<Clothes>> recommendReactive(User owner, Weather weather) {
+        return pickReactive(owner, weather)
+            .flatMap(result -> result.isEmpty()
+                ? Mono.fromCallable(() -> fallback(owner, weather))
+                    .subscribeOn(Schedulers.boundedElastic())
+                : Mono.just(result));
+    }
 
-        List<Clothes> clothes = clothesRepository.findByOwnerId(owner.getId());
-        if (clothes == null || clothes.isEmpty()) {
-            log.info("[LLM-REC] empty wardrobe for user={}", owner.getId());
-            return List.of();
-        }
+    /**
+     * LLM 추천만 수행 (실패/빈 응답이면 빈 목록, 대체 추천 없음)
+     */
+    public Mono<List<Clothes>> pickReactive(User owner, Weather weather) {
+        return Mono.fromCallable(() -> {
+                log.info("[OpenAiRecommendationEngine] recommendation start");
+                return clothesRepository.findProjectionsByOwnerId(owner.getId(), null);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(clothes -> {
+                if (clothes.isEmpty()) {
+                    log.info("[LLM-REC] empty wardrobe for user={}", owner.getId());
+                    return Mono.just(List.<Clothes>of());
+                }
+                return pickFrom(owner, weather, clothes);
+            });
+    }
 
+    private Mono<List<Clothes>> pickFrom(User owner, Weather weather,
+                                         List<ClothesProjection> clothes) {
         RecommendRequest request = toRequest(owner, weather, clothes);
 
         String systemPrompt = OpenAiRecommendPromptBuilder.systemPrompt();
         String userPrompt = OpenAiRecommendPromptBuilder.userPrompt(request);
 
-        String content = Mono.defer(() -> callOpenAi(systemPrompt, userPrompt))
-            .subscribeOn(Schedulers.boundedElastic())
+        return Mono.defer(() -> callOpenAi(systemPrompt, userPrompt))
             .timeout(Duration.ofSeconds(12))
             .onErrorResume(e -> {
                 log.warn("[LLM-REC] OpenAI call failed: {}", e.toString());
                 return Mono.just("{}");
             })
-            .block();
-
-        RecommendResponse res = parseResponse(content);
-
-        List<Clothes> result = toClothesSorted(res, clothes);
-
-        if (result.isEmpty()) {
-            return fallback(owner, weather, clothes);
-        }
-        return result;
+            .map(this::parseResponse)
+            .publishOn(Schedulers.boundedElastic())
+            .map(res -> toClothesSorted(res, clothes));
     }
 
     private Mono<String> callOpenAi(String systemPrompt, String userPrompt) {
@@ -93,7 +117,8 @@ public class LLMRecommendationEngine implements RecommendationEngine {
             OPENAI_TEMPERATURE);
     }
 
-    private RecommendRequest toRequest(User owner, Weather weather, List<Clothes> clothes) {
+    private RecommendRequest toRequest(User owner, Weather weather,
+                                       List<ClothesProjection> clothes) {
         return new RecommendRequest(
             owner.getId(),
             owner.getGender() == null ? null : owner.getGender().name(),
@@ -110,26 +135,19 @@ public class LLMRecommendationEngine implements RecommendationEngine {
         );
     }
 
-    private RecommendRequest.WardrobeItem toClothesItem(Clothes c) {
-        List<String> attrs = new ArrayList<>();
-        if (c.getAttributes() != null) {
-            c.getAttributes().stream()
-                .limit(6)
-                .forEach(a -> {
-                    try {
-                        ClothesAttributeDef def = a.getDefinition();
-                        String defName =
-                            (def != null && def.getName() != null) ? def.getName() : "속성";
-                        String value = a.getOptionValue() == null ? "" : a.getOptionValue();
-                        attrs.add(defName + ":" + value);
-                    } catch (Exception ignore) {
-                    }
-                });
-        }
+    private RecommendRequest.WardrobeItem toClothesItem(ClothesProjection c) {
+        List<String> attrs = c.attributes().stream()
+            .limit(6)
+            .map(a -> {
+                String defName = a.definitionName() != null ? a.definitionName() : "속성";
+                String value = a.optionValue() == null ? "" : a.optionValue();
+                return defName + ":" + value;
+            })
+            .toList();
         return new RecommendRequest.WardrobeItem(
-            c.getId(),
-            c.getName(),
-            c.getType() == null ? "ETC" : c.getType().name(),
+            c.id(),
+            c.name(),
+            c.type() == null ? "ETC" : c.type().name(),
             attrs
         );
     }
@@ -162,7 +180,8 @@ public class LLMRecommendationEngine implements RecommendationEngine {
     }
 
     // == Clothes 재조회 + 정렬 ==
-    private List<Clothes> toClothesSorted(RecommendResponse res, List<Clothes> wardrobe) {
+    private List<Clothes> toClothesSorted(RecommendResponse res,
+                                          List<ClothesProjection> wardrobe) {
         if (res == null || res.picks() == null || res.picks().isEmpty()) {
             return List.of();
         }
@@ -174,13 +193,16 @@ public class LLMRecommendationEngine implements RecommendationEngine {
                 Math::max
             ));
 
-        // 후보 id만 추림
+        // 후보 id만 추림 (옷장에 없는 id 제외)
         Set<UUID> idSet = scoreMap.keySet();
+        List<UUID> pickedIds = wardrobe.stream()
+            .map(ClothesProjection::id)
+            .filter(idSet::contains)
+            .toList();
 
         // 점수 내림차순 정렬
-        return wardrobe.stream()
-            .filter(c -> idSet.contains(c.getId())).sorted(Comparator.comparingDouble(
-                c -> -scoreMap.getOrDefault(c.getId(), 0.0)))
+        return clothesRepository.findAllById(pickedIds).stream()
+            .sorted(Comparator.comparingDouble(c -> -scoreMap.getOrDefault(c.getId(), 0.0)))
             .collect(Collectors.toCollection(ArrayList::new));
     }
 
@@ -192,12 +214,16 @@ public class LLMRecommendationEngine implements RecommendationEngine {
         return Math.max(0.0, Math.min(100.0, score)) / 100.0;
     }
 
-    private List<Clothes> fallback(User owner, Weather weather, List<Clothes> wardrobe) {
+    private List<Clothes> fallback(User owner, Weather weather) {
         try {
             return randomEngine.recommend(owner, weather);
         } catch (Exception e) {
-            int n = Math.min(3, wardrobe.size());
-            return wardrobe.subList(0, n);
+            // 캐시된 옷장 인덱스에서 타입별 첫 의상 id만 골라 해당 건만 조회 (옷장 전체 엔티티 로딩 방지)
+            List<UUID> ids = wardrobeIndexProvider.get(owner.getId()).byType().values().stream()
+                .map(features -> features.get(0).id())
+                .limit(FALLBACK_SIZE)
+                .toList();
+            return ids.isEmpty() ? List.of() : clothesRepository.findAllById(ids);
         }
     }
 }
@@ -1,14 +1,21 @@
 package org.ikuzo.otboo.domain.recommendation.service.engine.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
 import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
 import org.ikuzo.otboo.domain.recommendation.service.engine.RecommendationEngine;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndex;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.springframework.stereotype.Component;
@@ -19,6 +26,7 @@ public class RandomRecommendationEngine implements RecommendationEngine {
 
     private static final double OUTER_THRESHOLD_C = 25.0;
     private final ClothesRepository clothesRepository;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
 
     @Override
     public List<Clothes> recommend(User owner, Weather weather) {
@@ -38,20 +46,41 @@ public class RandomRecommendationEngine implements RecommendationEngine {
         return current != null && current <= OUTER_THRESHOLD_C;
     }
 
+    /**
+     * 캐시된 옷장 인덱스에서 타입별로 균등 추출 후 한 번에 조회
+     */
     private List<Clothes> pickRandomClothesSet(UUID ownerId, boolean includeOuter) {
-        Clothes top    = pickRandom(ownerId, ClothesType.TOP);
-        Clothes bottom = pickRandom(ownerId, ClothesType.BOTTOM);
-        Clothes shoes  = pickRandom(ownerId, ClothesType.SHOES);
-        Clothes accessory = pickRandom(ownerId, ClothesType.ACCESSORY);
-        Clothes outer  = includeOuter ? pickRandom(ownerId, ClothesType.OUTER) : null;
+        WardrobeIndex index = wardrobeIndexProvider.get(ownerId);
+        if (index.isEmpty()) {
+            return List.of();
+        }
+
+        UUID top = pickRandom(index, ClothesType.TOP);
+        UUID bottom = pickRandom(index, ClothesType.BOTTOM);
+        UUID shoes = pickRandom(index, ClothesType.SHOES);
+        UUID accessory = pickRandom(index, ClothesType.ACCESSORY);
+        UUID outer = includeOuter ? pickRandom(index, ClothesType.OUTER) : null;
+
+        List<UUID> ids = Stream.of(outer, top, bottom, shoes, accessory)
+            .filter(Objects::nonNull)
+            .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
 
-        return Stream.of(outer,top, bottom, shoes, accessory)
+        Map<UUID, Clothes> byId = clothesRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Clothes::getId, Function.identity()));
+        return ids.stream()
+            .map(byId::get)
             .filter(Objects::nonNull)
             .toList();
     }
 
-    private Clothes pickRandom(UUID ownerId, ClothesType type) {
-        return clothesRepository.pickRandomClothes(ownerId, type.name()).orElse(null);
+    private UUID pickRandom(WardrobeIndex index, ClothesType type) {
+        List<WardrobeFeature> candidates = index.get(type);
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())).id();
     }
 }
-
@@ -1,37 +1,56 @@
 package org.ikuzo.otboo.domain.recommendation.service.engine.impl;
 
-import java.time.Instant;
-import java.time.ZoneId;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
-import org.ikuzo.otboo.domain.clothes.entity.ClothesAttribute;
 import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
 import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
 import org.ikuzo.otboo.domain.recommendation.service.engine.RecommendationEngine;
-import org.ikuzo.otboo.domain.recommendation.support.KmaPerceivedTemperature;
+import org.ikuzo.otboo.domain.recommendation.support.OutfitSearch;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature.Season;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature.Style;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature.Thickness;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndex;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeIndexProvider;
+import org.ikuzo.otboo.domain.recommendation.support.WeatherContext;
+import org.ikuzo.otboo.domain.recommendation.support.WeatherContextProvider;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-@Primary
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class
 ScoreBasedRecommendationEngine implements RecommendationEngine {
 
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
-
     private final ClothesRepository clothesRepository;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
+    private final WeatherContextProvider weatherContextProvider;
+    private final MeterRegistry meterRegistry;
+
+    // 조합 탐색 모드(false 면 기존 카테고리별 탐욕 선택)
+    @Value("${recommendation.outfit-search.enabled:false}")
+    private boolean outfitSearchEnabled;
+
+    @Value("${recommendation.outfit-search.max-nodes:20000}")
+    private long outfitSearchMaxNodes;
+
+    @Value("${recommendation.outfit-search.time-budget-ms:50}")
+    private long outfitSearchTimeBudgetMs;
 
     // 아우터 판단 구간과 보너스
     private static final double OUTER_DECISION_LOWER = 17.0;
@@ -41,10 +60,6 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     private static final int BONUS_TOP_THIN_WITH_OUTER = 2; // 얇은 상의 + 아우터
     private static final int BONUS_TOP_MEDIUM_NO_OUTER = 2; // 보통 상의 + 아우터 없음
 
-    // 과도기 온도 기준
-    private static final double WINTER_TRANSITION_TEMP = 12.0;  // 이하면 겨울로 보는 쪽
-    private static final double SUMMER_TRANSITION_TEMP = 25.0;  // 이상이면 여름으로 보는 쪽
-
     // 계절 약가점
     private static final int SEASON_PREF_EXACT = 3;  // 현재 계절 정확 일치
     private static final int SEASON_PREF_ALL = 1;  // 사계절
@@ -62,7 +77,6 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     private static final int STYLE_EXACT = 5;
     private static final int STYLE_COMPAT = 3;
     private static final int STYLE_DEFAULT = 0;
-    private static final String STYLE_ANY = "기본";
 
     // 재질 감점(강수 확률 ≥50%)
     private static final int PENALTY_RAIN_SUEDE = 3;
@@ -73,92 +87,81 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     // 동률/근접 후보 내 다양성
     private static final int NEAR_BEST_DELTA = 2;
 
-
-    private static final Map<String, Set<String>> COMPAT = Map.of(
-        "캐주얼", Set.of("캐주얼", "빈티지", "러블리"),
-        "미니멀", Set.of("미니멀", "포멀", "시크"),
-        "포멀", Set.of("포멀", "미니멀", "시크"),
-        "시크", Set.of("시크", "미니멀", "포멀"),
-        "빈티지", Set.of("빈티지", "캐주얼"),
-        "러블리", Set.of("러블리", "캐주얼"),
-        "스포츠", Set.of("스포츠", "캐주얼")
-    );
-
     @Override
     public List<Clothes> recommend(User owner, Weather weather) {
-        final double ta = nz(weather.getTemperatureMax(), 20.0);
-        final double rh = nz(weather.getHumidityCurrent(), 50.0);
-        final double wind = windMs(weather);
-        final double minC = nz(weather.getTemperatureMin(), ta);
+        return recommend(owner, weatherContextProvider.get(weather));
+    }
+
+    /**
+     * 격자 단위로 미리 계산된 날씨 컨텍스트로 추천 (사용자별로는 민감도 보정만 수행)
+     */
+    public List<Clothes> recommend(User owner, WeatherContext weather) {
         final Double rawSensitivity = toDoubleSafe(owner.getTemperatureSensitivity());
         final double personalSensitivity = nz(rawSensitivity, 3.0);
 
-        final Instant forecastUtc = firstNonNull(
-            toInstantSafe(weather.getForecastAt()),
-            toInstantSafe(weather.getCreatedAt()),
-            Instant.now()
-        );
-        double kmaTmpDay = KmaPerceivedTemperature.compute(ta, rh, wind, forecastUtc);
-        double kmaTmpNight = KmaPerceivedTemperature.compute(minC, rh, wind, forecastUtc);
-        final double ptDay = calculatePersonalTemperature(kmaTmpDay, personalSensitivity);
-        final double ptNight = calculatePersonalTemperature(kmaTmpNight, personalSensitivity);
+        final double ptDay = weather.personalDay(personalSensitivity);
+        final double ptNight = weather.personalNight(personalSensitivity);
 
-        final String seasonNow = seasonByMonthWithTransition(forecastUtc, ptDay);
-        final String precipitation = enumName(weather.getPrecipitationType());
-        final Integer precipitationProb = toInt(weather.getPrecipitationProbability());
+        final Season seasonNow = weather.season(ptDay);
+        final String precipitation = weather.precipitation();
+        final Integer precipitationProb = weather.precipitationProbability();
 
         final boolean outerNeeded = isOuterNeeded(ptDay, ptNight);
 
         log.info("ptDay: {}, ptNight: {}, seasonNow: {}", ptDay, ptNight, seasonNow);
 
-        List<Clothes> all = clothesRepository.findByOwnerId(owner.getId());
-        if (all.isEmpty()) {
+        WardrobeIndex byType = wardrobeIndexProvider.get(owner.getId());
+        if (byType.isEmpty()) {
             return List.of();
         }
 
-        Map<ClothesType, List<Clothes>> byType = all.stream()
-            .collect(Collectors.groupingBy(Clothes::getType));
+        if (outfitSearchEnabled) {
+            List<OutfitSearch.Outfit> outfits = searchOutfits(byType, outerNeeded, seasonNow,
+                precipitation, precipitationProb, ptDay, ptNight, 1);
+            return outfits.isEmpty() ? List.of() : toClothes(outfits.get(0).items());
+        }
 
         if (outerNeeded) {
             log.info("아우터 점수 계산 실시");
-            Clothes outer = pickBestWithFloor(byType.get(ClothesType.OUTER), seasonNow, null,
-                precipitation, precipitationProb, FLOOR_OUTER_REQUIRED, ptDay, ptNight);
+            WardrobeFeature outer = pickBestWithFloor(byType.get(ClothesType.OUTER), seasonNow,
+                null, precipitation, precipitationProb, FLOOR_OUTER_REQUIRED, ptDay, ptNight);
 
             if (outer == null) {
                 log.info("아우터 필요하지만 후보 미달 - OUTER 없이 진행");
-                return pickWithoutOuter(byType, seasonNow, precipitation, precipitationProb, ptDay,
-                    ptNight);
+                return toClothes(pickWithoutOuter(byType, seasonNow, precipitation,
+                    precipitationProb, ptDay, ptNight));
             }
 
-            log.info("선택된 아우터 - {}", outer.getName());
+            log.info("선택된 아우터 - {}", outer.name());
 
-            List<Clothes> result = new ArrayList<>();
+            List<WardrobeFeature> result = new ArrayList<>();
             result.add(outer);
 
             log.info("상의/드레스 점수 계산 실시");
-            Clothes top = pickBestWithFloor(byType.get(ClothesType.TOP), seasonNow, outer,
-                precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
-            Clothes dress = pickBestWithFloor(byType.get(ClothesType.DRESS), seasonNow, outer,
+            WardrobeFeature top = pickBestWithFloor(byType.get(ClothesType.TOP), seasonNow, outer,
                 precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
+            WardrobeFeature dress = pickBestWithFloor(byType.get(ClothesType.DRESS), seasonNow,
+                outer, precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
             log.info("상의 vs 드레스 비교");
-            Clothes inner = betterOf(top, dress, seasonNow, outer, precipitation, precipitationProb,
-                ptDay, ptNight);
-            log.info("아우터의 inner로 골라진 첫 의상 - {}", inner == null ? null : inner.getName());
+            WardrobeFeature inner = betterOf(top, dress, seasonNow, outer, precipitation,
+                precipitationProb, ptDay, ptNight);
+            log.info("아우터의 inner로 골라진 첫 의상 - {}", inner == null ? null : inner.name());
 
             if (inner != null) {
                 result.add(inner);
-                if (inner.getType() == ClothesType.TOP) {
+                if (inner.type() == ClothesType.TOP) {
                     log.info("하의 점수 계산 실시");
-                    Clothes bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow,
-                        outer, precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
+                    WardrobeFeature bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM),
+                        seasonNow, outer, precipitation, precipitationProb, FLOOR_BOTTOM, ptDay,
+                        ptNight);
                     if (bottom != null) {
                         result.add(bottom);
                     }
                 }
             } else {
                 log.info("상의/드레스 없음 - 하의 점수 계산 실시");
-                Clothes bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow, outer,
-                    precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
+                WardrobeFeature bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM),
+                    seasonNow, outer, precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
                 if (bottom != null) {
                     result.add(bottom);
                 }
@@ -178,16 +181,124 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
                 pickBestWithFloor(byType.get(ClothesType.ACCESSORY), seasonNow, outer,
                     precipitation, precipitationProb, FLOOR_MISC, ptDay, ptNight));
 
-            return result;
+            return toClothes(result);
         }
 
         log.info("아우터 불필요");
-        return pickWithoutOuter(byType, seasonNow, precipitation, precipitationProb, ptDay,
-            ptNight);
+        return toClothes(pickWithoutOuter(byType, seasonNow, precipitation, precipitationProb,
+            ptDay, ptNight));
+    }
+
+    /**
+     * 코디 전체 점수 상위 K개 (대안 코디 제공용, outfit-search.enabled 와 무관하게 조합 탐색 사용)
+     */
+    public List<List<Clothes>> recommendOutfits(User owner, Weather weather, int k) {
+        WeatherContext context = weatherContextProvider.get(weather);
+        final double personalSensitivity = nz(toDoubleSafe(owner.getTemperatureSensitivity()), 3.0);
+        final double ptDay = context.personalDay(personalSensitivity);
+        final double ptNight = context.personalNight(personalSensitivity);
+
+        WardrobeIndex byType = wardrobeIndexProvider.get(owner.getId());
+        if (byType.isEmpty()) {
+            return List.of();
+        }
+
+        List<OutfitSearch.Outfit> outfits = searchOutfits(byType, isOuterNeeded(ptDay, ptNight),
+            context.season(ptDay), context.precipitation(), context.precipitationProbability(), ptDay,
+            ptNight, k);
+
+        // 후보 전체 의상을 한 번에 조회
+        Map<UUID, Clothes> byId = findClothes(outfits.stream()
+            .flatMap(outfit -> outfit.items().stream())
+            .map(WardrobeFeature::id)
+            .distinct()
+            .toList());
+        return outfits.stream()
+            .map(outfit -> outfit.items().stream()
+                .map(item -> byId.get(item.id()))
+                .filter(Objects::nonNull)
+                .toList())
+            .filter(clothes -> !clothes.isEmpty())
+            .toList();
     }
 
     // ───────── 내부 선택 로직 ─────────
 
+    /**
+     * 탐욕 선택과 같은 점수 함수로 코디 전체 점수를 매겨 분기 한정 탐색
+     */
+    private List<OutfitSearch.Outfit> searchOutfits(
+        WardrobeIndex byType,
+        boolean outerNeeded,
+        Season seasonNow,
+        String precipitation,
+        Integer precipitationProb,
+        double ptDay,
+        double ptNight,
+        int k
+    ) {
+        OutfitSearch.Scorer scorer = new OutfitSearch.Scorer() {
+            @Override
+            public int score(WardrobeFeature item, WardrobeFeature anchor) {
+                return totalScore(item, seasonNow, precipitation, precipitationProb, anchor, ptDay,
+                    ptNight);
+            }
+
+            @Override
+            public int upperBound(WardrobeFeature item) {
+                return upperBoundScore(item, seasonNow, precipitation, precipitationProb, ptDay,
+                    ptNight);
+            }
+
+            @Override
+            public int floor(ClothesType type) {
+                return floorOf(type);
+            }
+        };
+
+        OutfitSearch.Result result = OutfitSearch.search(byType, outerNeeded, scorer, k,
+            outfitSearchMaxNodes, Duration.ofMillis(outfitSearchTimeBudgetMs));
+
+        DistributionSummary.builder("recommendation.outfit.search.nodes")
+            .tag("outcome", result.budgetExhausted() ? "budget_exhausted" : "complete")
+            .register(meterRegistry)
+            .record(result.nodesExpanded());
+        log.info("[ScoreBasedRecommendationEngine] 코디 조합 탐색 - nodes: {}, exhausted: {}, found: {}",
+            result.nodesExpanded(), result.budgetExhausted(), result.outfits().size());
+        return result.outfits();
+    }
+
+    /**
+     * 기준 의상과 무관한 점수 상한 (스타일 최고점 + 레이어링 최고 가점)
+     */
+    private int upperBoundScore(
+        WardrobeFeature c,
+        Season seasonNow,
+        String precipitation,
+        Integer precipitationProb,
+        double ptDay,
+        double ptNight
+    ) {
+        int bound = seasonAffinityScore(seasonNow, c.season())
+            + STYLE_EXACT
+            + materialPenalty(c, precipitation, precipitationProb)
+            + thicknessScore(c, ptDay, ptNight);
+        if ((c.type() == ClothesType.TOP || c.type() == ClothesType.DRESS)
+            && ptDay >= OUTER_DECISION_LOWER && ptDay <= OUTER_DECISION_UPPER) {
+            bound += Math.max(BONUS_TOP_THIN_WITH_OUTER, BONUS_TOP_MEDIUM_NO_OUTER);
+        }
+        return bound;
+    }
+
+    private static int floorOf(ClothesType type) {
+        return switch (type) {
+            case OUTER -> FLOOR_OUTER_REQUIRED;
+            case TOP, DRESS -> FLOOR_PRIMARY;
+            case BOTTOM -> FLOOR_BOTTOM;
+            default -> FLOOR_MISC;
+        };
+    }
+
     /**
      * 최저 온도 < 17 이면 아우터가 필요한 상황으로 판정 최고 온도 > 23 이면 아우터가 필요없는 상황으로 판정
      */
@@ -204,36 +315,36 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 아우터가 불필요한 경우의 의상 추천 로직
      */
-    private List<Clothes> pickWithoutOuter(
-        Map<ClothesType, List<Clothes>> byType,
-        String seasonNow,
+    private List<WardrobeFeature> pickWithoutOuter(
+        WardrobeIndex byType,
+        Season seasonNow,
         String precipitation,
         Integer precipitationProb,
         double ptDay,
         double ptNight
     ) {
-        List<Clothes> result = new ArrayList<>();
+        List<WardrobeFeature> result = new ArrayList<>();
 
         log.info("상의/드레스 점수 계산 실시");
-        Clothes topCandidate = pickBestWithFloor(byType.get(ClothesType.TOP), seasonNow, null,
-            precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
-        Clothes dressCandidate = pickBestWithFloor(byType.get(ClothesType.DRESS), seasonNow, null,
-            precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
+        WardrobeFeature topCandidate = pickBestWithFloor(byType.get(ClothesType.TOP), seasonNow,
+            null, precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
+        WardrobeFeature dressCandidate = pickBestWithFloor(byType.get(ClothesType.DRESS),
+            seasonNow, null, precipitation, precipitationProb, FLOOR_PRIMARY, ptDay, ptNight);
 
-        log.info("모든 상의 후보 수: {}", byType.getOrDefault(ClothesType.TOP, List.of()).size());
+        log.info("모든 상의 후보 수: {}", sizeOf(byType.get(ClothesType.TOP)));
         log.info("상의 - {}, 드레스 - {}",
-            topCandidate != null ? topCandidate.getName() : "없음",
-            dressCandidate != null ? dressCandidate.getName() : "없음");
+            topCandidate != null ? topCandidate.name() : "없음",
+            dressCandidate != null ? dressCandidate.name() : "없음");
 
-        Clothes primary = betterOf(topCandidate, dressCandidate, seasonNow, null,
+        WardrobeFeature primary = betterOf(topCandidate, dressCandidate, seasonNow, null,
             precipitation, precipitationProb, ptDay, ptNight);
-        log.info("아우터가 필요 없는 상황에서 골라진 첫 의상 - {}", primary == null ? null : primary.getName());
+        log.info("아우터가 필요 없는 상황에서 골라진 첫 의상 - {}", primary == null ? null : primary.name());
 
         if (primary != null) {
             result.add(primary);
-            if (primary.getType() == ClothesType.TOP) {
+            if (primary.type() == ClothesType.TOP) {
                 log.info("하의 점수 계산 실시");
-                Clothes bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow,
+                WardrobeFeature bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow,
                     primary,
                     precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
                 if (bottom != null) {
@@ -241,8 +352,8 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
                 }
             }
         } else {
-            Clothes bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow, null,
-                precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
+            WardrobeFeature bottom = pickBestWithFloor(byType.get(ClothesType.BOTTOM), seasonNow,
+                null, precipitation, precipitationProb, FLOOR_BOTTOM, ptDay, ptNight);
             if (bottom != null) {
                 result.add(bottom);
             }
@@ -268,10 +379,10 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 최고 점수를 받은 의상을 기준으로 2점 이내의 의상들을 랜덤 추천 임계점을 통과 못 하면 해당 카테고리는 추천하지 않음
      */
-    private Clothes pickBestWithFloor(
-        List<Clothes> list,
-        String seasonNow,
-        Clothes anchor,
+    private WardrobeFeature pickBestWithFloor(
+        List<WardrobeFeature> list,
+        Season seasonNow,
+        WardrobeFeature anchor,
         String precipitation,
         Integer precipitationProb,
         int floorTotal,
@@ -281,15 +392,13 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
         if (list == null || list.isEmpty()) {
             return null;
         }
-        String anchorStyle = (anchor == null) ? null : attr(anchor, "스타일");
-
-        List<Clothes> passed = new ArrayList<>();
+        List<WardrobeFeature> passed = new ArrayList<>();
         List<Integer> scores = new ArrayList<>();
         int bestPassed = Integer.MIN_VALUE;
 
-        for (Clothes c : list) {
-            int s = totalScore(c, seasonNow, anchorStyle, precipitation, precipitationProb, anchor,
-                ptDay, ptNight);
+        for (WardrobeFeature c : list) {
+            int s = totalScore(c, seasonNow, precipitation, precipitationProb, anchor, ptDay,
+                ptNight);
             if (s >= floorTotal) {
                 passed.add(c);
                 scores.add(s);
@@ -303,7 +412,7 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
         }
 
         int cutoff = bestPassed - NEAR_BEST_DELTA;
-        List<Clothes> pool = new ArrayList<>();
+        List<WardrobeFeature> pool = new ArrayList<>();
         for (int i = 0; i < passed.size(); i++) {
             if (scores.get(i) >= cutoff) {
                 pool.add(passed.get(i));
@@ -317,38 +426,34 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
      * 총점 = (계절 점수) + (스타일 점수) + (재질×강수 감점) + (두께 점수)
      */
     private int totalScore(
-        Clothes c,
-        String seasonNow,
-        String anchorStyle,
+        WardrobeFeature c,
+        Season seasonNow,
         String precipitation,
         Integer precipitationProb,
-        Clothes anchor,
+        WardrobeFeature anchor,
         double ptDay,
         double ptNight
     ) {
-        String itemSeason = attr(c, "계절");
-        String itemStyle = attr(c, "스타일");
-
-        int sSeason = seasonAffinityScore(seasonNow, itemSeason);
-        int sStyle = styleScore(anchorStyle, itemStyle);
+        int sSeason = seasonAffinityScore(seasonNow, c.season());
+        int sStyle = styleScore(anchor, c);
         int sPenalty = materialPenalty(c, precipitation, precipitationProb);
         int sThick = thicknessScore(c, ptDay, ptNight);
         int sLayer = presenceLayeringBonus(c, anchor, ptDay);
 
         int total = sSeason + sStyle + sPenalty + sThick + sLayer;
-        log.info("의상: {}, 점수 - Season:{}, Style:{}, Penalty:{}, Thick:{}, Presence:{}, Total:{}",
-            c.getName(), sSeason, sStyle, sPenalty, sThick, sLayer, total);
+        log.debug("의상: {}, 점수 - Season:{}, Style:{}, Penalty:{}, Thick:{}, Presence:{}, Total:{}",
+            c.name(), sSeason, sStyle, sPenalty, sThick, sLayer, total);
         return total;
     }
 
     /**
      * TOP vs DRESS 중 더 높은 점수 선택
      */
-    private Clothes betterOf(
-        Clothes a,
-        Clothes b,
-        String seasonNow,
-        Clothes anchor,
+    private WardrobeFeature betterOf(
+        WardrobeFeature a,
+        WardrobeFeature b,
+        Season seasonNow,
+        WardrobeFeature anchor,
         String precipitation,
         Integer precipitationProb,
         double ptDay,
@@ -364,11 +469,8 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
             return a;
         }
 
-        String anchorStyle = (anchor == null) ? null : attr(anchor, "스타일");
-        int sa = totalScore(a, seasonNow, anchorStyle, precipitation, precipitationProb, anchor,
-            ptDay, ptNight);
-        int sb = totalScore(b, seasonNow, anchorStyle, precipitation, precipitationProb, anchor,
-            ptDay, ptNight);
+        int sa = totalScore(a, seasonNow, precipitation, precipitationProb, anchor, ptDay, ptNight);
+        int sb = totalScore(b, seasonNow, precipitation, precipitationProb, anchor, ptDay, ptNight);
 
         if (Math.abs(sa - sb) <= NEAR_BEST_DELTA) {
             return ThreadLocalRandom.current().nextBoolean() ? a : b;
@@ -380,46 +482,39 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 계절 가점(정확 +3, 봄/가을 교차 +2, 기타 인접 +1, 여름/겨울 교차 0, 사계절 +1)
      */
-    private int seasonAffinityScore(String now, String item) {
-        if (item == null || item.isBlank()) {
-            return 0;
-        }
-        if ("사계절".equals(item)) {
-            return SEASON_PREF_ALL;
-        }
-        if (item.equals(now)) {
-            return SEASON_PREF_EXACT;
-        }
-        boolean springFallPair =
-            ("봄".equals(now) && "가을".equals(item)) || ("가을".equals(now) && "봄".equals(item));
-        if (springFallPair) {
-            return SEASON_PREF_SPRING_FALL;
-        }
-
-        boolean summerWinerPair =
-            ("여름".equals(now) && "겨울".equals(item)) || "겨울".equals(now) && "여름".equals(item);
-        if (summerWinerPair) {
-            return SEASON_PREF_SUMMER_WINTER;
-        }
-        return SEASON_PREF_PAIR;
+    private int seasonAffinityScore(Season now, Season item) {
+        return switch (item) {
+            case NONE -> 0;
+            case ALL -> SEASON_PREF_ALL;
+            default -> {
+                if (item == now) {
+                    yield SEASON_PREF_EXACT;
+                }
+                boolean springFallPair = (now == Season.SPRING && item == Season.FALL)
+                    || (now == Season.FALL && item == Season.SPRING);
+                if (springFallPair) {
+                    yield SEASON_PREF_SPRING_FALL;
+                }
+                boolean summerWinterPair = (now == Season.SUMMER && item == Season.WINTER)
+                    || (now == Season.WINTER && item == Season.SUMMER);
+                if (summerWinterPair) {
+                    yield SEASON_PREF_SUMMER_WINTER;
+                }
+                yield SEASON_PREF_PAIR;
+            }
+        };
     }
 
     /**
      * 재질 감점(비&눈: 스웨이드, 가죽 감점)
      */
-    private int materialPenalty(Clothes c, String precipitation, Integer prob) {
+    private int materialPenalty(WardrobeFeature c, String precipitation, Integer prob) {
         if (precipitation == null || prob == null || prob < 50) {
             return 0;
         }
 
-        String m = attr(c, "재질");
-        if (m == null || m.isBlank()) {
-            return 0;
-        }
-
-        String mat = m.toLowerCase(Locale.ROOT);
-        boolean isSuede = mat.contains("스웨이드") || mat.contains("suede");
-        boolean isLeather = mat.contains("레더") || mat.contains("가죽") || mat.contains("leather");
+        boolean isSuede = c.hasMaterial(WardrobeFeature.MATERIAL_SUEDE);
+        boolean isLeather = c.hasMaterial(WardrobeFeature.MATERIAL_LEATHER);
 
         if ("RAIN".equals(precipitation)) {
             if (isSuede) {
@@ -442,13 +537,13 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 두께 가점(아우터와 상의는 현재 온도에 따른 적절성 판정)
      */
-    private int thicknessScore(Clothes c, double ptDay, double ptNight) {
-        String t = attr(c, "두께");
-        if (t == null || t.isBlank()) {
+    private int thicknessScore(WardrobeFeature c, double ptDay, double ptNight) {
+        Thickness t = c.thickness();
+        if (t == Thickness.NONE) {
             return 0;
         }
 
-        return switch (c.getType()) {
+        return switch (c.type()) {
             case OUTER -> scoreOuter(t, ptNight);
             case TOP, DRESS -> scoreTopLike(t, ptDay);
             case BOTTOM -> scoreBottom(t, ptDay);
@@ -459,47 +554,47 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * ptDay 구간별 TOP/DRESS 두께 점수
      */
-    private int scoreTopLike(String t, double ptDay) {
+    private int scoreTopLike(Thickness t, double ptDay) {
         if (ptDay >= 27) {
             return switch (t) {
-                case "얇음" -> +5;
-                case "보통" -> -2;
-                case "두꺼움" -> -20;
+                case THIN -> +5;
+                case MEDIUM -> -2;
+                case THICK -> -20;
                 default -> -5;
             };
         } else if (ptDay >= 23) {
             return switch (t) {
-                case "얇음" -> +4;
-                case "보통" -> +0;
-                case "두꺼움" -> -20;
+                case THIN -> +4;
+                case MEDIUM -> +0;
+                case THICK -> -20;
                 default -> -5;
             };
         } else if (ptDay >= 18) {
             return switch (t) {
-                case "얇음" -> +2;
-                case "보통" -> +3;
-                case "두꺼움" -> 0;
+                case THIN -> +2;
+                case MEDIUM -> +3;
+                case THICK -> 0;
                 default -> 0;
             };
         } else if (ptDay >= 12) {
             return switch (t) {
-                case "얇음" -> -2;
-                case "보통" -> +4;
-                case "두꺼움" -> +2;
+                case THIN -> -2;
+                case MEDIUM -> +4;
+                case THICK -> +2;
                 default -> -2;
             };
         } else if (ptDay >= 5) {
             return switch (t) {
-                case "얇음" -> -6;
-                case "보통" -> +2;
-                case "두꺼움" -> +2;
+                case THIN -> -6;
+                case MEDIUM -> +2;
+                case THICK -> +2;
                 default -> -2;
             };
         } else {
             return switch (t) {
-                case "얇음" -> -10;
-                case "보통" -> 0;
-                case "두꺼움" -> +4;
+                case THIN -> -10;
+                case MEDIUM -> 0;
+                case THICK -> +4;
                 default -> -5;
             };
         }
@@ -508,47 +603,47 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * ptDay 구간별 OUTER 두께 점수
      */
-    private int scoreOuter(String t, double ptNight) {
+    private int scoreOuter(Thickness t, double ptNight) {
         if (ptNight > 23) {
             return switch (t) {
-                case "얇음" -> -2;
-                case "보통" -> -7;
-                case "두꺼움" -> -20;
+                case THIN -> -2;
+                case MEDIUM -> -7;
+                case THICK -> -20;
                 default -> -20;
             };
         } else if (ptNight >= 18) {
             return switch (t) {
-                case "얇음" -> +4;
-                case "보통" -> -2;
-                case "두꺼움" -> -10;
+                case THIN -> +4;
+                case MEDIUM -> -2;
+                case THICK -> -10;
                 default -> -10;
             };
         } else if (ptNight >= 14) {
             return switch (t) {
-                case "얇음" -> +2;
-                case "보통" -> +3;
-                case "두꺼움" -> -10;
+                case THIN -> +2;
+                case MEDIUM -> +3;
+                case THICK -> -10;
                 default -> -10;
             };
         } else if (ptNight >= 8) {
             return switch (t) {
-                case "얇음" -> 0;
-                case "보통" -> +4;
-                case "두꺼움" -> -2;
+                case THIN -> 0;
+                case MEDIUM -> +4;
+                case THICK -> -2;
                 default -> 0;
             };
         } else if (ptNight >= 5) {
             return switch (t) {
-                case "얇음" -> -5;
-                case "보통" -> +4;
-                case "두꺼움" -> +2;
+                case THIN -> -5;
+                case MEDIUM -> +4;
+                case THICK -> +2;
                 default -> -2;
             };
         } else {
             return switch (t) {
-                case "얇음" -> -10;
-                case "보통" -> 0;
-                case "두꺼움" -> +4;
+                case THIN -> -10;
+                case MEDIUM -> 0;
+                case THICK -> +4;
                 default -> 0;
             };
         }
@@ -557,40 +652,40 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * ptDay 구간별 Bottom 두께 점수
      */
-    private int scoreBottom(String t, double ptDay) {
+    private int scoreBottom(Thickness t, double ptDay) {
         if (ptDay >= 27) {
             return switch (t) {
-                case "얇음" -> +5;
-                case "보통" -> 0;
-                case "두꺼움" -> -20;
+                case THIN -> +5;
+                case MEDIUM -> 0;
+                case THICK -> -20;
                 default -> -5;
             };
         } else if (ptDay >= 23) {
             return switch (t) {
-                case "얇음" -> +4;
-                case "보통" -> +1;
-                case "두꺼움" -> -20;
+                case THIN -> +4;
+                case MEDIUM -> +1;
+                case THICK -> -20;
                 default -> -5;
             };
         } else if (ptDay >= 18) {
             return switch (t) {
-                case "얇음" -> +2;
-                case "보통" -> +3;
-                case "두꺼움" -> -2;
+                case THIN -> +2;
+                case MEDIUM -> +3;
+                case THICK -> -2;
                 default -> 0;
             };
         } else if (ptDay >= 12) {
             return switch (t) {
-                case "얇음" -> -2;
-                case "보통" -> +5;
-                case "두꺼움" -> +1;
+                case THIN -> -2;
+                case MEDIUM -> +5;
+                case THICK -> +1;
                 default -> -2;
             };
         } else {
             return switch (t) {
-                case "얇음" -> -10;
-                case "보통" -> 0;
-                case "두꺼움" -> +4;
+                case THIN -> -10;
+                case MEDIUM -> 0;
+                case THICK -> +4;
                 default -> -5;
             };
         }
@@ -599,26 +694,20 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 17 ~ 23 구간의 기온은 아우터 + 얇은 상의와 보통 두께의 상의 중 선택하도록 가점 부여
      */
-    private int presenceLayeringBonus(Clothes item, Clothes anchor, double ptDay) {
+    private int presenceLayeringBonus(WardrobeFeature item, WardrobeFeature anchor, double ptDay) {
 
         if (ptDay < OUTER_DECISION_LOWER || ptDay > OUTER_DECISION_UPPER) {
             return 0;
         }
 
-        if (item.getType() != ClothesType.TOP && item.getType() != ClothesType.DRESS) {
+        if (item.type() != ClothesType.TOP && item.type() != ClothesType.DRESS) {
             return 0;
         }
 
-        boolean hasOuter = (anchor != null && anchor.getType() == ClothesType.OUTER);
-
-        final String raw = attr(item, "두께");
-        if (raw == null || raw.isBlank()) {
-            return 0;
-        }
-        final String t = raw.trim().toLowerCase(Locale.ROOT);
+        boolean hasOuter = (anchor != null && anchor.type() == ClothesType.OUTER);
 
-        final boolean isThin = t.equals("얇음");
-        final boolean isMedium = t.equals("보통");
+        final boolean isThin = item.thickness() == Thickness.THIN;
+        final boolean isMedium = item.thickness() == Thickness.MEDIUM;
 
         if (hasOuter && isThin) {
             return BONUS_TOP_THIN_WITH_OUTER;
@@ -632,45 +721,46 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
     /**
      * 매칭 스타일 점수(비슷한 스타일의 의상은 가점)
      */
-    private int styleScore(String anchor, String item) {
-        if (anchor == null || item == null) {
-            return STYLE_DEFAULT;
-        }
-        String a = anchor.trim();
-        String b = item.trim();
-        if (a.isEmpty() || b.isEmpty()) {
+    private int styleScore(WardrobeFeature anchor, WardrobeFeature item) {
+        if (anchor == null || anchor.style() == Style.NONE || item.style() == Style.NONE) {
             return STYLE_DEFAULT;
         }
-        if (a.equals(b)) {
+        if (anchor.isSameStyle(item)) {
             return STYLE_EXACT;
         }
-        if (STYLE_ANY.equals(a) || STYLE_ANY.equals(b)) {
+        if (anchor.style() == Style.BASIC || item.style() == Style.BASIC) {
             return STYLE_COMPAT;
         }
-        return isCompatible(a, b) ? STYLE_COMPAT : STYLE_DEFAULT;
+        return anchor.style().isCompatibleWith(item.style()) ? STYLE_COMPAT : STYLE_DEFAULT;
     }
 
-    private boolean isCompatible(String a, String b) {
-        Set<String> fromA = COMPAT.get(a);
-        if (fromA != null && fromA.contains(b)) {
-            return true;
+    // ─────내부 유틸 메소드─────
+
+    /**
+     * 선택된 의상만 엔티티로 조회(점수 계산은 인덱스만 사용)
+     */
+    private List<Clothes> toClothes(List<WardrobeFeature> picks) {
+        if (picks.isEmpty()) {
+            return List.of();
         }
-        Set<String> fromB = COMPAT.get(b);
-        return (fromB != null && fromB.contains(a));
+        List<UUID> ids = picks.stream().map(WardrobeFeature::id).toList();
+        Map<UUID, Clothes> byId = findClothes(ids);
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
-    // ─────내부 유틸 메소드─────
-
-    private String attr(Clothes c, String nameKo) {
-        for (ClothesAttribute a : c.getAttributes()) {
-            if (a.getDefinition() == null || a.getDefinition().getName() == null) {
-                continue;
-            }
-            if (nameKo.equals(a.getDefinition().getName().trim())) {
-                return a.getOptionValue();
-            }
+    private Map<UUID, Clothes> findClothes(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
-        return null;
+        return clothesRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Clothes::getId, Function.identity()));
+    }
+
+    private static int sizeOf(List<WardrobeFeature> list) {
+        return list == null ? 0 : list.size();
     }
 
     private static Double toDoubleSafe(Object v) {
@@ -687,95 +777,11 @@ ScoreBasedRecommendationEngine implements RecommendationEngine {
         }
     }
 
-    private double calculatePersonalTemperature(double temp, double sensitive) {
-        return temp + (sensitive - 3);
-    }
-
-    private static String seasonByMonthWithTransition(Instant utc, double ptDay) {
-        int m = utc.atZone(KST).getMonthValue();
-        if (m == 3) {
-            return (ptDay <= WINTER_TRANSITION_TEMP) ? "겨울" : "봄";
-        }
-        if (m == 6) {
-            return (ptDay >= SUMMER_TRANSITION_TEMP) ? "여름" : "봄";
-        }
-        if (m == 9) {
-            return (ptDay >= SUMMER_TRANSITION_TEMP) ? "여름" : "가을";
-        }
-        if (m == 11) {
-            return (ptDay >= WINTER_TRANSITION_TEMP) ? "가을" : "겨울";
-        }
-        return seasonByMonth(utc);
-    }
-
-    private static String seasonByMonth(Instant utc) {
-        int m = utc.atZone(KST).getMonthValue();
-        if (m >= 3 && m <= 5) {
-            return "봄";
-        }
-        if (m >= 6 && m <= 8) {
-            return "여름";
-        }
-        if (m >= 9 && m <= 11) {
-            return "가을";
-        }
-        return "겨울";
-    }
-
-    private static double windMs(Weather w) {
-        if (w.getWindSpeed() != null) {
-            return w.getWindSpeed();
-        }
-        String ww = enumName(w.getWindSpeedWord());
-        if ("WEAK".equals(ww)) {
-            return 1.5;
-        }
-        if ("MODERATE".equals(ww)) {
-            return 3.5;
-        }
-        if ("STRONG".equals(ww)) {
-            return 7.0;
-        }
-        return 0.0;
-    }
-
     private static double nz(Double v, double d) {
         return v == null ? d : v;
     }
 
-    private static String enumName(Object e) {
-        return e == null ? null : String.valueOf(e);
-    }
-
-    private static Integer toInt(Object v) {
-        if (v == null) {
-            return null;
-        }
-        if (v instanceof Number n) {
-            return n.intValue();
-        }
-        return null;
-    }
-
-    private static Instant toInstantSafe(Object ts) {
-        if (ts == null) {
-            return null;
-        }
-        if (ts instanceof Instant i) {
-            return i;
-        }
-        try {
-            return (Instant) ts.getClass().getMethod("toInstant").invoke(ts);
-        } catch (Exception ignore) {
-            return null;
-        }
-    }
-
-    private static <T> T firstNonNull(T a, T b, T c) {
-        return a != null ? a : (b != null ? b : c);
-    }
-
-    private static void addIfNotNull(List<Clothes> list, Clothes c) {
+    private static void addIfNotNull(List<WardrobeFeature> list, WardrobeFeature c) {
         if (c != null) {
             list.add(c);
         }
@@ -1,49 +1,243 @@
 package org.ikuzo.otboo.domain.recommendation.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
 import org.ikuzo.otboo.domain.clothes.entity.Clothes;
 import org.ikuzo.otboo.domain.clothes.mapper.ClothesMapper;
+import org.ikuzo.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
+import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
 import org.ikuzo.otboo.domain.recommendation.dto.OotdDto;
+import org.ikuzo.otboo.domain.recommendation.dto.RecommendationAlternativesDto;
 import org.ikuzo.otboo.domain.recommendation.dto.RecommendationDto;
+import org.ikuzo.otboo.domain.recommendation.entity.Recommend;
+import org.ikuzo.otboo.domain.recommendation.entity.RecommendationClothes;
+import org.ikuzo.otboo.domain.recommendation.repository.RecommendRepository;
+import org.ikuzo.otboo.domain.recommendation.repository.RecommendationClothesRepository;
 import org.ikuzo.otboo.domain.recommendation.service.RecommendationService;
 import org.ikuzo.otboo.domain.recommendation.service.engine.RecommendationEngine;
+import org.ikuzo.otboo.domain.recommendation.service.engine.impl.ScoreBasedRecommendationEngine;
+import org.ikuzo.otboo.domain.recommendation.support.RecommendationCacheKey;
+import org.ikuzo.otboo.domain.recommendation.support.WeatherContextProvider;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.ikuzo.otboo.domain.weather.exception.WeatherNotFoundException;
 import org.ikuzo.otboo.domain.weather.repository.WeatherRepository;
+import org.ikuzo.otboo.global.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
 
+    private static final String CACHE_NAME = "recommendations";
+
     private final RecommendationEngine recommendationEngine;
     private final WeatherRepository weatherRepository;
     private final ClothesMapper clothesMapper;
+    private final RecommendRepository recommendRepository;
+    private final RecommendationClothesRepository recommendationClothesRepository;
+    private final ClothesRepository clothesRepository;
+    private final ClothesAttributeDefRepository clothesAttributeDefRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherContextProvider weatherContextProvider;
+    private final ScoreBasedRecommendationEngine scoreBasedRecommendationEngine;
+
+    // 대안 코디 개수(K)
+    @Value("${recommendation.outfit-search.alternatives:3}")
+    private int alternativesCount;
+
+    /**
+     * 엔진 호출 동안 요청 스레드와 DB 커넥션을 점유하지 않는 추천
+     * - 날씨/캐시/저장된 추천 조회와 결과 변환은 각각 짧은 트랜잭션으로 처리
+     */
+    @Override
+    public Mono<RecommendationDto> createReactive(UUID weatherId) {
+        return Mono.fromCallable(() -> {
+                log.info("[Service] 의상 추천 시작(비동기) - weatherId: {}", weatherId);
+                return transactionTemplate.execute(status -> prepare(weatherId));
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(prepared -> {
+                if (prepared.ready() != null) {
+                    return Mono.just(
+                        toResponse(weatherId, prepared.owner().getId(), prepared.ready()));
+                }
+                return recommendationEngine.recommendReactive(prepared.owner(), prepared.weather())
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(picked -> transactionTemplate.execute(
+                        status -> complete(prepared, picked)));
+            });
+    }
+
+    /**
+     * 코디 점수 상위 K개 대안 코디 (캐시/저장된 추천 없이 매번 조합 탐색)
+     * - 날씨 조회와 결과 변환만 짧은 트랜잭션, 탐색은 트랜잭션 밖에서 실행
+     */
+    @Override
+    public Mono<RecommendationAlternativesDto> createAlternatives(UUID weatherId) {
+        return Mono.fromCallable(() -> {
+                log.info("[Service] 대안 코디 추천 시작 - weatherId: {}, k: {}", weatherId,
+                    alternativesCount);
+                return transactionTemplate.execute(status -> weatherRepository
+                    .findWithUserById(weatherId)
+                    .orElseThrow(WeatherNotFoundException::new));
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(weather -> {
+                User owner = weather.getUser();
+                List<List<Clothes>> outfits = scoreBasedRecommendationEngine
+                    .recommendOutfits(owner, weather, alternativesCount);
+
+                List<List<OotdDto>> outfitDtos = transactionTemplate.execute(status -> {
+                    // 코디 간 중복 의상은 한 번만 변환
+                    Map<UUID, OotdDto> byId = toOotdDtos(outfits.stream()
+                        .flatMap(List::stream)
+                        .map(Clothes::getId)
+                        .distinct()
+                        .toList())
+                        .stream()
+                        .collect(Collectors.toMap(OotdDto::clothesId, Function.identity()));
+                    return outfits.stream()
+                        .map(clothes -> clothes.stream()
+                            .map(c -> byId.get(c.getId()))
+                            .filter(Objects::nonNull)
+                            .toList())
+                        .toList();
+                });
 
+                log.info("[Service] 대안 코디 추천 완료 - outfits: {}", outfitDtos.size());
+                return RecommendationAlternativesDto.builder()
+                    .weatherId(weatherId)
+                    .userId(owner.getId())
+                    .outfits(outfitDtos)
+                    .build();
+            });
+    }
+
+    /**
+     * 옷장 변경 시 저장된 추천 삭제 + 커밋 이후 해당 사용자의 추천 캐시 제거
+     * - 캐시 키의 옷장 버전만으로는 커밋 직후 이전 옷장 인덱스로 계산된 결과가 새 버전 키로 들어가는 것을 막지 못함
+     */
     @Transactional
     @Override
-    public RecommendationDto create(UUID weatherId) {
-        log.info("[Service] 의상 추천 시작 - weatherId: {}", weatherId);
+    public void invalidateStored(UUID userId) {
+        recommendationClothesRepository.deleteAllByUserId(userId);
+        int deleted = recommendRepository.deleteAllByUserId(userId);
+        if (deleted > 0) {
+            log.debug("[Service] 저장된 추천 무효화 - userId: {}, count: {}", userId, deleted);
+        }
+        AfterCommit.run(() -> nativeRecommendationCache().asMap().keySet()
+            .removeIf(key -> key instanceof RecommendationCacheKey k && k.userId().equals(userId)));
+    }
+
+    // 속성 정의 변경은 여러 사용자에 걸치므로 커밋 이후 전체 제거
+    @Override
+    public void invalidateAllCached() {
+        AfterCommit.run(() -> recommendationCache().clear());
+    }
 
-        Weather weather = weatherRepository.findById(weatherId)
+    /**
+     * 엔진 실행 전 단계: 캐시 -> 저장된 추천 순으로 조회, 둘 다 없으면 ready == null
+     */
+    private Prepared prepare(UUID weatherId) {
+        Weather weather = weatherRepository.findWithUserById(weatherId)
             .orElseThrow(WeatherNotFoundException::new);
         User owner = weather.getUser();
 
-        List<Clothes> pickedClothes = recommendationEngine.recommend(owner, weather);
+        RecommendationCacheKey cacheKey = RecommendationCacheKey.of(owner,
+            weatherContextProvider.get(weather));
+        List<OotdDto> cached = recommendationCache().get(cacheKey, List.class);
+        if (cached != null) {
+            log.info("[Service] 추천 캐시 사용 - key: {}", cacheKey);
+            return new Prepared(weather, owner, cacheKey, cached);
+        }
+
+        List<OotdDto> stored = recommendRepository
+            .findTop1ByWeatherIdOrderByCreatedAtDesc(weatherId)
+            .map(this::storedClothes)
+            .orElse(null);
+        if (stored != null) {
+            recommendationCache().put(cacheKey, stored);
+        }
+        return new Prepared(weather, owner, cacheKey, stored);
+    }
 
-        List<OotdDto> clothesDtos = pickedClothes.stream()
-                .map(clothesMapper::toOotdDto)
-                    .toList();
+    private RecommendationDto complete(Prepared prepared, List<Clothes> pickedClothes) {
+        List<OotdDto> clothesDtos = toOotdDtos(pickedClothes.stream()
+            .map(Clothes::getId)
+            .toList());
+        recommendationCache().put(prepared.cacheKey(), clothesDtos);
 
         log.info("[Service] 의상 추천 완료 - ItemSize: {}", clothesDtos.size());
 
-        return toResponse(weather.getId(), owner.getId(), clothesDtos);
+        return toResponse(prepared.weather().getId(), prepared.owner().getId(), clothesDtos);
+    }
+
+    /**
+     * 날씨 배치에서 미리 계산된 추천 사용 (옷장 변경 시 invalidateStored 로 제거됨)
+     */
+    private List<OotdDto> storedClothes(Recommend recommend) {
+        List<OotdDto> clothesDtos = toOotdDtos(recommendationClothesRepository
+            .findAllByRecommendIdWithClothes(recommend.getId()).stream()
+            .map(RecommendationClothes::getClothes)
+            .map(Clothes::getId)
+            .toList());
+
+        log.info("[Service] 저장된 추천 사용 - recommendId: {}, ItemSize: {}",
+            recommend.getId(), clothesDtos.size());
+
+        return clothesDtos;
+    }
+
+    /**
+     * 추천 의상 id 순서대로 OotdDto 변환 (의상/속성 1회 + 선택지 1회 조회)
+     */
+    private List<OotdDto> toOotdDtos(List<UUID> clothesIds) {
+        if (clothesIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ClothesProjection> byId = clothesRepository.findProjectionsByIds(clothesIds)
+            .stream()
+            .collect(Collectors.toMap(ClothesProjection::id, Function.identity()));
+
+        Set<UUID> definitionIds = byId.values().stream()
+            .flatMap(c -> c.attributes().stream())
+            .map(ClothesProjection.Attribute::definitionId)
+            .collect(Collectors.toSet());
+        Map<UUID, List<String>> selectable =
+            clothesAttributeDefRepository.findSelectableValuesByDefinitionIds(definitionIds);
+
+        return clothesIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .map(c -> clothesMapper.toOotdDto(c, selectable))
+            .toList();
+    }
+
+    private Cache recommendationCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeRecommendationCache() {
+        return ((CaffeineCache) recommendationCache()).getNativeCache();
     }
 
     private RecommendationDto toResponse(UUID weatherId, UUID ownerId, List<OotdDto> clothes) {
@@ -53,4 +247,13 @@ public class RecommendationServiceImpl implements RecommendationService {
             .clothes(clothes)
             .build();
     }
+
+    private record Prepared(
+        Weather weather,
+        User owner,
+        RecommendationCacheKey cacheKey,
+        List<OotdDto> ready
+    ) {
+
+    }
 }
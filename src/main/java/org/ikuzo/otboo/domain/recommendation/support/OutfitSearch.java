@@ -0,0 +1,251 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+
+/**
+ * 의상 조합 단위 상위 K개 탐색 (분기 한정법)
+ * - 슬롯 순서: 아우터 -> 상의/드레스 -> 하의(상의일 때만) -> 신발 -> 모자 -> 스카프 -> 악세서리
+ * - 기준 의상(anchor): 아우터가 있으면 아우터, 없으면 상의/드레스 (탐욕 추천과 동일)
+ * - 남은 슬롯 최고점 합으로 상한을 잡아 현재 K번째 점수 이하인 가지는 잘라냄
+ * - 노드/시간 예산을 넘기면 그때까지 찾은 결과 반환
+ */
+public final class OutfitSearch {
+
+    private static final List<ClothesType> MISC_TYPES = List.of(
+        ClothesType.SHOES, ClothesType.HAT, ClothesType.SCARF, ClothesType.ACCESSORY);
+
+    // 시간 확인 주기(노드 수)
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    public interface Scorer {
+
+        /**
+         * anchor 기준 의상 점수
+         */
+        int score(WardrobeFeature item, WardrobeFeature anchor);
+
+        /**
+         * anchor 와 무관한 점수 상한 (score(item, 어떤 anchor) 이하가 보장되어야 함)
+         */
+        int upperBound(WardrobeFeature item);
+
+        /**
+         * 타입별 추천 최소 점수
+         */
+        int floor(ClothesType type);
+    }
+
+    public record Outfit(List<WardrobeFeature> items, int score) {
+
+    }
+
+    public record Result(List<Outfit> outfits, long nodesExpanded, boolean budgetExhausted) {
+
+    }
+
+    private record Candidate(WardrobeFeature item, int score) {
+
+    }
+
+    private final WardrobeIndex index;
+    private final Scorer scorer;
+    private final int k;
+    private final long maxNodes;
+    private final long deadlineNanos;
+
+    private final PriorityQueue<Outfit> best =
+        new PriorityQueue<>(Comparator.comparingInt(Outfit::score));
+    private final List<WardrobeFeature> chosen = new ArrayList<>();
+    private long nodes;
+    private boolean exhausted;
+
+    private OutfitSearch(WardrobeIndex index, Scorer scorer, int k, long maxNodes,
+                         Duration timeBudget) {
+        this.index = index;
+        this.scorer = scorer;
+        this.k = k;
+        this.maxNodes = maxNodes;
+        this.deadlineNanos = System.nanoTime() + timeBudget.toNanos();
+    }
+
+    public static Result search(WardrobeIndex index, boolean outerNeeded, Scorer scorer, int k,
+                                long maxNodes, Duration timeBudget) {
+        if (k <= 0 || index.isEmpty()) {
+            return new Result(List.of(), 0, false);
+        }
+        OutfitSearch search = new OutfitSearch(index, scorer, k, maxNodes, timeBudget);
+        search.run(outerNeeded);
+
+        List<Outfit> outfits = new ArrayList<>(search.best);
+        outfits.sort(Comparator.comparingInt(Outfit::score).reversed());
+        return new Result(List.copyOf(outfits), search.nodes, search.exhausted);
+    }
+
+    private void run(boolean outerNeeded) {
+        List<Candidate> outers = outerNeeded ? passing(ClothesType.OUTER, null) : List.of();
+        List<Candidate> outerOptions = outers.isEmpty()
+            ? Collections.singletonList(null) : outers;
+
+        int innerBound = Math.max(upperBound(ClothesType.TOP), upperBound(ClothesType.DRESS));
+        int restBound = upperBound(ClothesType.BOTTOM);
+        for (ClothesType type : MISC_TYPES) {
+            restBound += upperBound(type);
+        }
+
+        for (Candidate outer : outerOptions) {
+            if (!expand()) {
+                return;
+            }
+            WardrobeFeature outerItem = outer == null ? null : outer.item();
+            int outerScore = outer == null ? 0 : outer.score();
+            if (pruned(outerScore + innerBound + restBound)) {
+                continue;
+            }
+
+            List<Candidate> inners = new ArrayList<>(passing(ClothesType.TOP, outerItem));
+            inners.addAll(passing(ClothesType.DRESS, outerItem));
+            inners.sort(Comparator.comparingInt(Candidate::score).reversed());
+            List<Candidate> innerOptions = inners.isEmpty()
+                ? Collections.singletonList(null) : inners;
+
+            for (Candidate inner : innerOptions) {
+                if (!expand()) {
+                    return;
+                }
+                WardrobeFeature innerItem = inner == null ? null : inner.item();
+                int base = outerScore + (inner == null ? 0 : inner.score());
+                if (pruned(base + restBound)) {
+                    // inner 는 점수 내림차순 -> 이후 후보도 상한 동일/이하
+                    break;
+                }
+                searchRest(outerItem, innerItem, base);
+            }
+        }
+    }
+
+    /**
+     * 아우터/상의가 정해지면 anchor 가 고정되므로 남은 슬롯은 서로 독립
+     */
+    private void searchRest(WardrobeFeature outer, WardrobeFeature inner, int base) {
+        WardrobeFeature anchor = outer != null ? outer : inner;
+
+        List<List<Candidate>> slots = new ArrayList<>();
+        if (inner == null || inner.type() == ClothesType.TOP) {
+            addSlot(slots, passing(ClothesType.BOTTOM, anchor));
+        }
+        for (ClothesType type : MISC_TYPES) {
+            addSlot(slots, passing(type, anchor));
+        }
+
+        int[] suffixMax = new int[slots.size() + 1];
+        for (int i = slots.size() - 1; i >= 0; i--) {
+            suffixMax[i] = suffixMax[i + 1] + slots.get(i).get(0).score();
+        }
+        if (pruned(base + suffixMax[0])) {
+            return;
+        }
+
+        chosen.clear();
+        if (outer != null) {
+            chosen.add(outer);
+        }
+        if (inner != null) {
+            chosen.add(inner);
+        }
+        dfs(slots, suffixMax, 0, base);
+    }
+
+    private void dfs(List<List<Candidate>> slots, int[] suffixMax, int level, int partial) {
+        if (level == slots.size()) {
+            offer(partial);
+            return;
+        }
+        for (Candidate c : slots.get(level)) {
+            if (!expand()) {
+                return;
+            }
+            int score = partial + c.score();
+            if (pruned(score + suffixMax[level + 1])) {
+                // 후보는 점수 내림차순 -> 나머지도 잘림
+                break;
+            }
+            chosen.add(c.item());
+            dfs(slots, suffixMax, level + 1, score);
+            chosen.remove(chosen.size() - 1);
+        }
+    }
+
+    private void offer(int score) {
+        if (best.size() < k) {
+            best.add(new Outfit(List.copyOf(chosen), score));
+        } else if (score > best.peek().score()) {
+            best.poll();
+            best.add(new Outfit(List.copyOf(chosen), score));
+        }
+    }
+
+    /**
+     * 상한이 현재 K번째 점수 이하이면 더 볼 필요 없음
+     */
+    private boolean pruned(int bound) {
+        return best.size() >= k && bound <= best.peek().score();
+    }
+
+    private boolean expand() {
+        if (exhausted) {
+            return false;
+        }
+        nodes++;
+        if (nodes > maxNodes
+            || (nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() > deadlineNanos)) {
+            exhausted = true;
+            return false;
+        }
+        return true;
+    }
+
+    private List<Candidate> passing(ClothesType type, WardrobeFeature anchor) {
+        List<WardrobeFeature> items = index.get(type);
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+        int floor = scorer.floor(type);
+        List<Candidate> result = new ArrayList<>();
+        for (WardrobeFeature item : items) {
+            int s = scorer.score(item, anchor);
+            if (s >= floor) {
+                result.add(new Candidate(item, s));
+            }
+        }
+        result.sort(Comparator.comparingInt(Candidate::score).reversed());
+        return result;
+    }
+
+    private int upperBound(ClothesType type) {
+        List<WardrobeFeature> items = index.get(type);
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+        int floor = scorer.floor(type);
+        int max = 0;
+        for (WardrobeFeature item : items) {
+            int ub = scorer.upperBound(item);
+            if (ub >= floor && ub > max) {
+                max = ub;
+            }
+        }
+        return max;
+    }
+
+    private static void addSlot(List<List<Candidate>> slots, List<Candidate> candidates) {
+        if (!candidates.isEmpty()) {
+            slots.add(candidates);
+        }
+    }
+}
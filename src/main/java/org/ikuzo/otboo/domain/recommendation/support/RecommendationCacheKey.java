@@ -0,0 +1,34 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.util.UUID;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature.Season;
+import org.ikuzo.otboo.domain.user.entity.User;
+
+/**
+ * 추천 결과 캐시 키 (옷장 버전 + 체감온도 구간 + 강수 형태 + 계절)
+ * - 같은 옷장, 같은 날씨 구간이면 엔진을 다시 돌리지 않고 이전 추천 재사용
+ */
+public record RecommendationCacheKey(
+    UUID userId,
+    long wardrobeVersion,
+    int temperatureBucket,
+    String precipitationType,
+    Season season
+) {
+
+    // 체감온도 구간 크기(°C)
+    private static final double TEMPERATURE_BUCKET_SIZE = 2.0;
+
+    public static RecommendationCacheKey of(User owner, WeatherContext weather) {
+        int sensitivity = owner.getTemperatureSensitivity() == null ? 3 : owner.getTemperatureSensitivity();
+        double perceived = weather.personalDay(sensitivity);
+
+        return new RecommendationCacheKey(
+            owner.getId(),
+            owner.getWardrobeVersion() == null ? 0L : owner.getWardrobeVersion(),
+            (int) Math.floor(perceived / TEMPERATURE_BUCKET_SIZE),
+            weather.precipitation(),
+            weather.season(perceived)
+        );
+    }
+}
@@ -0,0 +1,221 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+
+/**
+ * 추천 점수 계산용으로 컴파일된 의상 정보(엔티티/문자열 비교 없이 점수 계산 가능)
+ */
+public record WardrobeFeature(
+    UUID id,
+    String name,
+    ClothesType type,
+    Season season,
+    Style style,
+    String styleLabel,
+    Thickness thickness,
+    int materialFlags
+) {
+
+    public static final int MATERIAL_SUEDE = 1;
+    public static final int MATERIAL_LEATHER = 1 << 1;
+
+    private static final String ATTR_SEASON = "계절";
+    private static final String ATTR_STYLE = "스타일";
+    private static final String ATTR_THICKNESS = "두께";
+    private static final String ATTR_MATERIAL = "재질";
+
+    public static WardrobeFeature compile(ClothesProjection c) {
+        String season = null;
+        String style = null;
+        String thickness = null;
+        String material = null;
+
+        for (ClothesProjection.Attribute a : c.attributes()) {
+            if (a.definitionName() == null) {
+                continue;
+            }
+            String defName = a.definitionName().trim();
+            if (season == null && ATTR_SEASON.equals(defName)) {
+                season = a.optionValue();
+            } else if (style == null && ATTR_STYLE.equals(defName)) {
+                style = a.optionValue();
+            } else if (thickness == null && ATTR_THICKNESS.equals(defName)) {
+                thickness = a.optionValue();
+            } else if (material == null && ATTR_MATERIAL.equals(defName)) {
+                material = a.optionValue();
+            }
+        }
+
+        return of(c.id(), c.name(), c.type(), season, style, thickness, material);
+    }
+
+    public static WardrobeFeature of(
+        UUID id,
+        String name,
+        ClothesType type,
+        String season,
+        String style,
+        String thickness,
+        String material
+    ) {
+        String styleLabel = (style == null) ? null : style.trim();
+        return new WardrobeFeature(
+            id,
+            name,
+            type,
+            Season.from(season),
+            Style.from(styleLabel),
+            styleLabel,
+            Thickness.from(thickness),
+            materialFlags(material)
+        );
+    }
+
+    public boolean hasMaterial(int flag) {
+        return (materialFlags & flag) != 0;
+    }
+
+    public boolean isSameStyle(WardrobeFeature other) {
+        if (style != other.style) {
+            return false;
+        }
+        return style != Style.OTHER || styleLabel.equals(other.styleLabel);
+    }
+
+    private static int materialFlags(String m) {
+        if (m == null || m.isBlank()) {
+            return 0;
+        }
+        String mat = m.toLowerCase(Locale.ROOT);
+        int flags = 0;
+        if (mat.contains("스웨이드") || mat.contains("suede")) {
+            flags |= MATERIAL_SUEDE;
+        }
+        if (mat.contains("레더") || mat.contains("가죽") || mat.contains("leather")) {
+            flags |= MATERIAL_LEATHER;
+        }
+        return flags;
+    }
+
+    public enum Season {
+        NONE(null),
+        ALL("사계절"),
+        SPRING("봄"),
+        SUMMER("여름"),
+        FALL("가을"),
+        WINTER("겨울"),
+        OTHER(null);
+
+        private final String label;
+
+        Season(String label) {
+            this.label = label;
+        }
+
+        public static Season from(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return NONE;
+            }
+            for (Season s : values()) {
+                if (s.label != null && s.label.equals(raw)) {
+                    return s;
+                }
+            }
+            return OTHER;
+        }
+
+        @Override
+        public String toString() {
+            return label == null ? name() : label;
+        }
+    }
+
+    public enum Style {
+        NONE(null),
+        BASIC("기본"),
+        CASUAL("캐주얼"),
+        MINIMAL("미니멀"),
+        FORMAL("포멀"),
+        CHIC("시크"),
+        VINTAGE("빈티지"),
+        LOVELY("러블리"),
+        SPORTS("스포츠"),
+        OTHER(null);
+
+        private static final Map<Style, Set<Style>> COMPAT = Map.of(
+            CASUAL, Set.of(CASUAL, VINTAGE, LOVELY),
+            MINIMAL, Set.of(MINIMAL, FORMAL, CHIC),
+            FORMAL, Set.of(FORMAL, MINIMAL, CHIC),
+            CHIC, Set.of(CHIC, MINIMAL, FORMAL),
+            VINTAGE, Set.of(VINTAGE, CASUAL),
+            LOVELY, Set.of(LOVELY, CASUAL),
+            SPORTS, Set.of(SPORTS, CASUAL)
+        );
+
+        private static final boolean[][] COMPAT_MATRIX = buildCompatMatrix();
+
+        private final String label;
+
+        Style(String label) {
+            this.label = label;
+        }
+
+        public static Style from(String trimmed) {
+            if (trimmed == null || trimmed.isEmpty()) {
+                return NONE;
+            }
+            for (Style s : values()) {
+                if (s.label != null && s.label.equals(trimmed)) {
+                    return s;
+                }
+            }
+            return OTHER;
+        }
+
+        public boolean isCompatibleWith(Style other) {
+            return COMPAT_MATRIX[ordinal()][other.ordinal()];
+        }
+
+        private static boolean[][] buildCompatMatrix() {
+            int n = values().length;
+            boolean[][] matrix = new boolean[n][n];
+            COMPAT.forEach((from, targets) -> targets.forEach(to -> {
+                matrix[from.ordinal()][to.ordinal()] = true;
+                matrix[to.ordinal()][from.ordinal()] = true;
+            }));
+            return matrix;
+        }
+    }
+
+    public enum Thickness {
+        NONE(null),
+        THIN("얇음"),
+        MEDIUM("보통"),
+        THICK("두꺼움"),
+        OTHER(null);
+
+        private final String label;
+
+        Thickness(String label) {
+            this.label = label;
+        }
+
+        public static Thickness from(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return NONE;
+            }
+            String t = raw.trim();
+            for (Thickness th : values()) {
+                if (th.label != null && th.label.equals(t)) {
+                    return th;
+                }
+            }
+            return OTHER;
+        }
+    }
+}
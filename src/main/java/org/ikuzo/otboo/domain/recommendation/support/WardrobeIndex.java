@@ -0,0 +1,48 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+
+/**
+ * 사용자별 옷장을 타입별로 컴파일해 둔 인덱스(불변)
+ */
+public record WardrobeIndex(
+    UUID ownerId,
+    Map<ClothesType, List<WardrobeFeature>> byType,
+    int size
+) {
+
+    public static WardrobeIndex empty(UUID ownerId) {
+        return new WardrobeIndex(ownerId, Map.of(), 0);
+    }
+
+    public static WardrobeIndex compile(UUID ownerId, List<ClothesProjection> clothes) {
+        return of(ownerId, clothes.stream().map(WardrobeFeature::compile).toList());
+    }
+
+    public static WardrobeIndex of(UUID ownerId, List<WardrobeFeature> features) {
+        if (features == null || features.isEmpty()) {
+            return empty(ownerId);
+        }
+        Map<ClothesType, List<WardrobeFeature>> grouped = new EnumMap<>(ClothesType.class);
+        for (WardrobeFeature f : features) {
+            grouped.computeIfAbsent(f.type(), k -> new ArrayList<>()).add(f);
+        }
+        grouped.replaceAll((type, list) -> List.copyOf(list));
+        return new WardrobeIndex(ownerId, Collections.unmodifiableMap(grouped), features.size());
+    }
+
+    public List<WardrobeFeature> get(ClothesType type) {
+        return byType.get(type);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,55 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.clothes.dto.ClothesProjection;
+import org.ikuzo.otboo.domain.clothes.repository.ClothesRepository;
+import org.ikuzo.otboo.global.util.AfterCommit;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 컴파일된 옷장 인덱스 제공 (의상/속성 변경 시 "wardrobeIndex" 캐시에서 무효화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardrobeIndexProvider {
+
+    public static final String CACHE_NAME = "wardrobeIndex";
+
+    private final ClothesRepository clothesRepository;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    public WardrobeIndex get(UUID ownerId) {
+        return cache().get(ownerId, () -> load(ownerId));
+    }
+
+    /**
+     * 커밋 이후 무효화 - 커밋 전에 지우면 동시 요청이 변경 전 옷장으로 인덱스를 다시 채울 수 있음
+     */
+    public void evictAfterCommit(UUID ownerId) {
+        AfterCommit.run(() -> cache().evict(ownerId));
+    }
+
+    public void evictAllAfterCommit() {
+        AfterCommit.run(() -> cache().clear());
+    }
+
+    private WardrobeIndex load(UUID ownerId) {
+        List<ClothesProjection> clothes = clothesRepository.findProjectionsByOwnerId(ownerId, null);
+        WardrobeIndex index = WardrobeIndex.compile(ownerId, clothes);
+        log.debug("[WardrobeIndex] 옷장 인덱스 생성 - ownerId: {}, size: {}", ownerId, index.size());
+        return index;
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
@@ -0,0 +1,112 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import org.ikuzo.otboo.domain.recommendation.support.WardrobeFeature.Season;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+
+/**
+ * 격자(x, y) + 예보시각 단위로 미리 계산한 추천용 날씨 정보 (사용자 민감도 보정 전)
+ * - 같은 격자의 사용자는 같은 예보를 받으므로 체감온도/계절/강수 정보를 공유
+ */
+public record WeatherContext(
+    Instant forecastAt,
+    int monthKst,
+    double perceivedDay,
+    double perceivedNight,
+    String precipitation,
+    Integer precipitationProbability
+) {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 과도기 온도 기준
+    private static final double WINTER_TRANSITION_TEMP = 12.0;  // 이하면 겨울로 보는 쪽
+    private static final double SUMMER_TRANSITION_TEMP = 25.0;  // 이상이면 여름으로 보는 쪽
+
+    public static WeatherContext of(Weather weather) {
+        double ta = nz(weather.getTemperatureMax(), 20.0);
+        double rh = nz(weather.getHumidityCurrent(), 50.0);
+        double wind = windMs(weather);
+        double minC = nz(weather.getTemperatureMin(), ta);
+
+        Instant forecastUtc = weather.getForecastAt() != null ? weather.getForecastAt()
+            : weather.getCreatedAt() != null ? weather.getCreatedAt()
+            : Instant.now();
+
+        return new WeatherContext(
+            forecastUtc,
+            forecastUtc.atZone(KST).getMonthValue(),
+            KmaPerceivedTemperature.compute(ta, rh, wind, forecastUtc),
+            KmaPerceivedTemperature.compute(minC, rh, wind, forecastUtc),
+            weather.getPrecipitationType(),
+            weather.getPrecipitationProbability() == null ? null
+                : weather.getPrecipitationProbability().intValue()
+        );
+    }
+
+    public double personalDay(double sensitivity) {
+        return perceivedDay + (sensitivity - 3);
+    }
+
+    public double personalNight(double sensitivity) {
+        return perceivedNight + (sensitivity - 3);
+    }
+
+    /**
+     * 월 기준 계절 (3/6/9/11월은 개인 체감온도로 과도기 판정)
+     */
+    public Season season(double ptDay) {
+        int m = monthKst;
+        if (m == 3) {
+            return (ptDay <= WINTER_TRANSITION_TEMP) ? Season.WINTER : Season.SPRING;
+        }
+        if (m == 6) {
+            return (ptDay >= SUMMER_TRANSITION_TEMP) ? Season.SUMMER : Season.SPRING;
+        }
+        if (m == 9) {
+            return (ptDay >= SUMMER_TRANSITION_TEMP) ? Season.SUMMER : Season.FALL;
+        }
+        if (m == 11) {
+            return (ptDay >= WINTER_TRANSITION_TEMP) ? Season.FALL : Season.WINTER;
+        }
+        if (m >= 3 && m <= 5) {
+            return Season.SPRING;
+        }
+        if (m >= 6 && m <= 8) {
+            return Season.SUMMER;
+        }
+        if (m >= 9 && m <= 11) {
+            return Season.FALL;
+        }
+        return Season.WINTER;
+    }
+
+    private static double windMs(Weather w) {
+        if (w.getWindSpeed() != null) {
+            return w.getWindSpeed();
+        }
+        String ww = w.getWindSpeedWord();
+        if ("WEAK".equals(ww)) {
+            return 1.5;
+        }
+        if ("MODERATE".equals(ww)) {
+            return 3.5;
+        }
+        if ("STRONG".equals(ww)) {
+            return 7.0;
+        }
+        return 0.0;
+    }
+
+    private static double nz(Double v, double d) {
+        return v == null ? d : v;
+    }
+
+    /**
+     * 캐시 키: 격자 + 예보시각 + 발표시각(같은 발표의 예보만 공유)
+     */
+    public record Key(int x, int y, Instant forecastAt, Instant forecastedAt) {
+
+    }
+}
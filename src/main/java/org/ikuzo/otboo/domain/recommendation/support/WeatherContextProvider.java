@@ -0,0 +1,41 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 격자 단위 WeatherContext 제공 ("weatherContext" 캐시)
+ * - 키는 날씨 행에 저장된 수집 격자 (사용자의 현재 위치가 아님), 격자가 없는 이전 행은 날씨 id 로 캐시
+ */
+@Component
+@RequiredArgsConstructor
+public class WeatherContextProvider {
+
+    public static final String CACHE_NAME = "weatherContext";
+
+    private final CacheManager cacheManager;
+
+    public WeatherContext get(Weather weather) {
+        Object key = keyOf(weather);
+        if (key == null) {
+            return WeatherContext.of(weather);
+        }
+        return cache().get(key, () -> WeatherContext.of(weather));
+    }
+
+    private Object keyOf(Weather weather) {
+        if (weather.getGridX() != null && weather.getGridY() != null && weather.getForecastAt() != null) {
+            return new WeatherContext.Key(weather.getGridX(), weather.getGridY(),
+                weather.getForecastAt(), weather.getForecastedAt());
+        }
+        return weather.getId();
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
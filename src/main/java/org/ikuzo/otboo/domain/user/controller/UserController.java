@@ -14,6 +14,8 @@ import org.ikuzo.otboo.domain.user.dto.UserLockUpdateRequest;
 import org.ikuzo.otboo.domain.user.dto.UserRoleUpdateRequest;
 import org.ikuzo.otboo.domain.user.service.UserService;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -109,7 +111,9 @@ public class UserController {
         @RequestParam(defaultValue = "DESCENDING") String sortDirection,
         @RequestParam(required = false) String emailLike,
         @RequestParam(required = false) String roleEqual,
-        @RequestParam(required = false) Boolean locked
+        @RequestParam(required = false) Boolean locked,
+        @RequestParam(name = TotalCountResolver.MODE_PARAMETER, defaultValue = TotalCountResolver.DEFAULT_MODE)
+        String countMode
     ) {
         log.info("계정 목록 조회 요청 - sortBy: {}, sortDirection: {}, emailLike: {}, roleEqual: {}, locked: {}",
             sortBy, sortDirection, emailLike, roleEqual, locked);
@@ -122,7 +126,8 @@ public class UserController {
             sortDirection,
             emailLike,
             roleEqual,
-            locked
+            locked,
+            TotalCountMode.from(countMode, TotalCountMode.EXACT)
         );
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -67,6 +67,10 @@ public class User extends BaseUpdatableEntity {
     @Column
     private String providerId;
 
+    // 의상/속성 변경 시 증가 (추천 결과 캐시 키에 사용)
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long wardrobeVersion = 0L;
+
     public User(String email, String name, String password) {
         this.email = email;
         this.name = name;
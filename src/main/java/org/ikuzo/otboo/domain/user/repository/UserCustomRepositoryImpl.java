@@ -13,6 +13,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.ikuzo.otboo.domain.user.entity.Role;
 import org.ikuzo.otboo.domain.user.entity.User;
+import org.ikuzo.otboo.global.util.NgramSearchSupport;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Repository;
 public class UserCustomRepositoryImpl implements UserCustomRepository {
 
     private final JPAQueryFactory queryFactory; // QueryDSL 쿼리 빌더
+    private final NgramSearchSupport ngramSearchSupport; // 부분 문자열 검색 (2-gram 인덱스)
 
     @Override
     public List<User> findUsersWithCursor(
@@ -36,9 +38,9 @@ public class UserCustomRepositoryImpl implements UserCustomRepository {
         BooleanBuilder whereClause = new BooleanBuilder();
 
         // 검색 필터 조건 추가
-        // 이메일 검색: LIKE '%keyword%' (대소문자 무시)
+        // 이메일 검색: ILIKE '%keyword%' (2-gram 인덱스로 후보 축소)
         if (emailLike != null && !emailLike.isBlank()) {
-            whereClause.and(user.email.containsIgnoreCase(emailLike));
+            whereClause.and(ngramSearchSupport.containsIgnoreCase(user.email, emailLike));
         }
 
         // 역할 필터: role = 'ADMIN'
@@ -89,7 +91,7 @@ public class UserCustomRepositoryImpl implements UserCustomRepository {
         BooleanBuilder whereClause = new BooleanBuilder();
 
         if (emailLike != null && !emailLike.isBlank()) {
-            whereClause.and(user.email.containsIgnoreCase(emailLike));
+            whereClause.and(ngramSearchSupport.containsIgnoreCase(user.email, emailLike));
         }
 
         if (roleEqual != null && !roleEqual.isBlank()) {
@@ -6,7 +6,9 @@ import java.util.UUID;
 import java.util.stream.Stream;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID>, UserCustomRepository {
 
@@ -14,9 +16,33 @@ public interface UserRepository extends JpaRepository<User, UUID>, UserCustomRep
 
     boolean existsByEmail(String email);
 
-    List<User> findByLockedFalseAndLatitudeIsNotNullAndLongitudeIsNotNull();
-
     @Query("SELECT u.id FROM User u WHERE u.locked = false")
     Stream<UUID> streamUserIdsByLockedFalse();
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.wardrobeVersion = u.wardrobeVersion + 1 WHERE u.id = :userId")
+    int incrementWardrobeVersion(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u SET u.wardrobeVersion = u.wardrobeVersion + 1
+        WHERE u.id IN (
+            SELECT c.owner.id FROM ClothesAttribute a JOIN a.clothes c
+            WHERE a.definition.id = :definitionId
+        )
+        """)
+    int incrementWardrobeVersionByDefinitionId(@Param("definitionId") UUID definitionId);
+
+    // 좌표는 있지만 격자가 비어 있는 사용자 (날씨 배치의 격자 파티션 배정 전에 채움)
+    @Query("""
+        SELECT u FROM User u
+        WHERE (u.x IS NULL OR u.y IS NULL)
+          AND u.latitude IS NOT NULL AND u.longitude IS NOT NULL
+        """)
+    List<User> findAllWithoutGrid();
+
+    @Modifying
+    @Query("UPDATE User u SET u.x = :x, u.y = :y WHERE u.id = :userId")
+    int updateGrid(@Param("userId") UUID userId, @Param("x") int x, @Param("y") int y);
+
 }
@@ -10,6 +10,7 @@ import org.ikuzo.otboo.domain.user.dto.UserDto;
 import org.ikuzo.otboo.domain.user.dto.UserLockUpdateRequest;
 import org.ikuzo.otboo.domain.user.dto.UserRoleUpdateRequest;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface UserService {
@@ -27,7 +28,8 @@ public interface UserService {
         String sortDirection,
         String emailLike,
         String roleEqual,
-        Boolean locked
+        Boolean locked,
+        TotalCountMode countMode
     );
     UserDto updateLock(UUID userId, UserLockUpdateRequest request);
 }
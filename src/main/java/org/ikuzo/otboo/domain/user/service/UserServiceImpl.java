@@ -19,6 +19,8 @@ import org.ikuzo.otboo.domain.user.exception.UserNotFoundException;
 import org.ikuzo.otboo.domain.user.mapper.UserMapper;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
 import org.ikuzo.otboo.global.dto.PageResponse;
+import org.ikuzo.otboo.global.pagination.TotalCountMode;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.ikuzo.otboo.global.util.ImageSwapHelper;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,6 +37,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
     private final ImageSwapHelper imageSwapHelper;
+    private final TotalCountResolver totalCountResolver;
 
     @Transactional
     @Override
@@ -164,7 +167,8 @@ public class UserServiceImpl implements UserService {
         String sortDirection,
         String emailLike,
         String roleEqual,
-        Boolean locked
+        Boolean locked,
+        TotalCountMode countMode
     ) {
         log.debug("계정 목록 조회 시작");
 
@@ -202,11 +206,9 @@ public class UserServiceImpl implements UserService {
         }
 
         // 전체 개수 카운트 (필터 조건 동일하게 적용)
-        Long totalCount = userRepository.countUsersWithFilters(
-            emailLike,
-            roleEqual,
-            locked
-        );
+        Long totalCount = totalCountResolver.resolve(countMode, cursor == null,
+            () -> userRepository.countUsersWithFilters(emailLike, roleEqual, locked),
+            "users", emailLike, roleEqual, locked);
 
         // 응답 DTO 생성
         return new PageResponse<>(
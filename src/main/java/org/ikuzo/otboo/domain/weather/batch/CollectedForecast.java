@@ -0,0 +1,11 @@
+package org.ikuzo.otboo.domain.weather.batch;
+
+import java.util.UUID;
+import org.ikuzo.otboo.domain.weather.dto.GridForecast;
+
+public record CollectedForecast(
+    UUID userId,
+    GridForecast forecast
+) {
+
+}
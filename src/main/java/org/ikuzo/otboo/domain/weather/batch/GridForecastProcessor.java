@@ -0,0 +1,62 @@
+package org.ikuzo.otboo.domain.weather.batch;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.dto.GridForecast;
+import org.ikuzo.otboo.domain.weather.service.WeatherServiceImpl;
+import org.ikuzo.otboo.domain.weather.util.KmaGridConverter.XY;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 사용자 좌표 -> 격자 예보 매핑 (스텝 실행 동안 격자당 KMA 1회 호출, 실패한 격자도 기억)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GridForecastProcessor
+    implements ItemProcessor<WeatherCollectTarget, CollectedForecast>, StepExecutionListener {
+
+    private final WeatherServiceImpl weatherServiceImpl;
+    // 발표시각 기준 시각 (잡 파라미터 ts -> 재시작해도 같은 발표 예보를 수집)
+    private final Instant baseInstant;
+
+    private final Map<XY, Optional<GridForecast>> forecastByGrid = new HashMap<>();
+    private int cellsFetched;
+    private int cellsFailed;
+
+    @Override
+    public CollectedForecast process(WeatherCollectTarget target) {
+        XY xy = target.grid();
+        Optional<GridForecast> forecast = forecastByGrid.computeIfAbsent(xy, this::fetch);
+        // 예보 조회에 실패한 격자의 사용자는 필터링
+        return forecast.map(f -> new CollectedForecast(target.userId(), f)).orElse(null);
+    }
+
+    private Optional<GridForecast> fetch(XY xy) {
+        try {
+            GridForecast forecast = weatherServiceImpl.fetchGridForecast(xy, baseInstant);
+            cellsFetched++;
+            return Optional.of(forecast);
+        } catch (Exception e) {
+            log.warn("[GridForecastProcessor] 격자 ({}, {}) 예보 조회 실패: {}", xy.x(), xy.y(), e.getMessage());
+            cellsFailed++;
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        stepExecution.getExecutionContext().putInt("cellsFetched", cellsFetched);
+        stepExecution.getExecutionContext().putInt("cellsFailed", cellsFailed);
+        log.info("[GridForecastProcessor] 격자 {}개 조회(실패 {}개), 사용자 {}명 저장, {}명 제외",
+            cellsFetched, cellsFailed, stepExecution.getWriteCount(),
+            stepExecution.getFilterCount() + stepExecution.getSkipCount());
+        return stepExecution.getExitStatus();
+    }
+}
@@ -1,8 +1,12 @@
 package org.ikuzo.otboo.domain.weather.batch;
 
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.explore.JobExplorer;
@@ -25,6 +29,10 @@ public class WeatherBatchScheduler {
     @Value("${weather.batch.enabled:true}")
     private boolean enabled;
 
+    // 이 시간 안에 실패한 실행만 재시작 (지난 발표시각 예보를 다시 수집하지 않도록)
+    @Value("${weather.batch.restart-window:PT1H}")
+    private Duration restartWindow;
+
 
     @Scheduled(cron = "${weather.batch.cron:0 0/30 * * * *}", zone = "Asia/Seoul")
     public void run() {
@@ -36,12 +44,36 @@ public class WeatherBatchScheduler {
             return;
         }
         try {
-            JobParameters params = new JobParametersBuilder()
-                .addLong("ts", System.currentTimeMillis())
-                .toJobParameters();
+            JobParameters params = restartableParameters();
+            if (params != null) {
+                log.info("직전 날씨 배치가 실패해 마지막 커밋 지점부터 재시작합니다. params={}", params);
+            } else {
+                params = new JobParametersBuilder()
+                    .addLong("ts", System.currentTimeMillis())
+                    .toJobParameters();
+            }
             jobLauncher.run(weatherCollectJob, params);
         } catch (Exception e) {
             log.error("날씨 배치작업에 실패했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 직전 실행이 실패했고 재시작 허용 구간 이내면 같은 파라미터 반환 (같은 JobInstance 재실행 = 청크 단위 재개)
+     */
+    private JobParameters restartableParameters() {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(weatherCollectJob.getName());
+        if (lastInstance == null) {
+            return null;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null || lastExecution.getStatus() != BatchStatus.FAILED) {
+            return null;
+        }
+        Long ts = lastExecution.getJobParameters().getLong("ts");
+        if (ts == null || System.currentTimeMillis() - ts > restartWindow.toMillis()) {
+            return null;
+        }
+        return lastExecution.getJobParameters();
+    }
+}
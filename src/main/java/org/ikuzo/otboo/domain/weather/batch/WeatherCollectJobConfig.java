@@ -1,21 +1,40 @@
 package org.ikuzo.otboo.domain.weather.batch;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
+import org.ikuzo.otboo.domain.weather.dto.GridForecast;
 import org.ikuzo.otboo.domain.weather.service.WeatherServiceImpl;
+import org.ikuzo.otboo.domain.weather.util.KmaGridConverter;
+import org.ikuzo.otboo.domain.weather.util.KmaGridConverter.XY;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -24,51 +43,203 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class WeatherCollectJobConfig {
 
-    private final UserRepository userRepository;
+    private static final String PARTITION_KEY = "partition";
+    private static final String PARTITION_COUNT_KEY = "partitionCount";
+
+    // 스텝 컨텍스트 집계 키 (파티션 모드에서는 매니저 스텝에 합산, 읽기/쓰기/필터 건수는 기본 집계)
+    private static final List<String> COUNT_KEYS = List.of("cellsFetched", "cellsFailed");
+
     private final WeatherServiceImpl weatherServiceImpl;
+    private final UserRepository userRepository;
+
+    @Value("${weather.batch.chunk-size:100}")
+    private int chunkSize;
+
+    // 청크 저장 실패 시 항목 단위로 재시도 후 건너뛸 최대 건수
+    @Value("${weather.batch.skip-limit:1000}")
+    private int skipLimit;
+
+    // 파티션 병렬 모드 (false 면 단일 스레드 스텝)
+    @Value("${weather.batch.parallel.enabled:false}")
+    private boolean parallelEnabled;
+
+    // 격자 분할 개수 (동시 실행 수보다 크게 두면 느린 파티션이 있어도 나머지가 계속 진행)
+    @Value("${weather.batch.parallel.partitions:16}")
+    private int partitions;
+
+    @Value("${weather.batch.parallel.concurrency:4}")
+    private int concurrency;
 
     // Job
     @Bean
-    public Job weatherCollectJob(JobRepository jobRepository, Step collectWeathersStep) {
+    public Job weatherCollectJob(JobRepository jobRepository, Step userGridBackfillStep,
+                                 Step collectWeathersStep, Step precomputeRecommendationsStep) {
         return new JobBuilder("weatherCollectJob", jobRepository)
-            .start(collectWeathersStep)
+            .start(userGridBackfillStep)
+            .next(collectWeathersStep)
+            .next(precomputeRecommendationsStep)
             .build();
     }
 
-    // Step
+    // Step: 좌표만 있고 격자가 없는 사용자의 격자를 채움 (수집 스텝은 저장된 격자로 파티션 배정 및 예보 조회)
+    @Bean
+    public Step userGridBackfillStep(JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager) {
+        return new StepBuilder("userGridBackfillStep", jobRepository)
+            .tasklet((contribution, chunkContext) -> {
+                List<User> users = userRepository.findAllWithoutGrid();
+                for (User user : users) {
+                    XY xy = KmaGridConverter.toXY(user.getLatitude(), user.getLongitude());
+                    userRepository.updateGrid(user.getId(), xy.x(), xy.y());
+                }
+                if (!users.isEmpty()) {
+                    log.info("[WeatherCollectJobConfig] 격자 누락 사용자 {}명 격자 보정", users.size());
+                }
+                contribution.incrementWriteCount(users.size());
+                return RepeatStatus.FINISHED;
+            }, transactionManager)
+            .build();
+    }
+
+    // Step: 병렬 모드면 파티션 매니저 스텝, 아니면 워커 스텝 하나를 그대로 사용 (스텝 빈은 하나만 정의)
     @Bean
     public Step collectWeathersStep(JobRepository jobRepository,
                                     PlatformTransactionManager transactionManager,
-                                    Tasklet collectTasklet) {
+                                    JpaPagingItemReader<WeatherCollectTarget> collectTargetReader,
+                                    GridForecastProcessor gridForecastProcessor,
+                                    ThreadPoolTaskExecutor weatherBatchTaskExecutor) {
+        if (!parallelEnabled) {
+            return workerStep("collectWeathersStep", jobRepository, transactionManager,
+                collectTargetReader, gridForecastProcessor);
+        }
+        log.info("[WeatherCollectJobConfig] 날씨 배치 파티션 모드 - partitions: {}, concurrency: {}",
+            partitions, concurrency);
+        Step workerStep = workerStep("collectWeathersWorkerStep", jobRepository, transactionManager,
+            collectTargetReader, gridForecastProcessor);
         return new StepBuilder("collectWeathersStep", jobRepository)
-            .tasklet(collectTasklet, transactionManager)
+            .partitioner(workerStep.getName(), gridPartitioner())
+            .step(workerStep)
+            .gridSize(partitions)
+            .taskExecutor(weatherBatchTaskExecutor)
+            .aggregator(countAggregator())
+            .build();
+    }
+
+    // 청크 단위 커밋 -> 실패한 실행은 같은 파라미터로 재실행하면 마지막 커밋 지점부터 이어서 처리
+    private Step workerStep(String name,
+                            JobRepository jobRepository,
+                            PlatformTransactionManager transactionManager,
+                            JpaPagingItemReader<WeatherCollectTarget> collectTargetReader,
+                            GridForecastProcessor gridForecastProcessor) {
+        return new StepBuilder(name, jobRepository)
+            .<WeatherCollectTarget, CollectedForecast>chunk(chunkSize, transactionManager)
+            .reader(collectTargetReader)
+            .processor(gridForecastProcessor)
+            .writer(collectedForecastWriter())
+            .faultTolerant()
+            .skip(Exception.class)
+            .skipLimit(skipLimit)
+            .listener(gridForecastProcessor)
             .build();
     }
 
-    // Tasklet
     @Bean
-    public Tasklet collectTasklet() {
-        return (contribution, chunkContext) -> {
-            List<User> targets =
-                userRepository.findByLockedFalseAndLatitudeIsNotNullAndLongitudeIsNotNull();
+    public ThreadPoolTaskExecutor weatherBatchTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("weather-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
 
-            if (targets.isEmpty()) {
-                log.warn("[WeatherCollectJobConfig] 조건을 만족하는 사용자가 없어 배치를 종료합니다.");
-                return RepeatStatus.FINISHED;
+    // Reader: 엔티티 대신 id/좌표만 페이지 단위로 읽음 (격자 순 정렬 -> 같은 격자 사용자가 인접)
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<WeatherCollectTarget> collectTargetReader(
+        EntityManagerFactory entityManagerFactory,
+        @Value("#{stepExecutionContext['" + PARTITION_KEY + "']}") Integer partition,
+        @Value("#{stepExecutionContext['" + PARTITION_COUNT_KEY + "']}") Integer partitionCount
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        String partitionFilter = "";
+        if (partition != null) {
+            // 격자 단위로 파티션 배정 (같은 격자는 항상 같은 파티션, 프로세서도 같은 저장 격자로 조회)
+            partitionFilter = "and mod(u.x * 1000 + u.y, :partitionCount) = :partition";
+            params.put("partition", partition);
+            params.put("partitionCount", partitionCount);
+        }
+
+        return new JpaPagingItemReaderBuilder<WeatherCollectTarget>()
+            .name("collectTargetReader")
+            .entityManagerFactory(entityManagerFactory)
+            .queryString("""
+                select new org.ikuzo.otboo.domain.weather.batch.WeatherCollectTarget(
+                    u.id, u.latitude, u.longitude, u.x, u.y)
+                from User u
+                where u.locked = false
+                  and u.latitude is not null
+                  and u.longitude is not null
+                  and u.x is not null
+                  and u.y is not null
+                """ + partitionFilter + """
+
+                order by u.x asc, u.y asc, u.id asc
+                """)
+            .parameterValues(params)
+            .pageSize(chunkSize)
+            .saveState(true)
+            .build();
+    }
+
+    // Processor: 격자당 1회 KMA 호출 후 같은 격자 사용자에게 분배
+    // 발표시각 기준은 잡 파라미터 ts (재시작/파티션 간 동일), 없으면 현재 시각
+    @Bean
+    @StepScope
+    public GridForecastProcessor gridForecastProcessor(
+        @Value("#{jobParameters['ts']}") Long ts
+    ) {
+        Instant baseInstant = (ts == null) ? Instant.now() : Instant.ofEpochMilli(ts);
+        return new GridForecastProcessor(weatherServiceImpl, baseInstant);
+    }
+
+    // Writer: 청크 단위 일괄 저장
+    private ItemWriter<CollectedForecast> collectedForecastWriter() {
+        return chunk -> {
+            Map<UUID, GridForecast> forecastsByUserId = new LinkedHashMap<>();
+            for (CollectedForecast item : chunk.getItems()) {
+                forecastsByUserId.put(item.userId(), item.forecast());
             }
+            weatherServiceImpl.saveForUsers(forecastsByUserId);
+        };
+    }
+
+    // 파티션 번호만 전달, 격자 배정은 리더 쿼리에서 처리
+    private Partitioner gridPartitioner() {
+        return gridSize -> {
+            Map<String, ExecutionContext> result = new HashMap<>();
+            for (int i = 0; i < gridSize; i++) {
+                ExecutionContext ctx = new ExecutionContext();
+                ctx.putInt(PARTITION_KEY, i);
+                ctx.putInt(PARTITION_COUNT_KEY, gridSize);
+                result.put("grid" + i, ctx);
+            }
+            return result;
+        };
+    }
 
-            int success = 0, fail = 0;
-            for (User u : targets) {
-                try {
-                    weatherServiceImpl.collectAndSaveForUser(u.getId());
-                    success++;
-                } catch (Exception e) {
-                    log.warn("[WeatherCollectJobConfig] 사용자 {}의 날씨 수집 실패: {}", u.getId(), e.getMessage());
-                    fail++;
+    private StepExecutionAggregator countAggregator() {
+        DefaultStepExecutionAggregator delegate = new DefaultStepExecutionAggregator();
+        return (result, executions) -> {
+            delegate.aggregate(result, executions);
+            for (String key : COUNT_KEYS) {
+                int sum = 0;
+                for (StepExecution execution : executions) {
+                    sum += execution.getExecutionContext().getInt(key, 0);
                 }
+                result.getExecutionContext().putInt(key, sum);
             }
-            log.info("[WeatherCollectJobConfig] 날씨 배치 작업 완료. 성공 {}건, 실패 {}건", success, fail);
-            return RepeatStatus.FINISHED;
         };
     }
-}
\ No newline at end of file
+}
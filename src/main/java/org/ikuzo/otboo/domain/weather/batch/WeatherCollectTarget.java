@@ -0,0 +1,27 @@
+package org.ikuzo.otboo.domain.weather.batch;
+
+import java.util.UUID;
+import org.ikuzo.otboo.domain.weather.util.KmaGridConverter;
+import org.ikuzo.otboo.domain.weather.util.KmaGridConverter.XY;
+
+/**
+ * 날씨 수집 대상 (엔티티 대신 id/좌표/격자만 읽음)
+ */
+public record WeatherCollectTarget(
+    UUID userId,
+    Double latitude,
+    Double longitude,
+    Integer x,
+    Integer y
+) {
+
+    /**
+     * 저장된 격자 우선 (리더의 파티션 배정과 같은 값), 없으면 좌표로 계산
+     */
+    public XY grid() {
+        if (x != null && y != null) {
+            return new XY(x, y);
+        }
+        return KmaGridConverter.toXY(latitude, longitude);
+    }
+}
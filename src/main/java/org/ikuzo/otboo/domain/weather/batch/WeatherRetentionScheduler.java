@@ -0,0 +1,57 @@
+package org.ikuzo.otboo.domain.weather.batch;
+
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.repository.WeatherPartitionRepository;
+import org.ikuzo.otboo.domain.weather.service.WeatherRetentionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherRetentionScheduler {
+
+    private final WeatherRetentionService weatherRetentionService;
+    private final WeatherPartitionRepository weatherPartitionRepository;
+
+    @Value("${weather.retention.enabled:true}")
+    private boolean enabled;
+
+    // 기동 시 이번 달/다음 달 파티션 보장
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            weatherRetentionService.ensurePartitions();
+        } catch (Exception e) {
+            log.error("날씨 파티션 생성에 실패했습니다.", e);
+        }
+    }
+
+    @Scheduled(cron = "${weather.retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            weatherRetentionService.ensurePartitions();
+            weatherRetentionService.rollupRecentDays();
+
+            YearMonth boundary = weatherRetentionService.retentionBoundary();
+            for (YearMonth month : weatherPartitionRepository.findMonthlyPartitions()) {
+                if (month.isBefore(boundary)) {
+                    weatherRetentionService.expire(month);
+                }
+            }
+        } catch (Exception e) {
+            log.error("날씨 보존 작업에 실패했습니다.", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.ikuzo.otboo.domain.weather.client;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.ikuzo.otboo.domain.weather.dto.KakaoRegionResponse;
+import org.ikuzo.otboo.global.http.OutboundHttpClients;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -14,16 +15,26 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class KakaoLocalClient {
 
     private final KakaoApiProperties props;
+    private final OutboundHttpClients outboundHttpClients;
+
+    private volatile WebClient webClient;
 
     private WebClient client() {
-        String base = props.getBaseUrl();
-        if (base == null || base.isBlank()) {
-            base = "https://dapi.kakao.com";
+        if (webClient == null) {
+            synchronized (this) {
+                if (webClient == null) {
+                    String base = props.getBaseUrl();
+                    if (base == null || base.isBlank()) {
+                        base = "https://dapi.kakao.com";
+                    }
+                    webClient = outboundHttpClients.builder(OutboundHttpClients.KAKAO)
+                        .baseUrl(base)
+                        .defaultHeader("Authorization", "KakaoAK " + props.getRestApiKey())
+                        .build();
+                }
+            }
         }
-        return WebClient.builder()
-            .baseUrl(base)
-            .defaultHeader("Authorization", "KakaoAK " + props.getRestApiKey())
-            .build();
+        return webClient;
     }
 
     public KakaoRegionResponse coord2region(double lat, double lon) {
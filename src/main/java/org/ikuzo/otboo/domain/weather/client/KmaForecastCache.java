@@ -0,0 +1,74 @@
+package org.ikuzo.otboo.domain.weather.client;
+
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 격자/발표시각 단위 단기예보 공유 캐시 (배치/온디맨드/익명 요청 공통)
+ * - 발표 직후 빈 응답은 캐시하지 않음 (다음 요청에서 재조회)
+ * - 앞쪽 일부 행만 필요한 배치는 전체 응답이 이미 캐시돼 있으면 그것을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KmaForecastCache {
+
+    public static final String CACHE_NAME = "kmaForecast";
+
+    private final WeatherApiClient weatherApiClient;
+    private final WeatherApiProperties props;
+    private final CacheManager cacheManager;
+
+    /**
+     * 3일치 전체 예보 (조회 API)
+     */
+    public KmaForecastGrid getVillageforecast(String baseDate, String baseTime, int nx, int ny) {
+        return load(new KmaForecastKey(nx, ny, baseDate, baseTime, props.getFullRows()));
+    }
+
+    /**
+     * 가장 이른 예보시각 위주의 앞쪽 예보 (배치)
+     */
+    public KmaForecastGrid getLeadingForecast(String baseDate, String baseTime, int nx, int ny) {
+        KmaForecastKey key = new KmaForecastKey(nx, ny, baseDate, baseTime, props.getBatchRows());
+        KmaForecastGrid full = cache().get(key.withRows(props.getFullRows()), KmaForecastGrid.class);
+        return full != null ? full : load(key);
+    }
+
+    private KmaForecastGrid load(KmaForecastKey key) {
+        KmaForecastGrid grid;
+        try {
+            grid = cache().get(key,
+                () -> weatherApiClient.getVillageforecast(key.baseDate(), key.baseTime(), key.nx(), key.ny(), key.rows()));
+        } catch (Cache.ValueRetrievalException e) {
+            // 캐시가 로더 예외를 감싸므로 원래 예외(WeatherRateLimitedException 등)를 그대로 전달
+            throw unwrap(e);
+        }
+
+        if (grid == null || grid.isEmpty()) {
+            log.debug("[KmaForecastCache] 빈 예보 응답 - 캐시하지 않음: {}", key);
+            cache().evict(key);
+            return KmaForecastGrid.empty();
+        }
+        return grid;
+    }
+
+    private RuntimeException unwrap(Cache.ValueRetrievalException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
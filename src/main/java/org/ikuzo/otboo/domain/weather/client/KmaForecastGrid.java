@@ -0,0 +1,247 @@
+package org.ikuzo.otboo.domain.weather.client;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 단기예보 격자 응답의 압축 표현 (불변)
+ * - 예보 시각은 epoch 기준 시(hour) 단위 int 슬롯, 오름차순 정렬
+ * - 수치 카테고리는 슬롯별 double 배열(없음 = NaN), SKY/PTY 는 코드값 byte 배열(없음 = -1)
+ *   (float 로 보관하면 double 변환 시 2.3 -> 2.299999952... 처럼 오차가 드러나므로 double 유지)
+ * - 사용하지 않는 카테고리(UUU, VVV, VEC, WAV, SNO 등)는 파싱 단계에서 버림
+ */
+public final class KmaForecastGrid {
+
+    public static final int TMP = 0;
+    public static final int TMN = 1;
+    public static final int TMX = 2;
+    public static final int REH = 3;
+    public static final int WSD = 4;
+    public static final int POP = 5;
+    public static final int PCP = 6;
+
+    static final int SKY = 7;
+    static final int PTY = 8;
+    static final int NUMERIC_CATEGORIES = 7;
+
+    private static final KmaForecastGrid EMPTY =
+        new KmaForecastGrid(null, null, 0, 0, new int[0], new double[NUMERIC_CATEGORIES][0], new byte[0],
+            new byte[0]);
+
+    private final String baseDate;
+    private final String baseTime;
+    private final int nx;
+    private final int ny;
+    private final int[] slots;
+    private final double[][] values;
+    private final byte[] sky;
+    private final byte[] pty;
+
+    private KmaForecastGrid(String baseDate, String baseTime, int nx, int ny, int[] slots, double[][] values,
+                            byte[] sky, byte[] pty) {
+        this.baseDate = baseDate;
+        this.baseTime = baseTime;
+        this.nx = nx;
+        this.ny = ny;
+        this.slots = slots;
+        this.values = values;
+        this.sky = sky;
+        this.pty = pty;
+    }
+
+    public static KmaForecastGrid empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 카테고리 이름 -> 내부 인덱스 (사용하지 않는 카테고리는 -1)
+     */
+    static int categoryIndex(String category) {
+        return switch (category) {
+            case "TMP" -> TMP;
+            case "TMN" -> TMN;
+            case "TMX" -> TMX;
+            case "REH" -> REH;
+            case "WSD" -> WSD;
+            case "POP" -> POP;
+            case "PCP" -> PCP;
+            case "SKY" -> SKY;
+            case "PTY" -> PTY;
+            default -> -1;
+        };
+    }
+
+    public static int toSlot(Instant instant) {
+        return (int) Math.floorDiv(instant.getEpochSecond(), 3600L);
+    }
+
+    public static Instant ofSlot(int slot) {
+        return Instant.ofEpochSecond(slot * 3600L);
+    }
+
+    public String baseDate() {
+        return baseDate;
+    }
+
+    public String baseTime() {
+        return baseTime;
+    }
+
+    public int nx() {
+        return nx;
+    }
+
+    public int ny() {
+        return ny;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    public boolean isEmpty() {
+        return slots.length == 0;
+    }
+
+    public int slot(int i) {
+        return slots[i];
+    }
+
+    public Instant forecastAt(int i) {
+        return ofSlot(slots[i]);
+    }
+
+    /**
+     * @return 슬롯 위치, 없으면 -1
+     */
+    public int indexOf(int slot) {
+        int i = Arrays.binarySearch(slots, slot);
+        return i >= 0 ? i : -1;
+    }
+
+    public Double value(int category, int i) {
+        double v = values[category][i];
+        return Double.isNaN(v) ? null : v;
+    }
+
+    /**
+     * 해당 슬롯 값 (슬롯이 없거나 값이 없으면 null)
+     */
+    public Double valueAtSlot(int category, int slot) {
+        int i = indexOf(slot);
+        return i < 0 ? null : value(category, i);
+    }
+
+    public Integer sky(int i) {
+        return sky[i] < 0 ? null : (int) sky[i];
+    }
+
+    public Integer pty(int i) {
+        return pty[i] < 0 ? null : (int) pty[i];
+    }
+
+    /**
+     * 캐시 용량 계산용 (슬롯 x 보관 카테고리 수)
+     */
+    public int weight() {
+        return slots.length * (NUMERIC_CATEGORIES + 2);
+    }
+
+    /**
+     * 예보 항목을 슬롯 단위로 모으는 빌더 (KMA 응답은 예보시각 순이라 대부분 마지막 슬롯에 추가됨)
+     */
+    static final class Builder {
+
+        private String baseDate;
+        private String baseTime;
+        private int nx;
+        private int ny;
+
+        private int size;
+        private int[] slots = new int[16];
+        private double[][] values = new double[NUMERIC_CATEGORIES][16];
+        private byte[] sky = new byte[16];
+        private byte[] pty = new byte[16];
+
+        Builder base(String baseDate, String baseTime, int nx, int ny) {
+            this.baseDate = baseDate;
+            this.baseTime = baseTime;
+            this.nx = nx;
+            this.ny = ny;
+            return this;
+        }
+
+        boolean hasBase() {
+            return baseDate != null;
+        }
+
+        void put(int slot, int category, double value) {
+            // indexFor 가 배열을 키울 수 있으므로 인덱스를 먼저 구함
+            int i = indexFor(slot);
+            values[category][i] = value;
+        }
+
+        void putCode(int slot, int category, byte code) {
+            int i = indexFor(slot);
+            if (category == SKY) {
+                sky[i] = code;
+            } else {
+                pty[i] = code;
+            }
+        }
+
+        KmaForecastGrid build() {
+            if (size == 0) {
+                return baseDate == null ? EMPTY
+                    : new KmaForecastGrid(baseDate, baseTime, nx, ny, new int[0], new double[NUMERIC_CATEGORIES][0],
+                        new byte[0], new byte[0]);
+            }
+            double[][] v = new double[NUMERIC_CATEGORIES][];
+            for (int c = 0; c < NUMERIC_CATEGORIES; c++) {
+                v[c] = Arrays.copyOf(values[c], size);
+            }
+            return new KmaForecastGrid(baseDate, baseTime, nx, ny, Arrays.copyOf(slots, size), v,
+                Arrays.copyOf(sky, size), Arrays.copyOf(pty, size));
+        }
+
+        private int indexFor(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return size - 1;
+            }
+            if (size == 0 || slot > slots[size - 1]) {
+                return insertAt(size, slot);
+            }
+            int i = Arrays.binarySearch(slots, 0, size, slot);
+            return i >= 0 ? i : insertAt(-i - 1, slot);
+        }
+
+        private int insertAt(int pos, int slot) {
+            if (size == slots.length) {
+                int cap = size * 2;
+                slots = Arrays.copyOf(slots, cap);
+                for (int c = 0; c < NUMERIC_CATEGORIES; c++) {
+                    values[c] = Arrays.copyOf(values[c], cap);
+                }
+                sky = Arrays.copyOf(sky, cap);
+                pty = Arrays.copyOf(pty, cap);
+            }
+            int tail = size - pos;
+            if (tail > 0) {
+                System.arraycopy(slots, pos, slots, pos + 1, tail);
+                for (int c = 0; c < NUMERIC_CATEGORIES; c++) {
+                    System.arraycopy(values[c], pos, values[c], pos + 1, tail);
+                }
+                System.arraycopy(sky, pos, sky, pos + 1, tail);
+                System.arraycopy(pty, pos, pty, pos + 1, tail);
+            }
+            slots[pos] = slot;
+            for (int c = 0; c < NUMERIC_CATEGORIES; c++) {
+                values[c][pos] = Double.NaN;
+            }
+            sky[pos] = -1;
+            pty[pos] = -1;
+            size++;
+            return pos;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.ikuzo.otboo.domain.weather.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 단기예보 캐시 키 (격자 + 발표시각 + 요청 행 수)
+ * - 같은 발표시각의 예보는 발표 후 바뀌지 않으므로 불변 값으로 취급
+ * - 오늘 조회(다음 발표 전까지)와 전일 비교 조회(24시간 뒤)에 쓰이므로 발표시각 + 27시간까지 보관
+ */
+public record KmaForecastKey(int nx, int ny, String baseDate, String baseTime, int rows) {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BASE = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final Duration RETENTION = Duration.ofHours(27);
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+    public KmaForecastKey withRows(int rows) {
+        return new KmaForecastKey(nx, ny, baseDate, baseTime, rows);
+    }
+
+    public Instant baseInstant() {
+        return LocalDateTime.parse(baseDate + baseTime, BASE).atZone(SEOUL).toInstant();
+    }
+
+    public Duration ttl(Instant now) {
+        Duration remaining = Duration.between(now, baseInstant().plus(RETENTION));
+        return remaining.compareTo(MIN_TTL) < 0 ? MIN_TTL : remaining;
+    }
+}
@@ -0,0 +1,162 @@
+package org.ikuzo.otboo.domain.weather.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+/**
+ * 단기예보(getVilageFcst) JSON 스트리밍 파서
+ * - item 배열을 토큰 단위로 읽어 필요한 카테고리만 KmaForecastGrid 에 기록 (응답 POJO/중간 Map 미생성)
+ * - resultCode 가 00 이 아니거나 item 이 없으면 빈 격자 반환
+ * - 입력은 이미 메모리에 모인 응답 본문 (WeatherApiClient 가 본문 전체를 버퍼링한 뒤 호출)
+ *   토큰 단위 파싱은 중간 객체를 줄일 뿐 최대 메모리는 응답 크기만큼 필요
+ *   (상한은 outbound.http.upstreams.kma.max-in-memory-size)
+ */
+public final class KmaForecastStreamParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int KST_OFFSET_HOURS = 9;
+
+    private KmaForecastStreamParser() {
+    }
+
+    public static KmaForecastGrid parse(InputStream in) throws IOException {
+        try (JsonParser p = JSON.createParser(in)) {
+            String resultCode = null;
+            KmaForecastGrid.Builder builder = new KmaForecastGrid.Builder();
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                String name = p.currentName();
+                if ("resultCode".equals(name)) {
+                    p.nextToken();
+                    resultCode = p.getText();
+                } else if ("item".equals(name)) {
+                    if (p.nextToken() == JsonToken.START_ARRAY) {
+                        readItems(p, builder);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+            if (resultCode != null && !"00".equals(resultCode)) {
+                return KmaForecastGrid.empty();
+            }
+            return builder.build();
+        }
+    }
+
+    private static void readItems(JsonParser p, KmaForecastGrid.Builder builder) throws IOException {
+        // 같은 예보일 항목이 연속되므로 마지막 날짜의 epochDay 재사용
+        int lastDate = -1;
+        long lastEpochDay = 0;
+
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int category = -1;
+            boolean categorySeen = false;
+            int fcstDate = -1;
+            int fcstTime = -1;
+            String value = null;
+            String baseDate = null;
+            String baseTime = null;
+            int nx = 0;
+            int ny = 0;
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "category" -> {
+                        category = KmaForecastGrid.categoryIndex(p.getText());
+                        categorySeen = true;
+                    }
+                    case "fcstDate" -> fcstDate = p.getValueAsInt(-1);
+                    case "fcstTime" -> fcstTime = p.getValueAsInt(-1);
+                    case "fcstValue" -> {
+                        // 카테고리가 먼저 나왔고 사용하지 않는 항목이면 값 문자열을 만들지 않음
+                        if (!categorySeen || category >= 0) {
+                            value = p.getText();
+                        }
+                    }
+                    case "baseDate" -> {
+                        if (!builder.hasBase()) {
+                            baseDate = p.getText();
+                        }
+                    }
+                    case "baseTime" -> {
+                        if (!builder.hasBase()) {
+                            baseTime = p.getText();
+                        }
+                    }
+                    case "nx" -> nx = p.getValueAsInt();
+                    case "ny" -> ny = p.getValueAsInt();
+                    default -> p.skipChildren();
+                }
+            }
+
+            if (!builder.hasBase() && baseDate != null) {
+                builder.base(baseDate, baseTime, nx, ny);
+            }
+            if (category < 0 || value == null || fcstDate < 0 || fcstTime < 0) {
+                continue;
+            }
+
+            if (fcstDate != lastDate) {
+                lastDate = fcstDate;
+                lastEpochDay = LocalDate.of(fcstDate / 10000, fcstDate / 100 % 100, fcstDate % 100).toEpochDay();
+            }
+            int slot = (int) (lastEpochDay * 24 + fcstTime / 100 - KST_OFFSET_HOURS);
+
+            if (category < KmaForecastGrid.NUMERIC_CATEGORIES) {
+                double v = category == KmaForecastGrid.PCP ? parsePrecipAmount(value) : parseDouble(value);
+                if (!Double.isNaN(v)) {
+                    builder.put(slot, category, v);
+                }
+            } else {
+                double code = parseDouble(value);
+                if (!Double.isNaN(code)) {
+                    builder.putCode(slot, category, (byte) code);
+                }
+            }
+        }
+    }
+
+    private static double parseDouble(String v) {
+        if (v == null || v.isBlank()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(v.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 강수량(PCP) 문자열 -> mm
+     * - "강수없음" -> 0
+     * - "1.0mm", "1mm 미만", "50.0mm 이상" -> 앞쪽 숫자 (1.0, 1, 50.0)
+     * - "30.0~50.0mm" 범위 표기 -> 하한 (30.0)
+     * - 숫자로 시작하지 않는 값은 없음 처리
+     */
+    static double parsePrecipAmount(String pcp) {
+        String s = pcp.trim();
+        if (s.equals("강수없음")) {
+            return 0d;
+        }
+        int end = 0;
+        while (end < s.length() && isNumberChar(s.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? Double.NaN : parseDouble(s.substring(0, end));
+    }
+
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '.';
+    }
+}
@@ -1,5 +1,8 @@
 package org.ikuzo.otboo.domain.weather.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -9,10 +12,13 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.ikuzo.otboo.domain.weather.exception.WeatherRateLimitedException;
+import org.ikuzo.otboo.global.http.OutboundHttpClients;
+import org.ikuzo.otboo.global.util.TokenBucketRateLimiter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -22,19 +28,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class WeatherApiClient {
 
     private final WeatherApiProperties props;
+    private final OutboundHttpClients outboundHttpClients;
 
     private volatile WebClient webClient;
+    private volatile TokenBucketRateLimiter rateLimiter;
 
     private WebClient client() {
         if (webClient == null) {
             synchronized (this) {
                 if (webClient == null) {
-                    ExchangeStrategies strategies = ExchangeStrategies.builder()
-                        .codecs(c -> c.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB
-                        .build();
-                    webClient = WebClient.builder()
+                    webClient = outboundHttpClients.builder(OutboundHttpClients.KMA)
                         .baseUrl(props.getBaseUrl())
-                        .exchangeStrategies(strategies)
                         .build();
                 }
             }
@@ -42,20 +46,38 @@ public class WeatherApiClient {
         return webClient;
     }
 
+    private TokenBucketRateLimiter limiter() {
+        if (rateLimiter == null) {
+            synchronized (this) {
+                if (rateLimiter == null) {
+                    WeatherApiProperties.RateLimit rl = props.getRateLimit();
+                    rateLimiter = new TokenBucketRateLimiter(rl.getPermitsPerSecond(), rl.getBurst());
+                }
+            }
+        }
+        return rateLimiter;
+    }
+
     /**
-     * 예보 호출
+     * 예보 호출 (토큰 버킷 대기 한도 초과 시 WeatherRateLimitedException)
      *
      * @param baseDate yyyyMMdd
      * @param baseTime HHmm (02:00,05:00,08:00,11:00,14:00,17:00,20:00,23:00 중 과거시각)
      * @param nx       기상청 격자 X
      * @param ny       기상청 격자 Y
+     * @param numOfRows 요청 행 수 (예보시각 순 정렬, 1시점당 약 12행)
      */
-    public WeatherApiResponse getVillageforecast(String baseDate, String baseTime, int nx, int ny) {
+    public KmaForecastGrid getVillageforecast(String baseDate, String baseTime, int nx, int ny, int numOfRows) {
+        long maxWaitMs = props.getRateLimit().getMaxWaitMs();
+        if (!limiter().tryAcquire(Duration.ofMillis(maxWaitMs))) {
+            throw WeatherRateLimitedException.withGrid(nx, ny, maxWaitMs);
+        }
+
         URI uri = UriComponentsBuilder.fromUriString(props.getBaseUrl())
             .path("/getVilageFcst")
             .queryParam("authKey", props.getServiceKey())
             .queryParam("pageNo", 1)
-            .queryParam("numOfRows", 1000)
+            .queryParam("numOfRows", numOfRows)
             .queryParam("dataType", "JSON")
             .queryParam("base_date", baseDate)
             .queryParam("base_time", baseTime)
@@ -69,10 +91,22 @@ public class WeatherApiClient {
             .uri(uri)
             .accept(MediaType.APPLICATION_JSON)
             .retrieve()
-            .bodyToMono(WeatherApiResponse.class)
+            // 본문 전체를 버퍼 하나로 모은 뒤 토큰 단위로 파싱 (응답 POJO 미생성)
+            // 스트리밍 파싱이 아니므로 응답 크기만큼 메모리 사용, 상한은 kma 업스트림의 max-in-memory-size
+            .bodyToMono(DataBuffer.class)
+            .map(WeatherApiClient::parse)
+            .defaultIfEmpty(KmaForecastGrid.empty())
             .block(Duration.ofMillis(props.getTimeoutMs()));
     }
 
+    private static KmaForecastGrid parse(DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return KmaForecastStreamParser.parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * (Asia/Seoul) 기준 단기예보 baseDate/baseTime 계산
      */
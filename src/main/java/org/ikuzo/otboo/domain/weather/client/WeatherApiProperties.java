@@ -11,4 +11,17 @@ public class WeatherApiProperties {
     private String baseUrl;
     private String serviceKey;
     private int timeoutMs = 5000;
-}
\ No newline at end of file
+    // 조회 API: 3일치 전체, 배치: 가장 이른 예보시각만 쓰므로 앞쪽 몇 시점만
+    private int fullRows = 1000;
+    private int batchRows = 36;
+    private RateLimit rateLimit = new RateLimit();
+
+    // 기상청 API 호출 한도 (배치/온디맨드 공통)
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private double permitsPerSecond = 10;
+        private int burst = 10;
+        private long maxWaitMs = 3000;
+    }
+}
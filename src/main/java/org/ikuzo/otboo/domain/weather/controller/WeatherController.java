@@ -23,7 +23,9 @@ public class WeatherController {
         @RequestParam double latitude,
         @RequestParam double longitude
     ) {
-        return ResponseEntity.ok(weatherReadService.getWeatherByCoordinates(latitude, longitude));
+        List<WeatherDto> weathers = weatherReadService.getWeatherByCoordinates(latitude, longitude);
+        weatherReadService.persistForCurrentUser(weathers);
+        return ResponseEntity.ok(weathers);
     }
 
     @GetMapping("/location")
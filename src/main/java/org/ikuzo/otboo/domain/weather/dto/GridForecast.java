@@ -0,0 +1,25 @@
+package org.ikuzo.otboo.domain.weather.dto;
+
+import java.time.Instant;
+
+/**
+ * 격자(x, y) 단위 단기예보 한 시점 (같은 격자 사용자들에게 공유)
+ * - 값이 없는 카테고리는 null, sky/pty 는 기상청 코드값
+ */
+public record GridForecast(
+    int x,
+    int y,
+    Instant forecastedAt,
+    Instant forecastAt,
+    Double temperature,
+    Double temperatureMin,
+    Double temperatureMax,
+    Double humidity,
+    Double windSpeed,
+    Double precipitationProbability,
+    Double precipitationAmount,
+    Integer sky,
+    Integer pty
+) {
+
+}
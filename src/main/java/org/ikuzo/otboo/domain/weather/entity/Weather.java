@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,8 @@ import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.global.base.BaseEntity;
 
 @Entity
-@Table(name = "weathers")
+@Table(name = "weathers", uniqueConstraints = @UniqueConstraint(
+    name = "UK_WEATHERS_USER_FORECAST_AT", columnNames = {"user_id", "forecast_at"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -27,6 +29,13 @@ public class Weather extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 수집 당시 기상청 격자 (사용자 위치가 바뀌어도 이 예보의 격자는 유지)
+    @Column(name = "grid_x")
+    private Integer gridX;
+
+    @Column(name = "grid_y")
+    private Integer gridY;
+
     @Column(name = "forecasted_at", nullable = false)
     private Instant forecastedAt;
 
@@ -70,6 +79,8 @@ public class Weather extends BaseEntity {
     private Double humidityCompared;
 
     public void updateFrom(Weather source) {
+        this.gridX = source.gridX;
+        this.gridY = source.gridY;
         this.forecastedAt = source.forecastedAt;
         this.forecastAt = source.forecastAt;
         this.skyStatus = source.skyStatus;
@@ -0,0 +1,17 @@
+package org.ikuzo.otboo.domain.weather.exception;
+
+import org.ikuzo.otboo.global.exception.ErrorCode;
+
+public class WeatherRateLimitedException extends WeatherException {
+    public WeatherRateLimitedException() {
+        super(ErrorCode.EXTERNAL_API_RATE_LIMITED);
+    }
+
+    public static WeatherRateLimitedException withGrid(int x, int y, long maxWaitMs) {
+        WeatherRateLimitedException ex = new WeatherRateLimitedException();
+        ex.addDetail("nx", x);
+        ex.addDetail("ny", y);
+        ex.addDetail("maxWaitMs", maxWaitMs);
+        return ex;
+    }
+}
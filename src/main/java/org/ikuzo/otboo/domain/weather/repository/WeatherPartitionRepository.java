@@ -0,0 +1,192 @@
+package org.ikuzo.otboo.domain.weather.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.repository.dto.WeatherDailyRollup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * weathers 월별 파티션 관리 / 일 단위 집계 (네이티브 SQL)
+ * - 파티션 이름: weathers_yyyy_mm, 범위: [해당 월 1일 00:00 UTC, 다음 달 1일 00:00 UTC)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^weathers_(\\d{4})_(\\d{2})$");
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = 'weathers'
+        """;
+
+    // 같은 격자 사용자들의 중복 예보는 (격자, 예보시각)당 최신 수집 1건만 집계
+    // 격자는 예보 수집 당시 격자 (weathers.grid_x/grid_y), 격자가 없는 행은 제외
+    private static final String ROLLUP_SQL = """
+        INSERT INTO weather_daily_rollups (
+            grid_x, grid_y, day, temperature_min, temperature_max, temperature_avg, humidity_avg,
+            precipitation_probability_max, precipitation_amount_sum, precipitation_slots,
+            sample_count, updated_at
+        )
+        SELECT s.x, s.y, (s.forecast_at AT TIME ZONE 'Asia/Seoul')::date,
+               min(s.temperature_current), max(s.temperature_current), avg(s.temperature_current),
+               avg(s.humidity_current), max(s.precipitation_probability),
+               coalesce(sum(s.precipitation_amount), 0),
+               count(*) FILTER (WHERE s.precipitation_type <> 'NONE'),
+               count(*), now()
+        FROM (
+            SELECT DISTINCT ON (w.grid_x, w.grid_y, w.forecast_at)
+                w.grid_x AS x, w.grid_y AS y, w.forecast_at, w.temperature_current, w.humidity_current,
+                w.precipitation_probability, w.precipitation_amount, w.precipitation_type
+            FROM weathers w
+            WHERE w.forecast_at >= ? AND w.forecast_at < ?
+              AND w.grid_x IS NOT NULL AND w.grid_y IS NOT NULL
+            ORDER BY w.grid_x, w.grid_y, w.forecast_at, w.created_at DESC
+        ) s
+        GROUP BY s.x, s.y, (s.forecast_at AT TIME ZONE 'Asia/Seoul')::date
+        ON CONFLICT (grid_x, grid_y, day) DO UPDATE SET
+            temperature_min = EXCLUDED.temperature_min,
+            temperature_max = EXCLUDED.temperature_max,
+            temperature_avg = EXCLUDED.temperature_avg,
+            humidity_avg = EXCLUDED.humidity_avg,
+            precipitation_probability_max = EXCLUDED.precipitation_probability_max,
+            precipitation_amount_sum = EXCLUDED.precipitation_amount_sum,
+            precipitation_slots = EXCLUDED.precipitation_slots,
+            sample_count = EXCLUDED.sample_count,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private static final String FIND_ROLLUPS_SQL = """
+        SELECT grid_x, grid_y, day, temperature_min, temperature_max, temperature_avg, humidity_avg,
+               precipitation_probability_max, precipitation_amount_sum, precipitation_slots, sample_count
+        FROM weather_daily_rollups
+        WHERE grid_x = ? AND grid_y = ? AND day BETWEEN ? AND ?
+        ORDER BY day
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String partitionName(YearMonth month) {
+        return String.format("weathers_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * 월별 파티션 목록 (기본 파티션 제외, 월 오름차순)
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class)) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (m.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    /**
+     * 월별 파티션 생성 (호출 측 트랜잭션 안에서 실행)
+     * - 기본 파티션에 해당 월 행이 있으면 ATTACH 가 실패하므로 새 테이블로 옮긴 뒤 붙임
+     * - 옮기는 동안 기본 파티션을 잠가 같은 월 행이 새로 들어오지 않게 함
+     * - 행 이동은 삭제가 아니므로 삭제 전파 트리거(V3)는 건너뜀
+     */
+    public void createMonthlyPartition(YearMonth month) {
+        String name = partitionName(month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        OffsetDateTime from = startOf(month);
+        OffsetDateTime to = startOf(month.plusMonths(1));
+
+        jdbcTemplate.execute("LOCK TABLE weathers_default IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE %s (LIKE weathers INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", name));
+        jdbcTemplate.queryForObject("SELECT set_config('otboo.weather_partition_move', 'on', true)", String.class);
+        int moved = jdbcTemplate.update(String.format("""
+            WITH moved AS (
+                DELETE FROM weathers_default WHERE forecast_at >= ? AND forecast_at < ? RETURNING *
+            )
+            INSERT INTO %s SELECT * FROM moved
+            """, name), from, to);
+        jdbcTemplate.queryForObject("SELECT set_config('otboo.weather_partition_move', 'off', true)", String.class);
+        jdbcTemplate.execute(String.format(
+            "ALTER TABLE weathers ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')", name, from, to));
+        if (moved > 0) {
+            log.info("[WeatherPartitionRepository] 기본 파티션에서 {} 로 {}행 이동", name, moved);
+        }
+    }
+
+    public boolean isReferencedByFeeds(YearMonth month) {
+        Boolean referenced = jdbcTemplate.queryForObject(String.format(
+            "SELECT EXISTS (SELECT 1 FROM feeds f JOIN %s w ON w.id = f.weather_id)",
+            partitionName(month)), Boolean.class);
+        return Boolean.TRUE.equals(referenced);
+    }
+
+    /**
+     * 파티션 날씨를 참조하는 추천 삭제 (추천은 예보 시점에만 의미, recommendation_clothes 는 CASCADE)
+     */
+    public int deleteRecommendsOf(YearMonth month) {
+        return jdbcTemplate.update(String.format(
+            "DELETE FROM recommends r USING %s w WHERE r.weather_id = w.id", partitionName(month)));
+    }
+
+    public void dropPartition(YearMonth month) {
+        String name = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE weathers DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+    }
+
+    /**
+     * 피드가 참조하지 않는 행만 삭제 (피드가 참조하는 날씨는 파티션에 남겨 보존)
+     */
+    public int deleteUnreferencedRows(YearMonth month) {
+        return jdbcTemplate.update(String.format(
+            "DELETE FROM %s w WHERE NOT EXISTS (SELECT 1 FROM feeds f WHERE f.weather_id = w.id)",
+            partitionName(month)));
+    }
+
+    /**
+     * [from, to) 구간 예보를 격자/일 단위로 집계 (재실행 시 덮어씀)
+     */
+    public int rollupDaily(Instant from, Instant to) {
+        return jdbcTemplate.update(ROLLUP_SQL, from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC));
+    }
+
+    public List<WeatherDailyRollup> findDailyRollups(int gridX, int gridY, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_ROLLUPS_SQL,
+            (rs, rowNum) -> new WeatherDailyRollup(
+                rs.getInt("grid_x"),
+                rs.getInt("grid_y"),
+                rs.getObject("day", LocalDate.class),
+                rs.getObject("temperature_min", Double.class),
+                rs.getObject("temperature_max", Double.class),
+                rs.getObject("temperature_avg", Double.class),
+                rs.getObject("humidity_avg", Double.class),
+                rs.getObject("precipitation_probability_max", Double.class),
+                rs.getObject("precipitation_amount_sum", Double.class),
+                rs.getInt("precipitation_slots"),
+                rs.getInt("sample_count")),
+            gridX, gridY, from, to);
+    }
+
+    private static OffsetDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+}
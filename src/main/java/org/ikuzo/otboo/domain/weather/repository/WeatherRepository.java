@@ -1,16 +1,18 @@
 package org.ikuzo.otboo.domain.weather.repository;
 
-import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface WeatherRepository extends JpaRepository<Weather, UUID> {
-    Optional<Weather> findTop1ByUserOrderByForecastAtDesc(User user);
+public interface WeatherRepository extends JpaRepository<Weather, UUID>, WeatherRepositoryCustom {
 
-    Optional<Weather> findTop1ByUserAndForecastAtLessThanOrderByForecastAtDesc(User user, Instant forecastAt);
+    @EntityGraph(attributePaths = "user")
+    Optional<Weather> findWithUserById(UUID id);
 
-    Optional<Weather> findByUserAndForecastAt(User user, Instant forecastAt);
+    @EntityGraph(attributePaths = "user")
+    List<Weather> findAllWithUserByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,23 @@
+package org.ikuzo.otboo.domain.weather.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.ikuzo.otboo.domain.weather.repository.dto.PreviousWeather;
+
+public interface WeatherRepositoryCustom {
+
+    /**
+     * (user_id, forecast_at) 기준 일괄 upsert (JDBC 배치, 한 번의 왕복)
+     *
+     * @return 입력 순서대로 저장(또는 갱신)된 행의 id
+     */
+    List<UUID> upsertAll(List<Weather> weathers);
+
+    /**
+     * 사용자별 기준 시각 이전의 가장 최근 예보를 한 번의 쿼리로 조회
+     */
+    Map<UUID, PreviousWeather> findPreviousByUserIds(Map<UUID, Instant> forecastAtByUserId);
+}
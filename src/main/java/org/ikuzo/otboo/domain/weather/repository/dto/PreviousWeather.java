@@ -0,0 +1,17 @@
+package org.ikuzo.otboo.domain.weather.repository.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 사용자별 직전 예보 (비교값/변화 감지용 최소 컬럼)
+ */
+public record PreviousWeather(
+    UUID userId,
+    Instant forecastAt,
+    String precipitationType,
+    Double temperatureCurrent,
+    Double humidityCurrent
+) {
+
+}
@@ -0,0 +1,22 @@
+package org.ikuzo.otboo.domain.weather.repository.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 격자/일(Asia/Seoul) 단위 날씨 집계 (원본 파티션 삭제 후에도 남는 이력)
+ */
+public record WeatherDailyRollup(
+    int gridX,
+    int gridY,
+    LocalDate day,
+    Double temperatureMin,
+    Double temperatureMax,
+    Double temperatureAvg,
+    Double humidityAvg,
+    Double precipitationProbabilityMax,
+    Double precipitationAmountSum,
+    int precipitationSlots,
+    int sampleCount
+) {
+
+}
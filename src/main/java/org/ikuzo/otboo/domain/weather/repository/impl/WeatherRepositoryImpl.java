@@ -0,0 +1,169 @@
+package org.ikuzo.otboo.domain.weather.repository.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.ikuzo.otboo.domain.weather.repository.WeatherRepositoryCustom;
+import org.ikuzo.otboo.domain.weather.repository.dto.PreviousWeather;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherRepositoryImpl implements WeatherRepositoryCustom {
+
+    // 재수집된 예보는 내용과 created_at(수집 시각)을 갱신, id 는 유지 (추천/피드 참조 보존)
+    private static final String UPSERT_SQL = """
+        INSERT INTO weathers (
+            id, user_id, grid_x, grid_y, forecasted_at, forecast_at, sky_status, precipitation_type,
+            precipitation_amount, precipitation_probability, temperature_current,
+            temperature_compared, temperature_min, temperature_max, wind_speed,
+            wind_speed_word, humidity_current, humidity_compared, created_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (user_id, forecast_at) DO UPDATE SET
+            grid_x = EXCLUDED.grid_x,
+            grid_y = EXCLUDED.grid_y,
+            forecasted_at = EXCLUDED.forecasted_at,
+            sky_status = EXCLUDED.sky_status,
+            precipitation_type = EXCLUDED.precipitation_type,
+            precipitation_amount = EXCLUDED.precipitation_amount,
+            precipitation_probability = EXCLUDED.precipitation_probability,
+            temperature_current = EXCLUDED.temperature_current,
+            temperature_compared = EXCLUDED.temperature_compared,
+            temperature_min = EXCLUDED.temperature_min,
+            temperature_max = EXCLUDED.temperature_max,
+            wind_speed = EXCLUDED.wind_speed,
+            wind_speed_word = EXCLUDED.wind_speed_word,
+            humidity_current = EXCLUDED.humidity_current,
+            humidity_compared = EXCLUDED.humidity_compared,
+            created_at = EXCLUDED.created_at
+        """;
+
+    private static final String PREVIOUS_SQL = """
+        SELECT DISTINCT ON (w.user_id)
+            w.user_id, w.forecast_at, w.precipitation_type, w.temperature_current, w.humidity_current
+        FROM weathers w
+        JOIN unnest(?::uuid[], ?::timestamptz[]) AS t(user_id, before_at)
+          ON w.user_id = t.user_id AND w.forecast_at < t.before_at
+        WHERE w.forecast_at >= ?
+        ORDER BY w.user_id, w.forecast_at DESC
+        """;
+
+    // 직전 예보 탐색 하한 (월 파티션 프루닝, 이보다 오래된 예보는 비교 대상에서 제외)
+    private static final Duration PREVIOUS_LOOKBACK = Duration.ofDays(7);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UUID> upsertAll(List<Weather> weathers) {
+        if (weathers.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(UPSERT_SQL, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bind(ps, weathers.get(i), now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return weathers.size();
+                }
+            },
+            keyHolder);
+
+        List<UUID> ids = new ArrayList<>(weathers.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add((UUID) keys.get("id"));
+        }
+        log.debug("[WeatherRepository] 날씨 upsert 완료: {}건", ids.size());
+        return ids;
+    }
+
+    @Override
+    public Map<UUID, PreviousWeather> findPreviousByUserIds(Map<UUID, Instant> forecastAtByUserId) {
+        if (forecastAtByUserId.isEmpty()) {
+            return Map.of();
+        }
+        UUID[] userIds = new UUID[forecastAtByUserId.size()];
+        String[] befores = new String[forecastAtByUserId.size()];
+        Instant earliest = null;
+        int i = 0;
+        for (Map.Entry<UUID, Instant> e : forecastAtByUserId.entrySet()) {
+            userIds[i] = e.getKey();
+            befores[i] = e.getValue().toString(); // ISO-8601 UTC, 쿼리에서 timestamptz[] 로 캐스팅
+            if (earliest == null || e.getValue().isBefore(earliest)) {
+                earliest = e.getValue();
+            }
+            i++;
+        }
+        OffsetDateTime lowerBound = toOffset(earliest.minus(PREVIOUS_LOOKBACK));
+
+        Map<UUID, PreviousWeather> result = new HashMap<>();
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(PREVIOUS_SQL);
+                ps.setArray(1, con.createArrayOf("uuid", userIds));
+                ps.setArray(2, con.createArrayOf("varchar", befores));
+                ps.setObject(3, lowerBound);
+                return ps;
+            },
+            rs -> {
+                UUID userId = rs.getObject("user_id", UUID.class);
+                result.put(userId, new PreviousWeather(
+                    userId,
+                    rs.getTimestamp("forecast_at").toInstant(),
+                    rs.getString("precipitation_type"),
+                    rs.getObject("temperature_current", Double.class),
+                    rs.getObject("humidity_current", Double.class)));
+            });
+        return result;
+    }
+
+    private static void bind(PreparedStatement ps, Weather w, Instant now) throws SQLException {
+        int i = 1;
+        ps.setObject(i++, UUID.randomUUID());
+        ps.setObject(i++, w.getUser().getId());
+        ps.setObject(i++, w.getGridX(), Types.INTEGER);
+        ps.setObject(i++, w.getGridY(), Types.INTEGER);
+        ps.setObject(i++, toOffset(w.getForecastedAt()));
+        ps.setObject(i++, toOffset(w.getForecastAt()));
+        ps.setString(i++, w.getSkyStatus());
+        ps.setString(i++, w.getPrecipitationType());
+        ps.setObject(i++, w.getPrecipitationAmount(), Types.DOUBLE);
+        ps.setObject(i++, w.getPrecipitationProbability(), Types.DOUBLE);
+        ps.setObject(i++, w.getTemperatureCurrent(), Types.DOUBLE);
+        ps.setObject(i++, w.getTemperatureCompared(), Types.DOUBLE);
+        ps.setObject(i++, w.getTemperatureMin(), Types.DOUBLE);
+        ps.setObject(i++, w.getTemperatureMax(), Types.DOUBLE);
+        ps.setObject(i++, w.getWindSpeed(), Types.DOUBLE);
+        ps.setString(i++, w.getWindSpeedWord());
+        ps.setObject(i++, w.getHumidityCurrent(), Types.DOUBLE);
+        ps.setObject(i++, w.getHumidityCompared(), Types.DOUBLE);
+        ps.setObject(i, toOffset(now));
+    }
+
+    private static OffsetDateTime toOffset(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,95 @@
+package org.ikuzo.otboo.domain.weather.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.InputStream;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.client.KakaoLocalClient;
+import org.ikuzo.otboo.domain.weather.dto.KakaoRegionDocument;
+import org.ikuzo.otboo.domain.weather.dto.KakaoRegionResponse;
+import org.ikuzo.otboo.domain.weather.dto.RegionInfoDto;
+import org.ikuzo.otboo.domain.weather.util.RegionBoundaryIndex;
+import org.ikuzo.otboo.domain.weather.util.RegionBoundaryIndex.Region;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위경도 -> 행정동 (로컬 경계 인덱스 우선, 미적중 시 카카오 coord2region 의 행정동 문서)
+ * - 경계 파일 형식은 RegionBoundaryIndex.fromGeoJson 참고, 경로는 weather.reverse-geocoding.boundary-path
+ * - 파일이 없으면 빈 인덱스로 시작하고 모든 요청을 카카오로 위임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReverseGeocoder {
+
+    private final KakaoLocalClient kakaoLocalClient;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${weather.reverse-geocoding.boundary-path:classpath:geo/admin-dong.geojson}")
+    private String boundaryPath;
+
+    private volatile RegionBoundaryIndex index = RegionBoundaryIndex.empty();
+
+    @PostConstruct
+    void load() {
+        Resource resource = resourceLoader.getResource(boundaryPath);
+        if (!resource.exists()) {
+            log.warn("[ReverseGeocoder] 행정구역 경계 파일 없음 - 카카오 API만 사용: {}", boundaryPath);
+            return;
+        }
+        long start = System.nanoTime();
+        try (InputStream in = resource.getInputStream()) {
+            index = RegionBoundaryIndex.fromGeoJson(objectMapper.readTree(in));
+            log.info("[ReverseGeocoder] 행정구역 경계 인덱스 로드 완료 - regions: {}, {}ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("[ReverseGeocoder] 행정구역 경계 파일 로드 실패 - 카카오 API만 사용: {}", e.getMessage());
+        }
+    }
+
+    public RegionInfoDto resolve(double latitude, double longitude) {
+        Optional<Region> local = index.find(latitude, longitude);
+        if (local.isPresent()) {
+            meterRegistry.counter("weather.reverse_geocode", "source", "local").increment();
+            Region r = local.get();
+            return RegionInfoDto.builder()
+                .addressName(r.addressName())
+                .region1DepthName(r.region1DepthName())
+                .region2DepthName(r.region2DepthName())
+                .region3DepthName(r.region3DepthName())
+                .code(r.code())
+                .x(longitude)
+                .y(latitude)
+                .build();
+        }
+
+        meterRegistry.counter("weather.reverse_geocode", "source", "kakao").increment();
+        log.debug("[ReverseGeocoder] 로컬 인덱스 미적중 → 카카오 조회: lat={}, lon={}", latitude, longitude);
+        KakaoRegionResponse res = kakaoLocalClient.coord2region(latitude, longitude);
+        if (res == null || res.documents() == null || res.documents().isEmpty()) {
+            return RegionInfoDto.builder().addressName("UNKNOWN").x(longitude).y(latitude).build();
+        }
+        // 로컬 인덱스와 같은 행정동(H) 기준으로 응답 (법정동 B 문서가 먼저 올 수 있음)
+        KakaoRegionDocument d = res.documents().stream()
+            .filter(doc -> "H".equals(doc.region_type()))
+            .findFirst()
+            .orElse(res.documents().get(0));
+        return RegionInfoDto.builder()
+            .addressName(d.address_name())
+            .region1DepthName(d.region_1depth_name())
+            .region2DepthName(d.region_2depth_name())
+            .region3DepthName(d.region_3depth_name())
+            .code(d.code())
+            .x(d.x())
+            .y(d.y())
+            .build();
+    }
+}
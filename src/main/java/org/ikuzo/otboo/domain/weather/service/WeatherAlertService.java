@@ -1,10 +1,18 @@
 package org.ikuzo.otboo.domain.weather.service;
 
 
-import org.ikuzo.otboo.domain.user.entity.User;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
+import org.ikuzo.otboo.domain.weather.repository.dto.PreviousWeather;
 
 public interface WeatherAlertService {
 
-    void checkAndNotify(User user, Weather latest);
+    /**
+     * 새 예보와 직전 예보 비교 후 변화가 있는 사용자에게 알림 일괄 생성
+     *
+     * @return 생성된 알림 수
+     */
+    int notifyChanges(List<Weather> latest, Map<UUID, PreviousWeather> previousByUserId);
 }
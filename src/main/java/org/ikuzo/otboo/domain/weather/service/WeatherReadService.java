@@ -8,4 +8,6 @@ public interface WeatherReadService {
     WeatherAPILocation getLocation(double latitude, double longitude);
 
     List<WeatherDto> getWeatherByCoordinates(double latitude, double longitude);
+
+    void persistForCurrentUser(List<WeatherDto> forecasts);
 }
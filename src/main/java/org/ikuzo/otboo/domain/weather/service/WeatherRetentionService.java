@@ -0,0 +1,84 @@
+package org.ikuzo.otboo.domain.weather.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.weather.repository.WeatherPartitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * weathers 파티션 유지보수
+ * - 이번 달 + premakeMonths 개월 파티션 사전 생성 (기본 파티션 적재 방지)
+ * - 최근 rollupDays 일 격자/일 집계 갱신
+ * - keepMonths 개월 이전 파티션: 집계 후 피드 미참조면 DROP, 참조 중이면 참조 행만 남기고 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherRetentionService {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final WeatherPartitionRepository weatherPartitionRepository;
+
+    @Value("${weather.retention.keep-months:3}")
+    private int keepMonths;
+
+    @Value("${weather.retention.premake-months:2}")
+    private int premakeMonths;
+
+    @Value("${weather.retention.rollup-days:2}")
+    private int rollupDays;
+
+    @Transactional
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= premakeMonths; i++) {
+            weatherPartitionRepository.createMonthlyPartition(current.plusMonths(i));
+        }
+        log.debug("[WeatherRetentionService] 파티션 사전 생성 확인 완료: {} ~ {}",
+            current, current.plusMonths(premakeMonths));
+    }
+
+    @Transactional
+    public int rollupRecentDays() {
+        LocalDate today = LocalDate.now(SEOUL);
+        Instant from = today.minusDays(rollupDays).atStartOfDay(SEOUL).toInstant();
+        Instant to = today.atStartOfDay(SEOUL).toInstant();
+        int rows = weatherPartitionRepository.rollupDaily(from, to);
+        log.info("[WeatherRetentionService] 일 단위 집계 갱신: {}행 ({} ~ {})", rows, from, to);
+        return rows;
+    }
+
+    /**
+     * 보존 기간이 지난 파티션 정리 (파티션마다 별도 트랜잭션으로 호출)
+     */
+    @Transactional
+    public void expire(YearMonth month) {
+        // 원본을 지우기 전에 해당 월 집계를 한 번 더 갱신 (누락 방지)
+        Instant from = month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        weatherPartitionRepository.rollupDaily(from, to);
+
+        int recommends = weatherPartitionRepository.deleteRecommendsOf(month);
+        if (!weatherPartitionRepository.isReferencedByFeeds(month)) {
+            weatherPartitionRepository.dropPartition(month);
+            log.info("[WeatherRetentionService] 파티션 삭제: {} (추천 {}건 정리)",
+                WeatherPartitionRepository.partitionName(month), recommends);
+            return;
+        }
+        int rows = weatherPartitionRepository.deleteUnreferencedRows(month);
+        log.info("[WeatherRetentionService] 피드 참조 파티션 보존: {} (미참조 {}행, 추천 {}건 정리)",
+            WeatherPartitionRepository.partitionName(month), rows, recommends);
+    }
+
+    public YearMonth retentionBoundary() {
+        return YearMonth.now(ZoneOffset.UTC).minusMonths(keepMonths);
+    }
+}
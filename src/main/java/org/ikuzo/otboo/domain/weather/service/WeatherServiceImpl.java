@@ -6,32 +6,27 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ikuzo.otboo.domain.user.entity.User;
 import org.ikuzo.otboo.domain.user.exception.UserLocationMissingException;
 import org.ikuzo.otboo.domain.user.repository.UserRepository;
-import org.ikuzo.otboo.domain.weather.client.KakaoLocalClient;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastCache;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastGrid;
 import org.ikuzo.otboo.domain.weather.client.WeatherApiClient;
-import org.ikuzo.otboo.domain.weather.client.WeatherApiResponse;
-import org.ikuzo.otboo.domain.weather.client.WeatherApiResponse.Body;
-import org.ikuzo.otboo.domain.weather.client.WeatherApiResponse.Item;
-import org.ikuzo.otboo.domain.weather.client.WeatherApiResponse.Items;
-import org.ikuzo.otboo.domain.weather.client.WeatherApiResponse.Response;
-import org.ikuzo.otboo.domain.weather.dto.KakaoRegionDocument;
-import org.ikuzo.otboo.domain.weather.dto.KakaoRegionResponse;
+import org.ikuzo.otboo.domain.weather.dto.GridForecast;
 import org.ikuzo.otboo.domain.weather.dto.RegionInfoDto;
 import org.ikuzo.otboo.domain.weather.dto.WeatherDto;
 import org.ikuzo.otboo.domain.weather.entity.Weather;
 import org.ikuzo.otboo.domain.weather.exception.WeatherNoForecastException;
 import org.ikuzo.otboo.domain.weather.mapper.WeatherMapper;
 import org.ikuzo.otboo.domain.weather.repository.WeatherRepository;
+import org.ikuzo.otboo.domain.weather.repository.dto.PreviousWeather;
 import org.ikuzo.otboo.domain.weather.util.KmaGridConverter;
 import org.ikuzo.otboo.domain.weather.util.KmaGridConverter.XY;
 import org.springframework.stereotype.Service;
@@ -44,7 +39,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class WeatherServiceImpl implements WeatherService {
 
     private final WeatherApiClient weatherApiClient;
-    private final KakaoLocalClient kakaoLocalClient;
+    private final KmaForecastCache kmaForecastCache;
+    private final ReverseGeocoder reverseGeocoder;
     private final WeatherRepository weatherRepository;
     private final WeatherMapper weatherMapper;
     private final UserRepository userRepository;
@@ -54,28 +50,10 @@ public class WeatherServiceImpl implements WeatherService {
     private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmm");
 
-    public static String buildCacheKey(double latitude, double longitude) {
-        return String.format("%.4f:%.4f", latitude, longitude);
-    }
-
     // 위경도 -> 행정구역 명
-    @Transactional(readOnly = true)
     @Override
     public RegionInfoDto reverseGeocode(double latitude, double longitude) {
-        KakaoRegionResponse res = kakaoLocalClient.coord2region(latitude, longitude);
-        if (res.documents() == null || res.documents().isEmpty()) {
-            return RegionInfoDto.builder().addressName("UNKNOWN").x(longitude).y(latitude).build();
-        }
-        KakaoRegionDocument d = res.documents().get(0);
-        return RegionInfoDto.builder()
-            .addressName(d.address_name())
-            .region1DepthName(d.region_1depth_name())
-            .region2DepthName(d.region_2depth_name())
-            .region3DepthName(d.region_3depth_name())
-            .code(d.code())
-            .x(d.x())
-            .y(d.y())
-            .build();
+        return reverseGeocoder.resolve(latitude, longitude);
     }
 
     //단기예보 수집 -> Weather 저장 -> 변화 감지 후 알림
@@ -84,109 +62,165 @@ public class WeatherServiceImpl implements WeatherService {
     public WeatherDto collectAndSaveForUser(UUID userId) {
         log.debug("[WeatherService] 사용자 {} 날씨 수집 시작", userId);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.: " + userId)); //유저 예외처리 대기
-
-        if (user.getLatitude() == null || user.getLongitude() == null) {
-            log.warn("[WeatherService] 사용자 {}: 위도/경도 정보 없음 → 수집 불가", userId);
-            throw UserLocationMissingException.withUserId(userId);
-        }
-
+        User user = findUserWithLocation(userId);
         XY xy = KmaGridConverter.toXY(user.getLatitude(), user.getLongitude());
 
+        return saveForUser(user, fetchGridForecast(xy, Instant.now()));
+    }
+
+    /**
+     * 격자 단위 단기예보 조회 (DB 접근 없음, 배치에서 격자당 1회 호출)
+     */
+    public GridForecast fetchGridForecast(XY xy, Instant now) {
         // 기상청 baseDate/baseTime 계산
-        Instant now = Instant.now();
         Map<String, String> base = weatherApiClient.computeBaseDateTime(now);
         String baseDate = base.get("baseDate");
         String baseTime = base.get("baseTime");
 
-        log.debug("[WeatherService] 사용자 {}: KMA API 호출 baseDate={}, baseTime={}, grid=({}, {})",
-            userId, baseDate, baseTime, xy.x(), xy.y());
-
-        WeatherApiResponse resp = weatherApiClient.getVillageforecast(baseDate, baseTime, xy.x(), xy.y());
-        List<Item> items = Optional.ofNullable(resp)
-            .map(WeatherApiResponse::getResponse)
-            .map(Response::getBody)
-            .map(Body::getItems)
-            .map(Items::getItem)
-            .orElse(List.of());
-
-        // 동일 fcstDate+fcstTime 기준 예보 묶음 만들기
-        Map<String, Map<String, String>> grouped = new LinkedHashMap<>();
-        for (Item it : items) {
-            String key = it.getFcstDate() + it.getFcstTime();
-            grouped.computeIfAbsent(key, k -> new HashMap<>()).put(it.getCategory(), it.getFcstValue());
-        }
+        log.debug("[WeatherService] KMA API 호출 baseDate={}, baseTime={}, grid=({}, {})",
+            baseDate, baseTime, xy.x(), xy.y());
 
-        if (grouped.isEmpty()) {
-            log.warn("[WeatherService] 사용자 {}: 기상청 응답 없음 (baseDate={}, baseTime={})", userId, baseDate, baseTime);
+        KmaForecastGrid grid = kmaForecastCache.getLeadingForecast(baseDate, baseTime, xy.x(), xy.y());
+
+        if (grid.isEmpty()) {
+            log.warn("[WeatherService] 격자 ({}, {}): 기상청 응답 없음 (baseDate={}, baseTime={})",
+                xy.x(), xy.y(), baseDate, baseTime);
             throw WeatherNoForecastException.withBaseAndGrid(baseDate, baseTime, xy.x(), xy.y());
         }
 
-        log.debug("[WeatherService] 사용자 {}: 기상청 예보 {}건 수신", userId, items.size());
-
-        // 첫 번째(가장 이른 키) 선택
-        String firstKey = grouped.keySet().stream().min(String::compareTo).orElseThrow();
-        Map<String, String> cat = grouped.get(firstKey);
+        log.debug("[WeatherService] 격자 ({}, {}): 기상청 예보 {}개 시점 수신", xy.x(), xy.y(), grid.size());
 
-        if (!cat.containsKey("TMP") || !cat.containsKey("POP") || !cat.containsKey("SKY") || !cat.containsKey("PTY")) {
-            log.warn("[WeatherService] 사용자 {}: 필수 카테고리 누락 (keys={})", userId, cat.keySet());
+        // 첫 번째(가장 이른) 예보 시점 선택
+        int i = 0;
+        if (grid.value(KmaForecastGrid.TMP, i) == null || grid.value(KmaForecastGrid.POP, i) == null
+            || grid.sky(i) == null || grid.pty(i) == null) {
+            log.warn("[WeatherService] 격자 ({}, {}): 필수 카테고리 누락 (forecastAt={})",
+                xy.x(), xy.y(), grid.forecastAt(i));
             throw WeatherNoForecastException.withBaseAndGrid(baseDate, baseTime, xy.x(), xy.y());
         }
 
+        return new GridForecast(xy.x(), xy.y(),
+            toInstant(baseDate, baseTime),
+            grid.forecastAt(i),
+            grid.value(KmaForecastGrid.TMP, i),
+            grid.value(KmaForecastGrid.TMN, i),
+            grid.value(KmaForecastGrid.TMX, i),
+            grid.value(KmaForecastGrid.REH, i),
+            grid.value(KmaForecastGrid.WSD, i),
+            grid.value(KmaForecastGrid.POP, i),
+            grid.value(KmaForecastGrid.PCP, i),
+            grid.sky(i),
+            grid.pty(i));
+    }
+
+    /**
+     * 이미 조회한 격자 예보를 여러 사용자에게 일괄 저장 (배치 청크 트랜잭션에 참여)
+     *
+     * @return 저장된 날씨 수
+     */
+    @Transactional
+    public int saveForUsers(Map<UUID, GridForecast> forecastsByUserId) {
+        if (forecastsByUserId.isEmpty()) {
+            return 0;
+        }
+        List<User> users = userRepository.findAllById(forecastsByUserId.keySet());
+
+        Map<UUID, PreviousWeather> previousByUserId = findPrevious(users, forecastsByUserId);
+        List<Weather> saved = upsertAndReload(
+            toEntities(users, forecastsByUserId, previousByUserId));
+
+        // 이전값 대비 변화 감지 -> 청크 단위 알림 일괄 생성
+        weatherAlertServiceImpl.notifyChanges(saved, previousByUserId);
+        log.debug("[WeatherService] 날씨 일괄 저장 완료: {}건", saved.size());
+        return saved.size();
+    }
+
+    private WeatherDto saveForUser(User user, GridForecast forecast) {
+        Map<UUID, GridForecast> forecastByUserId = Map.of(user.getId(), forecast);
+        Map<UUID, PreviousWeather> previousByUserId = findPrevious(List.of(user), forecastByUserId);
+
         // 매핑
-        Weather w = mapForecastToEntity(user, baseDate, baseTime, firstKey.substring(0, 8), firstKey.substring(8, 12),
-            cat);
-        Weather saved = weatherRepository.save(w);
+        Weather w = upsertAndReload(
+            toEntities(List.of(user), forecastByUserId, previousByUserId)).get(0);
 
-        log.info("[WeatherService] 사용자 {} 날씨 저장 완료: forecastAt={}", userId, saved.getForecastAt());
+        log.info("[WeatherService] 사용자 {} 날씨 저장 완료: forecastAt={}", user.getId(), w.getForecastAt());
 
         // 이전값 대비 변화 감지 -> 알림
-        weatherAlertServiceImpl.checkAndNotify(user, saved);
+        weatherAlertServiceImpl.notifyChanges(List.of(w), previousByUserId);
 
-        return weatherMapper.toDto(saved);
+        return weatherMapper.toDto(w);
     }
 
-    // 카테고리 매핑 로직
+    /**
+     * JDBC upsert 후 저장된 행을 다시 조회 (충돌 시 기존 id 유지, 매핑에 쓴 임시 엔티티는 id 가 없음)
+     */
+    private List<Weather> upsertAndReload(List<Weather> weathers) {
+        List<UUID> ids = weatherRepository.upsertAll(weathers);
+        return weatherRepository.findAllWithUserByIdIn(ids);
+    }
 
-    private Weather mapForecastToEntity(User user,
-                                        String baseDate, String baseTime,
-                                        String fcstDate, String fcstTime,
-                                        Map<String, String> cat) {
-        Instant forecastedAt = toInstant(baseDate, baseTime);
-        Instant forecastAt = toInstant(fcstDate, fcstTime);
+    // 직전 예보(비교값/알림 기준)는 사용자 전체를 한 번의 쿼리로 조회
+    private Map<UUID, PreviousWeather> findPrevious(List<User> users, Map<UUID, GridForecast> forecastsByUserId) {
+        Map<UUID, Instant> forecastAtByUserId = new HashMap<>();
+        for (User user : users) {
+            GridForecast f = forecastsByUserId.get(user.getId());
+            forecastAtByUserId.put(user.getId(), f.forecastAt());
+        }
+        return weatherRepository.findPreviousByUserIds(forecastAtByUserId);
+    }
 
-        Double tmp = parseDouble(cat.get("TMP")); // 현재 기온
-        Double reh = parseDouble(cat.get("REH")); // 습도 %
-        Double pop = parseDouble(cat.get("POP")); // 강수확률 %
-        Double wsd = parseDouble(cat.get("WSD")); // 풍속 m/s
+    private List<Weather> toEntities(List<User> users, Map<UUID, GridForecast> forecastsByUserId,
+                                     Map<UUID, PreviousWeather> previousByUserId) {
+        List<Weather> weathers = new ArrayList<>(users.size());
+        for (User user : users) {
+            GridForecast f = forecastsByUserId.get(user.getId());
+            weathers.add(mapForecastToEntity(user, f, previousByUserId.get(user.getId())));
+        }
+        return weathers;
+    }
+
+    private User findUserWithLocation(UUID userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.: " + userId)); //유저 예외처리 대기
+
+        if (user.getLatitude() == null || user.getLongitude() == null) {
+            log.warn("[WeatherService] 사용자 {}: 위도/경도 정보 없음 → 수집 불가", userId);
+            throw UserLocationMissingException.withUserId(userId);
+        }
+        return user;
+    }
 
-        Double tmn = parseDouble(cat.get("TMN"));
-        Double tmx = parseDouble(cat.get("TMX"));
+    // 카테고리 매핑 로직
 
-        Double pcp = parsePrecipAmount(cat.get("PCP")); // "강수없음" or "1.0mm"
+    private Weather mapForecastToEntity(User user, GridForecast f, PreviousWeather prev) {
+        Double tmp = f.temperature(); // 현재 기온
+        Double reh = f.humidity(); // 습도 %
+        Double pop = f.precipitationProbability(); // 강수확률 %
+        Double wsd = f.windSpeed(); // 풍속 m/s
+        Double pcp = f.precipitationAmount(); // "강수없음" -> 0
 
-        String sky = mapSky(cat.get("SKY")); // 1,3,4 → CLEAR/MOSTLY_CLOUDY/CLOUDY
-        String pty = mapPty(cat.get("PTY")); // 0,1,2,3,4 → NONE/RAIN/RAIN_SNOW/SNOW/SHOWER
+        String sky = mapSky(f.sky()); // 1,3,4 → CLEAR/MOSTLY_CLOUDY/CLOUDY
+        String pty = mapPty(f.pty()); // 0,1,2,3,4 → NONE/RAIN/RAIN_SNOW/SNOW/SHOWER
         String windWord = toWindWord(wsd);
 
         // 이전 날씨 대비 비교값 계산
-        Optional<Weather> prevOpt = weatherRepository.findTop1ByUserOrderByForecastAtDesc(user);
-        Double tempCompared = prevOpt.map(p -> diff(tmp, p.getTemperatureCurrent())).orElse(null);
-        Double humidCompared = prevOpt.map(p -> diff(reh, p.getHumidityCurrent())).orElse(null);
+        Double tempCompared = prev == null ? null : diff(tmp, prev.temperatureCurrent());
+        Double humidCompared = prev == null ? null : diff(reh, prev.humidityCurrent());
 
         return Weather.builder()
             .user(user)
-            .forecastedAt(forecastedAt)
-            .forecastAt(forecastAt)
+            .gridX(f.x())
+            .gridY(f.y())
+            .forecastedAt(f.forecastedAt())
+            .forecastAt(f.forecastAt())
             .skyStatus(sky)
             .precipitationType(pty)
             .precipitationAmount(pcp)
             .precipitationProbability(pop)
             .temperatureCurrent(tmp)
             .temperatureCompared(tempCompared)
-            .temperatureMin(tmn)
-            .temperatureMax(tmx)
+            .temperatureMin(f.temperatureMin())
+            .temperatureMax(f.temperatureMax())
             .windSpeed(wsd)
             .windSpeedWord(windWord)
             .humidityCurrent(reh)
@@ -200,67 +234,36 @@ public class WeatherServiceImpl implements WeatherService {
         return ZonedDateTime.of(date, time, SEOUL).toInstant();
     }
 
-    private Double parseDouble(String v) {
-        if (v == null || v.isBlank()) {
-            return null;
-        }
-        try {
-            return Double.parseDouble(v);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Double parsePrecipAmount(String pcp) {
-        if (pcp == null) {
-            return null;
-        }
-        pcp = pcp.trim();
-        if (pcp.equals("강수없음")) {
-            return 0d;
-        }
-
-        String digits = pcp.replaceAll("[^0-9.]", "");
-        if (digits.isBlank()) {
-            return null;
-        }
-        try {
-            return Double.parseDouble(digits);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private String mapSky(String sky) {
+    private String mapSky(Integer sky) {
         if (sky == null) {
             return "MOSTLY_CLOUDY";
         }
-        switch (sky.trim()) {
-            case "1":
+        switch (sky) {
+            case 1:
                 return "CLEAR";
-            case "3":
+            case 3:
                 return "MOSTLY_CLOUDY";
-            case "4":
+            case 4:
                 return "CLOUDY";
             default:
                 return "MOSTLY_CLOUDY";
         }
     }
 
-    private String mapPty(String pty) {
+    private String mapPty(Integer pty) {
         if (pty == null) {
             return "NONE";
         }
-        switch (pty.trim()) {
-            case "0":
+        switch (pty) {
+            case 0:
                 return "NONE";
-            case "1":
+            case 1:
                 return "RAIN";
-            case "2":
+            case 2:
                 return "RAIN_SNOW";
-            case "3":
+            case 3:
                 return "SNOW";
-            case "4":
+            case 4:
                 return "SHOWER";
             default:
                 return "NONE";
@@ -0,0 +1,194 @@
+package org.ikuzo.otboo.domain.weather.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastGrid;
+import org.ikuzo.otboo.domain.weather.dto.HumidityDto;
+import org.ikuzo.otboo.domain.weather.dto.PrecipitationDto;
+import org.ikuzo.otboo.domain.weather.dto.PrecipitationType;
+import org.ikuzo.otboo.domain.weather.dto.SkyStatus;
+import org.ikuzo.otboo.domain.weather.dto.TemperatureDto;
+import org.ikuzo.otboo.domain.weather.dto.WeatherAPILocation;
+import org.ikuzo.otboo.domain.weather.dto.WeatherDto;
+import org.ikuzo.otboo.domain.weather.dto.WindSpeedDto;
+import org.ikuzo.otboo.domain.weather.dto.WindWord;
+
+// 기상청 단기예보 격자(KmaForecastGrid) 가공 (전일 비교, 일 최저/최고, WeatherDto 변환)
+
+public final class KmaForecastAssembler {
+
+    private KmaForecastAssembler() {
+    }
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmm");
+    private static final int KST_OFFSET_HOURS = 9;
+
+    public static DailyExtrema computeDailyExtrema(KmaForecastGrid grid) {
+        Map<Integer, Double> dailyMinTmp = new HashMap<>();
+        Map<Integer, Double> dailyMaxTmp = new HashMap<>();
+        Map<Integer, Double> dailyTMN = new HashMap<>();
+        Map<Integer, Double> dailyTMX = new HashMap<>();
+
+        for (int i = 0; i < grid.size(); i++) {
+            int day = seoulDay(grid.slot(i));
+
+            Double tmp = grid.value(KmaForecastGrid.TMP, i);
+            Double tmn = grid.value(KmaForecastGrid.TMN, i);
+            Double tmx = grid.value(KmaForecastGrid.TMX, i);
+
+            if (tmp != null) {
+                dailyMinTmp.merge(day, tmp, Math::min);
+                dailyMaxTmp.merge(day, tmp, Math::max);
+            }
+            if (tmn != null) {
+                dailyTMN.merge(day, tmn, Math::min);
+            }
+            if (tmx != null) {
+                dailyTMX.merge(day, tmx, Math::max);
+            }
+        }
+
+        Map<Integer, Double> minByDay = new HashMap<>();
+        Map<Integer, Double> maxByDay = new HashMap<>();
+        for (Integer day : dailyMinTmp.keySet()) {
+            minByDay.put(day, dailyTMN.getOrDefault(day, dailyMinTmp.get(day)));
+            maxByDay.put(day, dailyTMX.getOrDefault(day, dailyMaxTmp.get(day)));
+        }
+        return new DailyExtrema(minByDay, maxByDay);
+    }
+
+    /**
+     * @param today     오늘 발표 예보
+     * @param dayBefore 전일 같은 발표시각 예보 (전일 비교용, 없으면 빈 격자)
+     */
+    public static List<WeatherDto> buildWeatherDtos(KmaForecastGrid today,
+                                                    KmaForecastGrid dayBefore,
+                                                    String baseDate,
+                                                    String baseTime,
+                                                    WeatherAPILocation loc,
+                                                    DailyExtrema extrema) {
+        List<WeatherDto> result = new ArrayList<>(today.size());
+        Instant forecastedAt = toInstant(baseDate, baseTime);
+
+        for (int i = 0; i < today.size(); i++) {
+            int slot = today.slot(i);
+            int day = seoulDay(slot);
+
+            Double tmp = today.value(KmaForecastGrid.TMP, i);
+            Double tmn = today.value(KmaForecastGrid.TMN, i);
+            Double tmx = today.value(KmaForecastGrid.TMX, i);
+            Double reh = today.value(KmaForecastGrid.REH, i);
+            Double wsd = today.value(KmaForecastGrid.WSD, i);
+            Double pop = today.value(KmaForecastGrid.POP, i);
+            Double pcp = today.value(KmaForecastGrid.PCP, i);
+
+            SkyStatus sky = mapSky(today.sky(i));
+            PrecipitationType pty = mapPty(today.pty(i));
+            WindWord windWord = toWindWord(wsd);
+
+            // 비교값: 전일 같은 시각 → 없으면 직전 3시간
+            Double tempPrev = firstNonNull(dayBefore.valueAtSlot(KmaForecastGrid.TMP, slot - 24),
+                today.valueAtSlot(KmaForecastGrid.TMP, slot - 3));
+            Double rehPrev = firstNonNull(dayBefore.valueAtSlot(KmaForecastGrid.REH, slot - 24),
+                today.valueAtSlot(KmaForecastGrid.REH, slot - 3));
+
+            Double tempCompared = (tmp != null && tempPrev != null) ? round1(tmp - tempPrev) : null;
+            Double humidCompared = (reh != null && rehPrev != null) ? round1(reh - rehPrev) : null;
+
+            Double minForDay = (tmn != null) ? tmn : extrema.minByDay().get(day);
+            Double maxForDay = (tmx != null) ? tmx : extrema.maxByDay().get(day);
+            Double probability01 = (pop != null) ? pop / 100.0 : null;
+
+            result.add(WeatherDto.builder()
+                .forecastedAt(forecastedAt)
+                .forecastAt(today.forecastAt(i))
+                .location(loc)
+                .skyStatus(sky)
+                .precipitation(PrecipitationDto.builder()
+                    .type(pty).amount(pcp).probability(probability01).build())
+                .humidity(HumidityDto.builder()
+                    .current(reh).comparedToDayBefore(humidCompared).build())
+                .temperature(TemperatureDto.builder()
+                    .current(tmp).comparedToDayBefore(tempCompared).min(minForDay).max(maxForDay).build())
+                .windSpeed(WindSpeedDto.builder()
+                    .speed(wsd).asWord(windWord).build())
+                .build());
+        }
+
+        return result;
+    }
+
+    // 슬롯(epoch 시) -> Asia/Seoul 기준 epoch 일
+    private static int seoulDay(int slot) {
+        return Math.floorDiv(slot + KST_OFFSET_HOURS, 24);
+    }
+
+    private static <T> T firstNonNull(T a, T b) {
+        return (a != null) ? a : b;
+    }
+
+    private static Instant toInstant(String ymd, String hm) {
+        LocalDate date = LocalDate.parse(ymd, DATE);
+        LocalTime time = LocalTime.parse(hm, TIME);
+        return ZonedDateTime.of(date, time, SEOUL).toInstant();
+    }
+
+    private static SkyStatus mapSky(Integer sky) {
+        if (sky == null) {
+            return SkyStatus.MOSTLY_CLOUDY;
+        }
+        return switch (sky) {
+            case 1 -> SkyStatus.CLEAR;
+            case 3 -> SkyStatus.MOSTLY_CLOUDY;
+            case 4 -> SkyStatus.CLOUDY;
+            default -> SkyStatus.MOSTLY_CLOUDY;
+        };
+    }
+
+    private static PrecipitationType mapPty(Integer pty) {
+        if (pty == null) {
+            return PrecipitationType.NONE;
+        }
+        return switch (pty) {
+            case 0 -> PrecipitationType.NONE;
+            case 1 -> PrecipitationType.RAIN;
+            case 2 -> PrecipitationType.RAIN_SNOW;
+            case 3 -> PrecipitationType.SNOW;
+            case 4 -> PrecipitationType.SHOWER;
+            default -> PrecipitationType.NONE;
+        };
+    }
+
+    private static WindWord toWindWord(Double wsd) {
+        if (wsd == null) {
+            return null;
+        }
+        if (wsd < 4.0) {
+            return WindWord.WEAK;
+        }
+        if (wsd < 10.0) {
+            return WindWord.MODERATE;
+        }
+        return WindWord.STRONG;
+    }
+
+    private static Double round1(Double v) {
+        return (v == null) ? null : Math.round(v * 10d) / 10d;
+    }
+
+    /**
+     * 일(Asia/Seoul epoch 일) 단위 최저/최고 기온
+     */
+    public record DailyExtrema(Map<Integer, Double> minByDay, Map<Integer, Double> maxByDay) {
+    }
+}
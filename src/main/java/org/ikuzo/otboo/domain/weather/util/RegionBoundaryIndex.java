@@ -0,0 +1,178 @@
+package org.ikuzo.otboo.domain.weather.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 행정구역 경계 폴리곤 역지오코딩 인덱스 (불변, 스레드 안전)
+ * - 위경도 격자 버킷(BUCKET_DEG) -> 경계 상자가 겹치는 구역 후보
+ * - 후보의 경계 상자 확인 후 폴리곤 내부 판정(ray casting, 구멍 포함 even-odd)
+ */
+public final class RegionBoundaryIndex {
+
+    private static final double BUCKET_DEG = 0.05;
+
+    /**
+     * @param rings 외곽선/구멍 링 목록, 각 링은 {lon0, lat0, lon1, lat1, ...}
+     */
+    public record Region(
+        String code,
+        String region1DepthName,
+        String region2DepthName,
+        String region3DepthName,
+        List<double[]> rings
+    ) {
+
+        public String addressName() {
+            return String.join(" ", region1DepthName, region2DepthName, region3DepthName).trim();
+        }
+    }
+
+    private record Entry(Region region, double minLon, double minLat, double maxLon, double maxLat) {
+
+        boolean boxContains(double lon, double lat) {
+            return lon >= minLon && lon <= maxLon && lat >= minLat && lat <= maxLat;
+        }
+    }
+
+    private final Map<Long, List<Entry>> buckets;
+    private final int size;
+
+    private RegionBoundaryIndex(Map<Long, List<Entry>> buckets, int size) {
+        this.buckets = buckets;
+        this.size = size;
+    }
+
+    public static RegionBoundaryIndex empty() {
+        return new RegionBoundaryIndex(Map.of(), 0);
+    }
+
+    public static RegionBoundaryIndex of(List<Region> regions) {
+        Map<Long, List<Entry>> buckets = new HashMap<>();
+        for (Region region : regions) {
+            Entry entry = toEntry(region);
+            if (entry == null) {
+                continue;
+            }
+            for (long bx = bucketOf(entry.minLon()); bx <= bucketOf(entry.maxLon()); bx++) {
+                for (long by = bucketOf(entry.minLat()); by <= bucketOf(entry.maxLat()); by++) {
+                    buckets.computeIfAbsent(key(bx, by), k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+        buckets.replaceAll((k, list) -> List.copyOf(list));
+        return new RegionBoundaryIndex(buckets, regions.size());
+    }
+
+    /**
+     * 행정동 GeoJSON FeatureCollection (Polygon/MultiPolygon, 그 외 도형은 건너뜀)
+     * - properties: adm_cd2(행정코드), sidonm(시/도), sggnm(시/군/구), adm_nm(전체 명칭, 마지막 토큰 = 읍/면/동)
+     */
+    public static RegionBoundaryIndex fromGeoJson(JsonNode root) {
+        List<Region> regions = new ArrayList<>();
+        for (JsonNode feature : root.path("features")) {
+            JsonNode props = feature.path("properties");
+            JsonNode geometry = feature.path("geometry");
+
+            List<double[]> rings = new ArrayList<>();
+            switch (geometry.path("type").asText()) {
+                case "Polygon" -> addPolygon(rings, geometry.path("coordinates"));
+                case "MultiPolygon" -> {
+                    for (JsonNode polygon : geometry.path("coordinates")) {
+                        addPolygon(rings, polygon);
+                    }
+                }
+                default -> {
+                    continue;
+                }
+            }
+
+            String admName = props.path("adm_nm").asText("");
+            String dong = admName.isBlank() ? "" : admName.substring(admName.lastIndexOf(' ') + 1);
+            regions.add(new Region(
+                props.path("adm_cd2").asText(null),
+                props.path("sidonm").asText(""),
+                props.path("sggnm").asText(""),
+                dong,
+                rings));
+        }
+        return of(regions);
+    }
+
+    public Optional<Region> find(double latitude, double longitude) {
+        List<Entry> candidates = buckets.get(key(bucketOf(longitude), bucketOf(latitude)));
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        for (Entry e : candidates) {
+            if (e.boxContains(longitude, latitude) && contains(e.region().rings(), longitude, latitude)) {
+                return Optional.of(e.region());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static void addPolygon(List<double[]> rings, JsonNode polygon) {
+        for (JsonNode ring : polygon) {
+            double[] coords = new double[ring.size() * 2];
+            int i = 0;
+            for (JsonNode point : ring) {
+                coords[i++] = point.get(0).asDouble();
+                coords[i++] = point.get(1).asDouble();
+            }
+            rings.add(coords);
+        }
+    }
+
+    private static Entry toEntry(Region region) {
+        double minLon = Double.MAX_VALUE, minLat = Double.MAX_VALUE;
+        double maxLon = -Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        boolean any = false;
+        for (double[] ring : region.rings()) {
+            for (int i = 0; i + 1 < ring.length; i += 2) {
+                minLon = Math.min(minLon, ring[i]);
+                maxLon = Math.max(maxLon, ring[i]);
+                minLat = Math.min(minLat, ring[i + 1]);
+                maxLat = Math.max(maxLat, ring[i + 1]);
+                any = true;
+            }
+        }
+        return any ? new Entry(region, minLon, minLat, maxLon, maxLat) : null;
+    }
+
+    // 모든 링에 대해 교차 횟수 누적 -> 홀수면 내부 (구멍/멀티폴리곤 모두 처리)
+    private static boolean contains(List<double[]> rings, double x, double y) {
+        boolean inside = false;
+        for (double[] ring : rings) {
+            int n = ring.length / 2;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double xi = ring[2 * i], yi = ring[2 * i + 1];
+                double xj = ring[2 * j], yj = ring[2 * j + 1];
+                if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    private static long bucketOf(double deg) {
+        return (long) Math.floor(deg / BUCKET_DEG);
+    }
+
+    private static long key(long bx, long by) {
+        return (bx << 32) ^ (by & 0xffffffffL);
+    }
+}
@@ -1,8 +1,14 @@
 package org.ikuzo.otboo.global.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastCache;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastKey;
+import org.ikuzo.otboo.domain.weather.client.KmaForecastGrid;
+import org.ikuzo.otboo.global.pagination.TotalCountResolver;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -47,10 +53,60 @@ public class CacheConfig {
                 .recordStats()
                 .build());
 
-        CaffeineCache weatherByCoordinates = new CaffeineCache("weatherByCoordinates",
+        // 단기예보: 발표시각별 불변 -> 키(발표시각) 기준 만료, 보관 값 개수(슬롯 x 카테고리)로 용량 제한
+        CaffeineCache kmaForecast = new CaffeineCache(KmaForecastCache.CACHE_NAME,
             Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .maximumSize(500)
+                .expireAfter(new Expiry<Object, Object>() {
+                    @Override
+                    public long expireAfterCreate(Object key, Object value, long currentTime) {
+                        return key instanceof KmaForecastKey k
+                            ? k.ttl(Instant.now()).toNanos()
+                            : TimeUnit.MINUTES.toNanos(30);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Object key, Object value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Object key, Object value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumWeight(500_000)
+                .weigher((Object key, Object value) -> value instanceof KmaForecastGrid g
+                    ? Math.max(1, g.weight()) : 1)
+                .recordStats()
+                .build());
+
+        CaffeineCache wardrobeIndex = new CaffeineCache("wardrobeIndex",
+            Caffeine.newBuilder()
+                .expireAfterAccess(30, TimeUnit.MINUTES) // 옷장 인덱스: 의상/속성 변경 시 무효화
+                .maximumSize(2000)
+                .recordStats()
+                .build());
+
+        CaffeineCache recommendations = new CaffeineCache("recommendations",
+            Caffeine.newBuilder()
+                .expireAfterWrite(3, TimeUnit.HOURS) // 추천 결과: 예보 구간 단위, 옷장 버전이 키에 포함
+                .maximumSize(10000)
+                .recordStats()
+                .build());
+
+        CaffeineCache weatherContext = new CaffeineCache("weatherContext",
+            Caffeine.newBuilder()
+                .expireAfterWrite(3, TimeUnit.HOURS) // 격자 날씨 컨텍스트: 발표시각이 키에 포함
+                .maximumSize(5000)
+                .recordStats()
+                .build());
+
+        CaffeineCache pageTotalCounts = new CaffeineCache(TotalCountResolver.CACHE_NAME,
+            Caffeine.newBuilder()
+                .expireAfterWrite(60, TimeUnit.SECONDS) // 목록 totalCount: 첫 페이지에서 갱신, 이후 페이지 재사용
+                .maximumSize(10000)
                 .recordStats()
                 .build());
 
@@ -59,7 +115,11 @@ public class CacheConfig {
             followers,
             followings,
             followSummary,
-            weatherByCoordinates
+            kmaForecast,
+            wardrobeIndex,
+            recommendations,
+            weatherContext,
+            pageTotalCounts
         ));
         cacheManager.initializeCaches();
         return cacheManager;
@@ -0,0 +1,53 @@
+package org.ikuzo.otboo.global.config;
+
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * ddl-auto(update) 로 표현할 수 없는 스키마 변경 (중복 정리 후 제약 추가, 파티션 전환 등)
+ * - Hibernate 스키마 갱신 이후 실행되도록 entityManagerFactory 에 의존
+ * - 스크립트는 현재 상태를 확인하고 필요한 경우에만 변경하므로 매 기동마다 실행해도 안전
+ * - 스크립트 하나를 한 문장으로 실행 (PL/pgSQL 블록 포함, 한 트랜잭션), 실패하면 기동 실패
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SchemaMigrationConfig {
+
+    private static final String[] SCRIPTS = {
+        "db/migration/V1__weathers_unique_user_forecast.sql",
+        "db/migration/V2__weathers_partition_by_forecast_month.sql",
+        "db/migration/V3__weather_reference_triggers.sql",
+        "db/migration/V4__feed_likes_unique_user_feed.sql",
+        "db/migration/V5__search_bigram_indexes.sql"
+    };
+
+    private final DataSource dataSource;
+
+    @Value("${otboo.schema-migration.enabled:true}")
+    private boolean enabled;
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public DataSourceInitializer schemaMigrationInitializer() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for (String script : SCRIPTS) {
+            populator.addScript(new ClassPathResource(script));
+        }
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.setContinueOnError(false);
+
+        DataSourceInitializer initializer = new DataSourceInitializer();
+        initializer.setDatabasePopulator(populator);
+        initializer.setDataSource(dataSource);
+        initializer.setEnabled(enabled);
+        return initializer;
+    }
+}
@@ -0,0 +1,48 @@
+package org.ikuzo.otboo.global.event.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.domain.feed.dto.FeedCreatedEventDto;
+import org.ikuzo.otboo.domain.feed.timeline.HomeTimelineService;
+import org.ikuzo.otboo.global.event.message.FeedCreatedEvent;
+import org.ikuzo.otboo.global.event.message.FollowCreatedEvent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 타임라인 fan-out 전용 컨슈머 (알림 컨슈머와 같은 토픽을 각각 모두 받도록 별도 그룹)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TimelineRequiredTopicListener {
+
+    private final HomeTimelineService homeTimelineService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "otboo.FeedCreatedEvent", groupId = "otboo-timeline")
+    public void onFeedCreatedEvent(String kafkaEvent) {
+        try {
+            FeedCreatedEvent event = objectMapper.readValue(kafkaEvent, FeedCreatedEvent.class);
+            FeedCreatedEventDto dto = event.getDto();
+
+            Instant createdAt = dto.createdAt() != null ? dto.createdAt() : event.getCreatedAt();
+            homeTimelineService.fanOut(dto.feedId(), dto.author().userId(), createdAt);
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 메시지 역직렬화 실패 (타임라인 fan-out): {}", kafkaEvent, e);
+        }
+    }
+
+    @KafkaListener(topics = "otboo.FollowCreatedEvent", groupId = "otboo-timeline")
+    public void onFollowCreatedEvent(String kafkaEvent) {
+        try {
+            FollowCreatedEvent event = objectMapper.readValue(kafkaEvent, FollowCreatedEvent.class);
+            homeTimelineService.backfill(event.getDto().follower().userId(), event.getDto().followee().userId());
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 메시지 역직렬화 실패 (타임라인 백필): {}", kafkaEvent, e);
+        }
+    }
+}
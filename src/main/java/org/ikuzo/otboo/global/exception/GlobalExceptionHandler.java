@@ -77,6 +77,8 @@ public class GlobalExceptionHandler {
 
             case INVALID_TOKEN, INVALID_USER_DETAILS -> HttpStatus.UNAUTHORIZED;
 
+            case EXTERNAL_API_RATE_LIMITED -> HttpStatus.SERVICE_UNAVAILABLE;
+
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
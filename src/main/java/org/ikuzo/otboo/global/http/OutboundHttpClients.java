@@ -0,0 +1,135 @@
+package org.ikuzo.otboo.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ikuzo.otboo.global.http.OutboundHttpProperties.Upstream;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 API 공통 WebClient 팩토리
+ * - upstream 이름별 전용 커넥션 풀(keep-alive 재사용) + 풀 게이지(reactor.netty.connection.provider.*)
+ * - upstream 별 응답 크기 제한, 본문 수신 완료까지의 지연시간 타이머(outbound.http.client.latency)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpClients {
+
+    public static final String KMA = "kma";
+    public static final String KAKAO = "kakao";
+    public static final String OPENAI = "openai";
+    public static final String PRODUCT_PAGE = "product-page";
+
+    private final OutboundHttpProperties props;
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    /**
+     * upstream 설정이 적용된 WebClient.Builder (baseUrl/기본 헤더는 호출 측에서 지정)
+     */
+    public WebClient.Builder builder(String upstream) {
+        Upstream cfg = props.upstream(upstream);
+
+        HttpClient http = HttpClient.create(provider(upstream, cfg))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) cfg.getConnectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .responseTimeout(cfg.getResponseTimeout())
+            // uri 태그는 upstream 이름으로 고정 (쿼리스트링/좌표로 인한 태그 폭증 방지)
+            .metrics(true, uri -> upstream);
+
+        return webClientBuilder.clone()
+            .clientConnector(new ReactorClientHttpConnector(http))
+            .codecs(c -> c.defaultCodecs().maxInMemorySize((int) cfg.getMaxInMemorySize().toBytes()))
+            .filter(latencyTimer(upstream));
+    }
+
+    private ConnectionProvider provider(String upstream, Upstream cfg) {
+        return providers.computeIfAbsent(upstream, name -> {
+            log.info("[OutboundHttpClients] 커넥션 풀 생성 - upstream: {}, maxConnections: {}",
+                name, cfg.getMaxConnections());
+            return ConnectionProvider.builder("outbound-" + name)
+                .maxConnections(cfg.getMaxConnections())
+                .pendingAcquireMaxCount(cfg.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(cfg.getPendingAcquireTimeout())
+                .maxIdleTime(cfg.getMaxIdleTime())
+                .maxLifeTime(cfg.getMaxLifeTime())
+                .evictInBackground(cfg.getEvictInBackground())
+                .metrics(true)
+                .build();
+        });
+    }
+
+    /**
+     * 요청 시작 ~ 응답 본문 종료(완료/오류/취소)까지 기록, 헤더 수신 전 오류/취소도 포함
+     * - status: HTTP 상태 코드(헤더 전 실패는 예외 이름), outcome: completed / error / cancelled
+     */
+    private ExchangeFilterFunction latencyTimer(String upstream) {
+        return (request, next) -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return next.exchange(request)
+                .map(response -> {
+                    String status = String.valueOf(response.statusCode().value());
+                    return response.mutate()
+                        .body(body -> body.doFinally(signal -> {
+                            if (recorded.compareAndSet(false, true)) {
+                                record(upstream, status, outcomeOf(signal), start);
+                            }
+                        }))
+                        .build();
+                })
+                .doOnError(e -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        record(upstream, e.getClass().getSimpleName(), "error", start);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        record(upstream, "NONE", "cancelled", start);
+                    }
+                });
+        };
+    }
+
+    private static String outcomeOf(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "completed";
+            case CANCEL -> "cancelled";
+            default -> "error";
+        };
+    }
+
+    private void record(String upstream, String status, String outcome, long startNanos) {
+        Timer.builder("outbound.http.client.latency")
+            .tag("upstream", upstream)
+            .tag("status", status)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void close() {
+        providers.values().forEach(p -> p.disposeLater().block());
+    }
+}
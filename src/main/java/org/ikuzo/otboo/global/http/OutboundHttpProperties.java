@@ -0,0 +1,38 @@
+package org.ikuzo.otboo.global.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 외부 API 별 커넥션 풀/타임아웃/응답 크기 설정 (outbound.http.upstreams.{name})
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    private Map<String, Upstream> upstreams = new HashMap<>();
+
+    public Upstream upstream(String name) {
+        return upstreams.getOrDefault(name, new Upstream());
+    }
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(3);
+        private Duration maxIdleTime = Duration.ofSeconds(30);   // 상대 서버 keep-alive 보다 짧게
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration responseTimeout = Duration.ofSeconds(10);
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+    }
+}
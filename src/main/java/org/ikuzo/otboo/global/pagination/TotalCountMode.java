@@ -0,0 +1,28 @@
+package org.ikuzo.otboo.global.pagination;
+
+/**
+ * 커서 페이지네이션 totalCount 계산 방식
+ * - EXACT: 매 페이지 COUNT 실행 (기존 동작, 기본값)
+ * - CACHED: 첫 페이지에서만 COUNT, 이후 페이지는 같은 조건의 캐시 값 재사용 (만료 시 재계산)
+ * - NONE: totalCount 생략 (null)
+ */
+public enum TotalCountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    /**
+     * 요청 파라미터 값 (대소문자 무시, 알 수 없는 값은 defaultMode)
+     */
+    public static TotalCountMode from(String value, TotalCountMode defaultMode) {
+        if (value == null || value.isBlank()) {
+            return defaultMode;
+        }
+        for (TotalCountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return defaultMode;
+    }
+}
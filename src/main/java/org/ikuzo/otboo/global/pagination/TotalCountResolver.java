@@ -0,0 +1,80 @@
+package org.ikuzo.otboo.global.pagination;
+
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 API 공통 totalCount 계산
+ * - 방식은 컨트롤러의 countMode 요청 파라미터(exact | cached | none, 기본값 pagination.total-count.mode)를 그대로 전달받음
+ * - 캐시 키: 엔드포인트 이름 + 조회 조건(사용자 범위 포함), 커서는 키에 넣지 않음
+ * - 목록 응답 자체를 @Cacheable 로 캐싱하는 메서드는 cacheKey(...) 로 방식까지 키에 포함
+ */
+@Component
+@RequiredArgsConstructor
+public class TotalCountResolver {
+
+    public static final String CACHE_NAME = "pageTotalCounts";
+    public static final String MODE_PARAMETER = "countMode";
+    public static final String DEFAULT_MODE = "${pagination.total-count.mode:exact}";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * @param mode      totalCount 계산 방식
+     * @param firstPage 커서 없이 요청된 첫 페이지 여부 (첫 페이지는 항상 새로 계산해 캐시 갱신)
+     * @param counter   실제 COUNT 쿼리
+     * @param keyParts  엔드포인트 이름과 필터 값
+     */
+    public Long resolve(TotalCountMode mode, boolean firstPage, Supplier<Long> counter, Object... keyParts) {
+        if (mode == TotalCountMode.NONE) {
+            return null;
+        }
+        if (mode == TotalCountMode.EXACT) {
+            return counter.get();
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return counter.get();
+        }
+        SimpleKey key = new SimpleKey(keyParts);
+        if (!firstPage) {
+            Long cached = cache.get(key, Long.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Long total = counter.get();
+        if (total != null) {
+            cache.put(key, total);
+        }
+        return total;
+    }
+
+    /**
+     * 엔티티 카운터 컬럼처럼 O(1) 로 읽을 수 있는 값은 캐시 없이 그대로 사용 (NONE 만 반영)
+     */
+    public Long resolveCounter(TotalCountMode mode, Supplier<Long> counter) {
+        return mode == TotalCountMode.NONE ? null : counter.get();
+    }
+
+    /**
+     * 첫 페이지 응답 캐시 키 (같은 대상이라도 방식마다 totalCount 가 다르므로 분리)
+     */
+    public static SimpleKey cacheKey(Object owner, TotalCountMode mode) {
+        return new SimpleKey(owner, mode);
+    }
+
+    /**
+     * owner 의 첫 페이지 응답 캐시를 모든 방식에 대해 제거
+     */
+    public static void evictAllModes(Cache cache, Object owner) {
+        for (TotalCountMode mode : TotalCountMode.values()) {
+            cache.evict(cacheKey(owner, mode));
+        }
+    }
+}
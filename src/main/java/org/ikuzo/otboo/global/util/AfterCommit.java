@@ -0,0 +1,27 @@
+package org.ikuzo.otboo.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 커밋 이후 실행 (활성 트랜잭션이 없으면 즉시 실행)
+ * - 캐시 무효화를 커밋 전에 하면 동시 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있음
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package org.ikuzo.otboo.global.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부분 문자열 검색 조건 (한글/영문 혼합)
+ * - PostgreSQL + otboo_ngram_match 함수(db/migration/V5)가 있으면: 2-gram GIN 후보 필터 AND ILIKE 재확인
+ * - 함수가 없거나(H2, 스키마 미적용) 키워드가 1글자면: ILIKE 만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 함수 존재 여부는 스키마 마이그레이션 이후에 확인
+@DependsOn("schemaMigrationInitializer")
+public class NgramSearchSupport {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.ngram.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean available;
+
+    @PostConstruct
+    void detect() {
+        if (!enabled) {
+            log.info("[NgramSearch] 비활성화 - ILIKE 검색 사용");
+            return;
+        }
+        try {
+            Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT to_regproc('otboo_ngram_match') IS NOT NULL", Boolean.class);
+            available = Boolean.TRUE.equals(exists);
+        } catch (Exception e) {
+            available = false;
+        }
+        log.info("[NgramSearch] 2-gram 인덱스 검색 사용 여부: {}", available);
+    }
+
+    /**
+     * target ILIKE '%keyword%' 와 같은 결과, 가능하면 2-gram 인덱스로 후보를 먼저 좁힘
+     */
+    public BooleanExpression containsIgnoreCase(StringExpression target, String keyword) {
+        String trimmed = keyword.trim();
+        BooleanExpression ilike = Expressions.booleanTemplate("{0} ILIKE {1}", target, "%" + trimmed + "%");
+        if (!available || trimmed.replaceAll("\\s+", "").length() < 2) {
+            return ilike;
+        }
+        return Expressions.booleanTemplate("function('otboo_ngram_match', {0}, {1}) = true", target, trimmed)
+            .and(ilike);
+    }
+}
@@ -0,0 +1,66 @@
+package org.ikuzo.otboo.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 방식 호출 제한 (스레드 안전)
+ * - 초당 permitsPerSecond 개씩 충전, 최대 burst 개까지 적립
+ * - 토큰이 없으면 다음 토큰을 예약하고 그 시각까지 대기 (대기 한도를 넘으면 false)
+ */
+public class TokenBucketRateLimiter {
+
+    private final double burst;
+    private final double nanosPerPermit;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    // 테스트에서 충전 시각을 제어하기 위한 생성자
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond, burst 는 0보다 커야 합니다.");
+        }
+        this.burst = burst;
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    public boolean tryAcquire(Duration maxWait) {
+        long waitNanos;
+        synchronized (this) {
+            refill(nanoClock.getAsLong());
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            waitNanos = (long) ((1 - tokens) * nanosPerPermit);
+            if (waitNanos > maxWait.toNanos()) {
+                return false;
+            }
+            // 음수 잔량 = 앞선 대기자가 예약한 토큰
+            tokens -= 1;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private void refill(long now) {
+        double added = (now - lastRefillNanos) / nanosPerPermit;
+        tokens = Math.min(burst, tokens + added);
+        lastRefillNanos = now;
+    }
+}
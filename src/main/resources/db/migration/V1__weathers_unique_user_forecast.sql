@@ -0,0 +1,44 @@
+-- weathers (user_id, forecast_at) 중복 정리 후 유니크 제약 추가
+-- 기존 배치가 같은 사용자/예보시각을 여러 번 저장해 ddl-auto 의 제약 생성이 실패했던 DB 대상
+-- 남길 행: 가장 최근 수집(created_at) 행, 삭제되는 행을 참조하던 피드/추천은 남길 행으로 변경
+SELECT pg_advisory_xact_lock(hashtext('otboo-schema-migration'));
+
+DO $$
+BEGIN
+    IF to_regclass('weathers') IS NULL THEN
+        RETURN;
+    END IF;
+    IF EXISTS (SELECT 1
+               FROM pg_constraint
+               WHERE conrelid = 'weathers'::regclass
+                 AND lower(conname) = 'uk_weathers_user_forecast_at') THEN
+        RETURN;
+    END IF;
+
+    CREATE TEMP TABLE weather_duplicates ON COMMIT DROP AS
+    SELECT id, keep_id
+    FROM (SELECT id,
+                 first_value(id) OVER (PARTITION BY user_id, forecast_at
+                                       ORDER BY created_at DESC, id DESC) AS keep_id
+          FROM weathers) ranked
+    WHERE id <> keep_id;
+
+    IF to_regclass('feeds') IS NOT NULL THEN
+        UPDATE feeds f SET weather_id = d.keep_id
+        FROM weather_duplicates d
+        WHERE f.weather_id = d.id;
+    END IF;
+    IF to_regclass('recommends') IS NOT NULL THEN
+        UPDATE recommends r SET weather_id = d.keep_id
+        FROM weather_duplicates d
+        WHERE r.weather_id = d.id;
+    END IF;
+
+    DELETE FROM weathers w
+    USING weather_duplicates d
+    WHERE w.id = d.id;
+
+    RAISE NOTICE '[SchemaMigration] 중복 날씨 % 건 정리', (SELECT count(*) FROM weather_duplicates);
+
+    ALTER TABLE weathers ADD CONSTRAINT uk_weathers_user_forecast_at UNIQUE (user_id, forecast_at);
+END $$;
@@ -0,0 +1,105 @@
+-- weathers 를 forecast_at 기준 월별 범위 파티션 테이블로 전환 + weather_daily_rollups 생성
+-- ddl-auto 는 일반 테이블로 만들기 때문에 기존(또는 방금 생성된) 테이블을 옮겨 담아 교체
+-- - 기존 행이 있는 월의 파티션(weathers_yyyy_mm, UTC 월 경계)과 기본 파티션을 함께 생성
+-- - 격자가 비어 있는 과거 행은 사용자의 현재 격자로 채움 (수집 시점 격자를 알 수 없는 행)
+-- - 기존 feeds/recommends -> weathers FK 는 레거시 테이블과 함께 제거, V3 트리거로 대체
+SELECT pg_advisory_xact_lock(hashtext('otboo-schema-migration'));
+
+DO $$
+DECLARE
+    month_start TIMESTAMP;
+    moved       BIGINT;
+BEGIN
+    IF to_regclass('weathers') IS NULL THEN
+        RETURN;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'weathers'::regclass) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE weathers RENAME TO weathers_legacy;
+
+    CREATE TABLE weathers
+    (
+        id                        UUID             NOT NULL,
+        user_id                   UUID             NOT NULL,
+        grid_x                    INTEGER          NULL,
+        grid_y                    INTEGER          NULL,
+        forecasted_at             TIMESTAMPTZ      NOT NULL,
+        forecast_at               TIMESTAMPTZ      NOT NULL,
+        sky_status                VARCHAR(20)      NOT NULL,
+        precipitation_type        VARCHAR(20)      NOT NULL,
+        precipitation_amount      DOUBLE PRECISION NULL,
+        precipitation_probability DOUBLE PRECISION NOT NULL,
+        temperature_current       DOUBLE PRECISION NOT NULL,
+        temperature_compared      DOUBLE PRECISION NULL,
+        temperature_min           DOUBLE PRECISION NULL,
+        temperature_max           DOUBLE PRECISION NULL,
+        wind_speed                DOUBLE PRECISION NULL,
+        wind_speed_word           VARCHAR(20)      NULL,
+        humidity_current          DOUBLE PRECISION NULL,
+        humidity_compared         DOUBLE PRECISION NULL,
+        created_at                TIMESTAMPTZ      NOT NULL
+    ) PARTITION BY RANGE (forecast_at);
+
+    CREATE TABLE weathers_default PARTITION OF weathers DEFAULT;
+
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', forecast_at AT TIME ZONE 'UTC')
+        FROM weathers_legacy
+        UNION
+        SELECT date_trunc('month', now() AT TIME ZONE 'UTC')
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF weathers FOR VALUES FROM (%L) TO (%L)',
+                       'weathers_' || to_char(month_start, 'YYYY_MM'),
+                       month_start AT TIME ZONE 'UTC',
+                       (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+
+    INSERT INTO weathers (id, user_id, grid_x, grid_y, forecasted_at, forecast_at, sky_status,
+                          precipitation_type, precipitation_amount, precipitation_probability,
+                          temperature_current, temperature_compared, temperature_min, temperature_max,
+                          wind_speed, wind_speed_word, humidity_current, humidity_compared, created_at)
+    SELECT w.id, w.user_id, coalesce(w.grid_x, u.x), coalesce(w.grid_y, u.y), w.forecasted_at,
+           w.forecast_at, w.sky_status, w.precipitation_type, w.precipitation_amount,
+           w.precipitation_probability, w.temperature_current, w.temperature_compared,
+           w.temperature_min, w.temperature_max, w.wind_speed, w.wind_speed_word,
+           w.humidity_current, w.humidity_compared, w.created_at
+    FROM weathers_legacy w
+    LEFT JOIN users u ON u.id = w.user_id;
+    GET DIAGNOSTICS moved = ROW_COUNT;
+
+    -- feeds/recommends 의 weathers FK 도 함께 제거
+    DROP TABLE weathers_legacy CASCADE;
+
+    -- 파티션 키를 포함해야 하므로 PK 는 (id, forecast_at)
+    ALTER TABLE weathers ADD CONSTRAINT pk_weathers PRIMARY KEY (id, forecast_at);
+    ALTER TABLE weathers ADD CONSTRAINT uk_weathers_user_forecast_at UNIQUE (user_id, forecast_at);
+    ALTER TABLE weathers ADD CONSTRAINT fk_weathers_user
+        FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+    ALTER TABLE weathers ADD CONSTRAINT chk_weather_sky
+        CHECK (sky_status IN ('CLEAR', 'MOSTLY_CLOUDY', 'CLOUDY'));
+    ALTER TABLE weathers ADD CONSTRAINT chk_weather_precip
+        CHECK (precipitation_type IN ('NONE', 'RAIN', 'RAIN_SNOW', 'SNOW', 'SHOWER'));
+    ALTER TABLE weathers ADD CONSTRAINT chk_weather_wind
+        CHECK (wind_speed_word IN ('WEAK', 'MODERATE', 'STRONG'));
+
+    RAISE NOTICE '[SchemaMigration] weathers 파티션 테이블 전환 완료 (% 건 이관)', moved;
+END $$;
+
+CREATE TABLE IF NOT EXISTS weather_daily_rollups
+(
+    grid_x                        INTEGER          NOT NULL,
+    grid_y                        INTEGER          NOT NULL,
+    day                           DATE             NOT NULL,
+    temperature_min               DOUBLE PRECISION NULL,
+    temperature_max               DOUBLE PRECISION NULL,
+    temperature_avg               DOUBLE PRECISION NULL,
+    humidity_avg                  DOUBLE PRECISION NULL,
+    precipitation_probability_max DOUBLE PRECISION NULL,
+    precipitation_amount_sum      DOUBLE PRECISION NULL,
+    precipitation_slots           INTEGER          NOT NULL,
+    sample_count                  INTEGER          NOT NULL,
+    updated_at                    TIMESTAMPTZ      NOT NULL,
+    CONSTRAINT pk_weather_daily_rollups PRIMARY KEY (grid_x, grid_y, day)
+);
@@ -0,0 +1,76 @@
+-- feeds/recommends.weather_id 참조 무결성 (파티션 테이블은 id 단독 FK 를 받을 수 없어 트리거로 대체)
+-- - 삽입/수정: 참조하는 날씨가 없으면 foreign_key_violation
+-- - 날씨 삭제: 참조하는 피드/추천도 삭제 (기존 FK 의 ON DELETE CASCADE 와 동일)
+-- - 파티션 생성 시 기본 파티션 행을 옮기는 동안(otboo.weather_partition_move=on)은 전파하지 않음
+-- - 보존 작업의 파티션 DROP 은 행 트리거를 거치지 않으므로 WeatherRetentionService 가 참조를 먼저 확인
+SELECT pg_advisory_xact_lock(hashtext('otboo-schema-migration'));
+
+CREATE OR REPLACE FUNCTION otboo_check_weather_reference() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM weathers WHERE id = NEW.weather_id) THEN
+        RAISE EXCEPTION 'weathers(id)=(%) 가 존재하지 않습니다 (%.weather_id)', NEW.weather_id, TG_TABLE_NAME
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION otboo_cascade_weather_delete() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF current_setting('otboo.weather_partition_move', true) = 'on' THEN
+        RETURN OLD;
+    END IF;
+    IF to_regclass('feeds') IS NOT NULL THEN
+        DELETE FROM feeds WHERE weather_id = OLD.id;
+    END IF;
+    IF to_regclass('recommends') IS NOT NULL THEN
+        DELETE FROM recommends WHERE weather_id = OLD.id;
+    END IF;
+    RETURN OLD;
+END
+$$;
+
+DO $$
+BEGIN
+    IF to_regclass('weathers') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_trigger
+                        WHERE tgrelid = 'weathers'::regclass
+                          AND tgname = 'trg_weathers_cascade_delete') THEN
+        CREATE TRIGGER trg_weathers_cascade_delete
+            AFTER DELETE ON weathers
+            FOR EACH ROW EXECUTE FUNCTION otboo_cascade_weather_delete();
+    END IF;
+
+    -- 삭제 전파/보존 작업의 참조 확인용
+    IF to_regclass('feeds') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_feeds_weather ON feeds (weather_id);
+    END IF;
+    IF to_regclass('recommends') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_recommends_weather_created ON recommends (weather_id, created_at DESC);
+    END IF;
+
+    IF to_regclass('feeds') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_trigger
+                        WHERE tgrelid = 'feeds'::regclass
+                          AND tgname = 'trg_feeds_weather_reference') THEN
+        CREATE TRIGGER trg_feeds_weather_reference
+            BEFORE INSERT OR UPDATE OF weather_id ON feeds
+            FOR EACH ROW EXECUTE FUNCTION otboo_check_weather_reference();
+    END IF;
+
+    IF to_regclass('recommends') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_trigger
+                        WHERE tgrelid = 'recommends'::regclass
+                          AND tgname = 'trg_recommends_weather_reference') THEN
+        CREATE TRIGGER trg_recommends_weather_reference
+            BEFORE INSERT OR UPDATE OF weather_id ON recommends
+            FOR EACH ROW EXECUTE FUNCTION otboo_check_weather_reference();
+    END IF;
+END $$;
@@ -0,0 +1,39 @@
+-- feed_likes (user_id, feed_id) 중복 정리 후 유니크 제약 추가
+-- 좋아요/취소 SQL 의 ON CONFLICT (user_id, feed_id) 가 이 제약을 필요로 함 (없으면 모든 좋아요 요청 실패)
+-- 기존 저장 방식은 중복 확인 없이 저장해 같은 사용자/피드 행이 쌓였을 수 있고, 그런 DB 에서는 ddl-auto 의 제약 생성이 실패함
+-- 남길 행: 가장 먼저 누른(created_at) 행, 정리한 피드의 like_count 는 feed_likes 기준으로 다시 계산
+SELECT pg_advisory_xact_lock(hashtext('otboo-schema-migration'));
+
+DO $$
+BEGIN
+    IF to_regclass('feed_likes') IS NULL THEN
+        RETURN;
+    END IF;
+    IF EXISTS (SELECT 1
+               FROM pg_constraint
+               WHERE conrelid = 'feed_likes'::regclass
+                 AND lower(conname) = 'uk_feed_likes_user_feed') THEN
+        RETURN;
+    END IF;
+
+    CREATE TEMP TABLE feed_like_duplicates ON COMMIT DROP AS
+    SELECT id, feed_id
+    FROM (SELECT id,
+                 feed_id,
+                 first_value(id) OVER (PARTITION BY user_id, feed_id
+                                       ORDER BY created_at, id) AS keep_id
+          FROM feed_likes) ranked
+    WHERE id <> keep_id;
+
+    DELETE FROM feed_likes fl
+    USING feed_like_duplicates d
+    WHERE fl.id = d.id;
+
+    UPDATE feeds f
+    SET like_count = (SELECT count(*) FROM feed_likes fl WHERE fl.feed_id = f.id)
+    WHERE f.id IN (SELECT DISTINCT feed_id FROM feed_like_duplicates);
+
+    RAISE NOTICE '[SchemaMigration] 중복 좋아요 % 건 정리', (SELECT count(*) FROM feed_like_duplicates);
+
+    ALTER TABLE feed_likes ADD CONSTRAINT uk_feed_likes_user_feed UNIQUE (user_id, feed_id);
+END $$;
@@ -0,0 +1,53 @@
+-- 부분 문자열 검색용 2-gram 함수 + GIN 인덱스 (schema.sql 과 동일 정의, NgramSearchSupport 가 함수 존재 여부로 사용 결정)
+-- 공백 제거 + 소문자화 후 연속 2글자 집합. '%kw%' 포함이면 bigram(kw) ⊆ bigram(text) 이므로
+-- GIN(otboo_bigrams(col)) 로 후보를 좁히고 ILIKE 로 재확인
+-- 인덱스는 이름이 같은 인덱스(schema.sql 의 대문자 이름 포함)가 없을 때만 생성 (최초 1회 생성 동안 대상 테이블 쓰기 대기)
+SELECT pg_advisory_xact_lock(hashtext('otboo-schema-migration'));
+
+CREATE OR REPLACE FUNCTION otboo_bigrams(input TEXT) RETURNS TEXT[]
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT coalesce(array_agg(DISTINCT substr(n.s, i, 2)), '{}')
+FROM (SELECT lower(regexp_replace(coalesce(input, ''), '\s+', '', 'g')) AS s) n,
+     generate_series(1, length(n.s) - 1) AS i
+$$;
+
+-- JPQL 에서 호출하는 래퍼 (단순 SQL 함수라 인라인되어 GIN 인덱스 조건으로 사용됨)
+CREATE OR REPLACE FUNCTION otboo_ngram_match(target TEXT, keyword TEXT) RETURNS BOOLEAN
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT otboo_bigrams(target) @> otboo_bigrams(keyword)
+$$;
+
+DO $$
+BEGIN
+    IF to_regclass('users') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_indexes
+                        WHERE tablename = 'users'
+                          AND lower(indexname) = 'idx_users_name_bigram') THEN
+        CREATE INDEX idx_users_name_bigram ON users USING GIN (otboo_bigrams(name));
+    END IF;
+
+    IF to_regclass('users') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_indexes
+                        WHERE tablename = 'users'
+                          AND lower(indexname) = 'idx_users_email_bigram') THEN
+        CREATE INDEX idx_users_email_bigram ON users USING GIN (otboo_bigrams(email));
+    END IF;
+
+    IF to_regclass('feeds') IS NOT NULL
+        AND NOT EXISTS (SELECT 1
+                        FROM pg_indexes
+                        WHERE tablename = 'feeds'
+                          AND lower(indexname) = 'idx_feeds_content_bigram') THEN
+        CREATE INDEX idx_feeds_content_bigram ON feeds USING GIN (otboo_bigrams(content));
+    END IF;
+END $$;
@@ -1,3 +1,30 @@
+-- ===============================
+-- SEARCH (한글/영문 혼합 부분 문자열 검색용 2-gram)
+-- ===============================
+-- 공백 제거 + 소문자화 후 연속 2글자 집합. '%kw%' 포함이면 bigram(kw) ⊆ bigram(text) 이므로
+-- GIN(otboo_bigrams(col)) 로 후보를 좁히고 ILIKE 로 재확인 (2글자 한글 키워드도 인덱스 사용)
+-- 운영 DB 에는 db/migration/V5 로 같은 함수/인덱스를 적용
+CREATE OR REPLACE FUNCTION otboo_bigrams(input TEXT) RETURNS TEXT[]
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT coalesce(array_agg(DISTINCT substr(n.s, i, 2)), '{}')
+FROM (SELECT lower(regexp_replace(coalesce(input, ''), '\s+', '', 'g')) AS s) n,
+     generate_series(1, length(n.s) - 1) AS i
+$$;
+
+-- JPQL 에서 호출하는 래퍼 (단순 SQL 함수라 인라인되어 GIN 인덱스 조건으로 사용됨)
+CREATE OR REPLACE FUNCTION otboo_ngram_match(target TEXT, keyword TEXT) RETURNS BOOLEAN
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT otboo_bigrams(target) @> otboo_bigrams(keyword)
+$$;
+
 -- ===============================
 -- USERS
 -- ===============================
@@ -24,9 +51,13 @@ CREATE TABLE "users"
     "role"                    VARCHAR(20)      NOT NULL,
     "provider_id"             VARCHAR(255)     NULL,
     "provider"                VARCHAR(255)     NULL,
+    "wardrobe_version"        BIGINT           NOT NULL DEFAULT 0,
     CONSTRAINT "PK_USERS" PRIMARY KEY ("id")
 );
 
+CREATE INDEX "IDX_USERS_NAME_BIGRAM" ON "users" USING GIN (otboo_bigrams("name"));
+CREATE INDEX "IDX_USERS_EMAIL_BIGRAM" ON "users" USING GIN (otboo_bigrams("email"));
+
 -- ===============================
 -- FEEDS
 -- ===============================
@@ -43,10 +74,16 @@ CREATE TABLE "feeds"
     "comment_count" INTEGER      NOT NULL DEFAULT 0,
     "like_count"    BIGINT       NOT NULL DEFAULT 0,
     CONSTRAINT "PK_FEEDS" PRIMARY KEY ("id"),
-    CONSTRAINT "FK_FEEDS_USERS" FOREIGN KEY ("author_id") REFERENCES "users" ("id") ON DELETE CASCADE,
-    CONSTRAINT "FK_FEEDS_WEATHER" FOREIGN KEY ("weather_id") REFERENCES "weathers" ("id") ON DELETE CASCADE
+    CONSTRAINT "FK_FEEDS_USERS" FOREIGN KEY ("author_id") REFERENCES "users" ("id") ON DELETE CASCADE
 );
 
+-- weathers 는 파티션 테이블이라 (id) 단독 FK 불가 -> 인덱스 + 참조 확인 트리거 (db/migration/V3)
+-- 참조 중인 날씨는 보존 작업에서 삭제하지 않음
+CREATE INDEX "IDX_FEEDS_WEATHER" ON "feeds" ("weather_id");
+-- 홈 타임라인 pull 병합/재구성 (작성자별 최신순 키셋)
+CREATE INDEX "IDX_FEEDS_AUTHOR_CREATED" ON "feeds" ("author_id", "created_at" DESC, "id" DESC);
+CREATE INDEX "IDX_FEEDS_CONTENT_BIGRAM" ON "feeds" USING GIN (otboo_bigrams("content"));
+
 -- ===============================
 -- COMMENTS
 -- ===============================
@@ -196,8 +233,12 @@ CREATE TABLE "feed_likes"
     "created_at" TIMESTAMPTZ NOT NULL,
     CONSTRAINT "PK_FEED_LIKES" PRIMARY KEY ("id"),
     CONSTRAINT "FK_FEED_LIKES_FEED" FOREIGN KEY ("feed_id") REFERENCES "feeds" ("id") ON DELETE CASCADE,
-    CONSTRAINT "FK_FEED_LIKES_USER" FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE
+    CONSTRAINT "FK_FEED_LIKES_USER" FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE,
+    -- 좋아요 멱등 처리 (INSERT ... ON CONFLICT DO NOTHING 대상)
+    CONSTRAINT "UK_FEED_LIKES_USER_FEED" UNIQUE ("user_id", "feed_id")
 );
+-- 좋아요 수 재계산 (feed_id 별 count)
+CREATE INDEX "IDX_FEED_LIKES_FEED" ON "feed_likes" ("feed_id");
 
 -- ===============================
 -- FEED CLOTHES
@@ -224,6 +265,8 @@ CREATE TABLE "weathers"
 (
     "id"                        UUID             NOT NULL,
     "user_id"                   UUID             NOT NULL,
+    "grid_x"                    INTEGER          NULL,
+    "grid_y"                    INTEGER          NULL,
     "forecasted_at"             TIMESTAMPTZ      NOT NULL,
     "forecast_at"               TIMESTAMPTZ      NOT NULL,
     "sky_status"                VARCHAR(20)      NOT NULL,
@@ -239,12 +282,38 @@ CREATE TABLE "weathers"
     "humidity_current"          DOUBLE PRECISION NULL,
     "humidity_compared"         DOUBLE PRECISION NULL,
     "created_at"                TIMESTAMPTZ      NOT NULL,
-    CONSTRAINT "PK_WEATHERS" PRIMARY KEY ("id"),
+    CONSTRAINT "PK_WEATHERS" PRIMARY KEY ("id", "forecast_at"),
     CONSTRAINT "FK_WEATHERS_USER" FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE,
+    CONSTRAINT "UK_WEATHERS_USER_FORECAST_AT" UNIQUE ("user_id", "forecast_at"),
     CONSTRAINT "CHK_WEATHER_SKY" CHECK ("sky_status" IN ('CLEAR', 'MOSTLY_CLOUDY', 'CLOUDY')),
     CONSTRAINT "CHK_WEATHER_PRECIP" CHECK ("precipitation_type" IN
                                            ('NONE', 'RAIN', 'RAIN_SNOW', 'SNOW', 'SHOWER')),
     CONSTRAINT "CHK_WEATHER_WIND" CHECK ("wind_speed_word" IN ('WEAK', 'MODERATE', 'STRONG'))
+) PARTITION BY RANGE ("forecast_at");
+
+-- 월별 파티션(weathers_yyyy_mm)은 WeatherRetentionService 가 미리 생성, 누락 시 기본 파티션으로 적재
+CREATE TABLE "weathers_default" PARTITION OF "weathers" DEFAULT;
+
+-- ===============================
+-- WEATHER DAILY ROLLUPS (격자/일 단위 이력 집계)
+-- ===============================
+DROP TABLE IF EXISTS "weather_daily_rollups" CASCADE;
+
+CREATE TABLE "weather_daily_rollups"
+(
+    "grid_x"                        INTEGER          NOT NULL,
+    "grid_y"                        INTEGER          NOT NULL,
+    "day"                           DATE             NOT NULL,
+    "temperature_min"               DOUBLE PRECISION NULL,
+    "temperature_max"               DOUBLE PRECISION NULL,
+    "temperature_avg"               DOUBLE PRECISION NULL,
+    "humidity_avg"                  DOUBLE PRECISION NULL,
+    "precipitation_probability_max" DOUBLE PRECISION NULL,
+    "precipitation_amount_sum"      DOUBLE PRECISION NULL,
+    "precipitation_slots"           INTEGER          NOT NULL,
+    "sample_count"                  INTEGER          NOT NULL,
+    "updated_at"                    TIMESTAMPTZ      NOT NULL,
+    CONSTRAINT "PK_WEATHER_DAILY_ROLLUPS" PRIMARY KEY ("grid_x", "grid_y", "day")
 );
 
 -- ===============================
@@ -259,10 +328,12 @@ CREATE TABLE "recommends"
     "user_id"    UUID        NOT NULL,
     "weather_id" UUID        NOT NULL,
     CONSTRAINT "PK_RECOMMENDS" PRIMARY KEY ("id"),
-    CONSTRAINT "FK_RECOMMENDS_USER" FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE,
-    CONSTRAINT "FK_RECOMMENDS_WEATHER" FOREIGN KEY ("weather_id") REFERENCES "weathers" ("id") ON DELETE CASCADE
+    CONSTRAINT "FK_RECOMMENDS_USER" FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE
 );
 
+CREATE INDEX "IDX_RECOMMENDS_WEATHER_CREATED" ON "recommends" ("weather_id", "created_at" DESC);
+CREATE INDEX "IDX_RECOMMENDS_USER" ON "recommends" ("user_id");
+
 -- ===============================
 -- RECOMMENDATION_CLOTHES
 -- ===============================
@@ -286,12 +357,8 @@ ALTER TABLE "follows"
     ADD CONSTRAINT "UK_FOLLOWS_FOLLOWER_FOLLOWING"
         UNIQUE ("follower_id", "following_id");
 
--- ===============================
--- FEEDS WEATHER FK
--- ===============================
-ALTER TABLE "feeds"
-    ADD CONSTRAINT "FK_FEEDS_WEATHERS"
-        FOREIGN KEY ("weather_id") REFERENCES "weathers" ("id") ON DELETE CASCADE;
+-- 피드 fan-out 시 작성자의 팔로워 조회/카운트
+CREATE INDEX "IDX_FOLLOWS_FOLLOWING" ON "follows" ("following_id", "follower_id");
 
 -- ===============================
 -- ATTRIBUTE OPTIONS UNIQUE 추가
@@ -0,0 +1,225 @@
+package org.ikuzo.otboo.domain.feed.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.feed.entity.Feed;
+import org.ikuzo.otboo.domain.feed.repository.FeedRepository;
+import org.ikuzo.otboo.domain.feed.repository.dto.FeedTimelineRow;
+import org.ikuzo.otboo.domain.follow.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 홈 타임라인 조회/재구성/pull 작성자 병합 (InMemoryHomeTimelineStore + 피드/팔로우 저장소 스텁)
+ */
+class HomeTimelineServiceTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-15T00:00:00Z");
+
+    private final UUID viewer = UUID.randomUUID();
+    private final UUID friend = UUID.randomUUID();
+    private final UUID celebrity = UUID.randomUUID();
+
+    private final FeedRepository feedRepository = mock(FeedRepository.class);
+    private final FollowRepository followRepository = mock(FollowRepository.class);
+    private final InMemoryHomeTimelineStore store = new InMemoryHomeTimelineStore();
+    private final HomeTimelineService service = new HomeTimelineService(store, feedRepository, followRepository);
+
+    // 작성자별 피드 (DB 대용), 삭제된 피드는 deleted 에 기록
+    private final Map<UUID, FeedTimelineRow> rows = new LinkedHashMap<>();
+    private final Map<UUID, UUID> authors = new LinkedHashMap<>();
+    private final Set<UUID> deleted = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "capacity", 800);
+        ReflectionTestUtils.setField(service, "capacity", 800);
+        ReflectionTestUtils.setField(service, "fanoutMaxFollowers", 2L);
+        ReflectionTestUtils.setField(service, "followBackfillSize", 20);
+
+        given(followRepository.findFollowingIdsIn(eq(viewer), anyCollection())).willAnswer(inv -> {
+            Collection<UUID> ids = inv.getArgument(1);
+            return ids.stream().filter(id -> id.equals(friend) || id.equals(celebrity)).toList();
+        });
+        given(followRepository.findFollowerIdsByFollowingId(any())).willReturn(List.of(viewer));
+        given(feedRepository.findTimelineSeed(eq(viewer), anyInt())).willAnswer(inv ->
+            rowsOf(Set.of(viewer, friend), null, null, inv.getArgument(1)));
+        given(feedRepository.findTimelineRowsByAuthors(anyCollection(), any(), any(), anyInt())).willAnswer(inv ->
+            rowsOf(new HashSet<>(inv.<Collection<UUID>>getArgument(0)), inv.getArgument(1), inv.getArgument(2),
+                inv.getArgument(3)));
+        willAnswer(inv -> {
+            Collection<UUID> ids = inv.getArgument(1);
+            return ids.stream().filter(id -> rows.containsKey(id) && !deleted.contains(id)).map(this::feed).toList();
+        }).given(feedRepository).findVisibleFeedsByIdIn(eq(viewer), anyCollection());
+    }
+
+    @Test
+    @DisplayName("재구성 결과가 비어 있으면 빈 타임라인으로 표시해 다음 조회에서 다시 재구성하지 않음")
+    void rebuildsEmptyTimelineOnce() {
+        HomeTimelinePage first = service.readPage(viewer, null, null, 10);
+        HomeTimelinePage second = service.readPage(viewer, null, null, 10);
+
+        assertThat(first.feeds()).isEmpty();
+        assertThat(second.feeds()).isEmpty();
+        assertThat(second.hasNext()).isFalse();
+        verify(feedRepository, times(1)).findTimelineSeed(eq(viewer), anyInt());
+    }
+
+    @Test
+    @DisplayName("재구성한 타임라인을 커서로 끝까지 중복/누락 없이 조회")
+    void pagesThroughRebuiltTimeline() {
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, post(i % 2 == 0 ? friend : viewer, i));
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        HomeTimelinePage page = service.readPage(viewer, null, null, 2);
+        seen.addAll(ids(page));
+        while (page.hasNext()) {
+            page = service.readPage(viewer, page.nextCursor().toString(), page.nextIdAfter(), 2);
+            seen.addAll(ids(page));
+        }
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        verify(feedRepository, times(1)).findTimelineSeed(eq(viewer), anyInt());
+    }
+
+    @Test
+    @DisplayName("pull 작성자 피드는 타임라인 항목과 시간순으로 병합")
+    void mergesPullAuthorFeeds() {
+        UUID oldest = post(friend, 0);
+        UUID pulled = post(celebrity, 1);
+        UUID newest = post(friend, 2);
+        store.markPullAuthor(celebrity);
+
+        HomeTimelinePage page = service.readPage(viewer, null, null, 10);
+
+        assertThat(ids(page)).containsExactly(newest, pulled, oldest);
+        assertThat(page.hasNext()).isFalse();
+        // pull 작성자 피드는 타임라인에 저장하지 않음
+        assertThat(store.size(viewer)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제된 피드 항목은 조회 시 타임라인에서 정리")
+    void removesStaleEntries() {
+        post(friend, 0);
+        UUID removed = post(friend, 1);
+        service.readPage(viewer, null, null, 10);
+        deleted.add(removed);
+
+        HomeTimelinePage page = service.readPage(viewer, null, null, 10);
+
+        assertThat(ids(page)).doesNotContain(removed);
+        assertThat(store.size(viewer)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("팔로워가 기준 이하로 줄어든 pull 작성자는 최근 피드를 팔로워 타임라인에 채운 뒤 해제")
+    void prunesPullAuthorsBelowThreshold() {
+        post(friend, 0);
+        service.readPage(viewer, null, null, 10);
+        UUID pulled = post(celebrity, 1);
+        store.markPullAuthor(celebrity);
+        given(followRepository.countByFollowing_Id(celebrity)).willReturn(1L);
+
+        service.prunePullAuthors();
+
+        assertThat(store.pullAuthors()).isEmpty();
+        assertThat(store.read(viewer, Long.MAX_VALUE, 10)).extracting(TimelineEntry::feedId).contains(pulled);
+        assertThat(ids(service.readPage(viewer, null, null, 10))).startsWith(pulled);
+    }
+
+    @Test
+    @DisplayName("타임라인이 없는(만료/미조회) 팔로워에게는 push 하지 않아 다음 조회에서 이전 피드까지 재구성")
+    void skipsFanOutToMissingTimelines() {
+        UUID oldest = post(friend, 0);
+        UUID older = post(viewer, 1);
+        UUID newest = post(friend, 2);
+        given(followRepository.countByFollowing_Id(friend)).willReturn(1L);
+
+        service.fanOut(newest, friend, T0.plusSeconds(120));
+
+        assertThat(store.exists(viewer)).isFalse();
+        assertThat(store.exists(friend)).isFalse();
+        assertThat(ids(service.readPage(viewer, null, null, 10))).containsExactly(newest, older, oldest);
+        verify(feedRepository, times(1)).findTimelineSeed(eq(viewer), anyInt());
+    }
+
+    @Test
+    @DisplayName("빈 타임라인으로 표시된 팔로워에게는 push 가 타임라인을 만들어 반영")
+    void fansOutToTimelineMarkedEmpty() {
+        service.readPage(viewer, null, null, 10);
+        UUID feedId = post(friend, 0);
+        given(followRepository.countByFollowing_Id(friend)).willReturn(1L);
+
+        service.fanOut(feedId, friend, T0);
+
+        assertThat(store.size(viewer)).isEqualTo(1);
+        assertThat(ids(service.readPage(viewer, null, null, 10))).containsExactly(feedId);
+        verify(feedRepository, times(1)).findTimelineSeed(eq(viewer), anyInt());
+    }
+
+    @Test
+    @DisplayName("팔로워가 기준을 넘는 작성자는 fan-out 대신 pull 작성자로 표시")
+    void marksPullAuthorAboveThreshold() {
+        UUID feedId = post(celebrity, 0);
+        store.markEmpty(celebrity);
+        given(followRepository.countByFollowing_Id(celebrity)).willReturn(3L);
+
+        service.fanOut(feedId, celebrity, T0);
+
+        assertThat(store.pullAuthors()).containsExactly(celebrity);
+        assertThat(store.exists(viewer)).isFalse();
+        assertThat(store.size(celebrity)).isEqualTo(1);
+    }
+
+    private UUID post(UUID author, int minutes) {
+        UUID id = UUID.randomUUID();
+        rows.put(id, new FeedTimelineRow(id, T0.plusSeconds(60L * minutes)));
+        authors.put(id, author);
+        return id;
+    }
+
+    private List<FeedTimelineRow> rowsOf(Set<UUID> authorIds, Instant cursor, UUID idAfter, int limit) {
+        TimelineEntry before = cursor != null ? TimelineEntry.of(idAfter, cursor) : null;
+        return rows.values().stream()
+            .filter(r -> authorIds.contains(authors.get(r.id())) && !deleted.contains(r.id()))
+            .filter(r -> before == null || TimelineEntry.of(r.id(), r.createdAt()).isOlderThan(before))
+            .sorted((a, b) -> TimelineEntry.NEWEST_FIRST.compare(
+                TimelineEntry.of(a.id(), a.createdAt()), TimelineEntry.of(b.id(), b.createdAt())))
+            .limit(limit)
+            .toList();
+    }
+
+    private Feed feed(UUID id) {
+        Feed feed = Feed.builder().content("feed").build();
+        ReflectionTestUtils.setField(feed, "id", id);
+        return feed;
+    }
+
+    private static List<UUID> ids(HomeTimelinePage page) {
+        return page.feeds().stream().map(Feed::getId).toList();
+    }
+}
@@ -0,0 +1,163 @@
+package org.ikuzo.otboo.domain.feedLike.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.feedLike.repository.FeedLikeCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FeedLikeCounterTest {
+
+    private static final UUID FEED_A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID FEED_B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    private final FeedLikeCountRepository repository = mock(FeedLikeCountRepository.class);
+    private final FeedLikeCounter counter = new FeedLikeCounter(repository);
+
+    // applyDeltas 인자 기록 (flush 가 넘긴 리스트를 호출 시점 그대로 복사)
+    private final List<List<Map.Entry<UUID, Long>>> applied = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 증감량을 피드별로 누적")
+    void accumulatesDeltas() {
+        counter.increment(FEED_A);
+        counter.increment(FEED_A);
+        counter.increment(FEED_A);
+        counter.decrement(FEED_A);
+        counter.decrement(FEED_B);
+
+        assertThat(counter.pending(FEED_A)).isEqualTo(2L);
+        assertThat(counter.pending(FEED_B)).isEqualTo(-1L);
+        assertThat(counter.pending(UUID.randomUUID())).isZero();
+        verify(repository, never()).applyDeltas(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 누적")
+    void accumulatesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.increment(FEED_A);
+        assertThat(counter.pending(FEED_A)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(counter.pending(FEED_A)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("flush 는 0 이 아닌 누적분만 feedId 순으로 반영하고 비움")
+    void flushesSortedNonZeroDeltas() {
+        recordApplied();
+        counter.increment(FEED_B);
+        counter.increment(FEED_A);
+        counter.increment(FEED_A);
+        UUID unchanged = UUID.randomUUID();
+        counter.increment(unchanged);
+        counter.decrement(unchanged);
+
+        counter.flush();
+
+        assertThat(applied).hasSize(1);
+        assertThat(applied.get(0)).containsExactly(Map.entry(FEED_A, 2L), Map.entry(FEED_B, 1L));
+        assertThat(counter.pending(FEED_A)).isZero();
+        assertThat(counter.pending(FEED_B)).isZero();
+
+        counter.flush();
+        assertThat(applied).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감량을 다시 더하지 않고 해당 피드만 재계산")
+    void recountsOnFailure() {
+        willThrow(new QueryTimeoutException("timeout")).given(repository).applyDeltas(any());
+        List<Collection<UUID>> recounted = recordRecounted();
+        counter.increment(FEED_B);
+        counter.increment(FEED_A);
+        counter.increment(FEED_A);
+
+        counter.flush();
+
+        assertThat(recounted).containsExactly(List.of(FEED_A, FEED_B));
+        assertThat(counter.pending(FEED_A)).isZero();
+        assertThat(counter.pending(FEED_B)).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산도 실패하면 증감량을 다시 누적해 다음 주기에 이후 증감과 합쳐 반영")
+    void requeuesWhenRecountFails() {
+        willThrow(new QueryTimeoutException("timeout")).given(repository).applyDeltas(any());
+        given(repository.recount(anyCollection())).willThrow(new QueryTimeoutException("timeout"));
+        counter.increment(FEED_A);
+        counter.increment(FEED_A);
+
+        counter.flush();
+
+        verify(repository, times(1)).recount(anyCollection());
+        assertThat(counter.pending(FEED_A)).isEqualTo(2L);
+
+        recordApplied();
+        counter.decrement(FEED_A);
+        counter.flush();
+
+        assertThat(applied).containsExactly(List.of(Map.entry(FEED_A, 1L)));
+        assertThat(counter.pending(FEED_A)).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산 직전에 새로 누적된 같은 피드의 증감은 재계산에 포함되므로 비움")
+    void dropsDeltasCoveredByRecount() {
+        willAnswer(inv -> {
+            // 반영 시도 중 커밋된 좋아요
+            counter.increment(FEED_A);
+            throw new QueryTimeoutException("timeout");
+        }).given(repository).applyDeltas(any());
+        List<Collection<UUID>> recounted = recordRecounted();
+        counter.increment(FEED_A);
+
+        counter.flush();
+
+        assertThat(recounted).containsExactly(List.of(FEED_A));
+        assertThat(counter.pending(FEED_A)).isZero();
+    }
+
+    private List<Collection<UUID>> recordRecounted() {
+        List<Collection<UUID>> recounted = new ArrayList<>();
+        given(repository.recount(anyCollection())).willAnswer(inv -> {
+            recounted.add(List.copyOf(inv.<Collection<UUID>>getArgument(0)));
+            return recounted.get(recounted.size() - 1).size();
+        });
+        return recounted;
+    }
+
+    private void recordApplied() {
+        willAnswer(inv -> {
+            applied.add(List.copyOf(inv.<List<Map.Entry<UUID, Long>>>getArgument(0)));
+            return null;
+        }).given(repository).applyDeltas(any());
+    }
+}
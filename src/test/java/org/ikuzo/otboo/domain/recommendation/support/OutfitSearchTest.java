@@ -0,0 +1,238 @@
+package org.ikuzo.otboo.domain.recommendation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.ikuzo.otboo.domain.clothes.enums.ClothesType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 코디 조합 분기 한정 탐색 (임의 옷장 + 기준 의상과 같은 그룹이면 가점을 주는 점수 함수)
+ */
+class OutfitSearchTest {
+
+    private static final List<ClothesType> SLOT_TYPES = List.of(
+        ClothesType.BOTTOM, ClothesType.SHOES, ClothesType.HAT, ClothesType.SCARF,
+        ClothesType.ACCESSORY);
+    private static final int GROUP_BONUS = 3;
+    private static final int FLOOR = 1;
+    private static final Duration NO_TIME_LIMIT = Duration.ofSeconds(10);
+
+    // 의상별 기본 점수/그룹
+    private final Map<UUID, Integer> base = new HashMap<>();
+    private final Map<UUID, Integer> group = new HashMap<>();
+
+    private final OutfitSearch.Scorer scorer = new OutfitSearch.Scorer() {
+        @Override
+        public int score(WardrobeFeature item, WardrobeFeature anchor) {
+            int bonus = anchor != null && group.get(anchor.id()).equals(group.get(item.id()))
+                ? GROUP_BONUS : 0;
+            return base.get(item.id()) + bonus;
+        }
+
+        @Override
+        public int upperBound(WardrobeFeature item) {
+            return base.get(item.id()) + GROUP_BONUS;
+        }
+
+        @Override
+        public int floor(ClothesType type) {
+            return FLOOR;
+        }
+    };
+
+    @Test
+    @DisplayName("상위 K개 점수가 전수 탐색 결과와 일치")
+    void matchesBruteForce() {
+        for (int seed = 0; seed < 40; seed++) {
+            Random random = new Random(seed);
+            base.clear();
+            group.clear();
+            WardrobeIndex index = wardrobe(random, -1);
+            boolean outerNeeded = seed % 2 == 0;
+
+            OutfitSearch.Result result = OutfitSearch.search(index, outerNeeded, scorer, 3,
+                Long.MAX_VALUE, NO_TIME_LIMIT);
+
+            List<Integer> all = bruteForceScores(index, outerNeeded);
+            assertThat(result.budgetExhausted()).isFalse();
+            assertThat(result.outfits())
+                .as("seed %d", seed)
+                .extracting(OutfitSearch.Outfit::score)
+                .containsExactlyElementsOf(all.subList(0, Math.min(3, all.size())));
+            for (OutfitSearch.Outfit outfit : result.outfits()) {
+                assertThat(rescore(outfit.items())).as("seed %d", seed).isEqualTo(outfit.score());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("상한이 K번째 점수 이하인 가지는 잘라 전체 조합보다 적은 노드만 확장")
+    void prunesDominatedBranches() {
+        WardrobeIndex index = wardrobe(new Random(7), 6);
+        long combinations = bruteForceScores(index, true).size();
+
+        OutfitSearch.Result result = OutfitSearch.search(index, true, scorer, 1, Long.MAX_VALUE,
+            NO_TIME_LIMIT);
+
+        assertThat(result.budgetExhausted()).isFalse();
+        assertThat(result.outfits()).hasSize(1);
+        assertThat(result.outfits().get(0).score()).isEqualTo(bruteForceScores(index, true).get(0));
+        assertThat(result.nodesExpanded()).isLessThan(combinations / 10);
+    }
+
+    @Test
+    @DisplayName("노드 예산을 넘기면 중단하고 그때까지 찾은 결과 반환")
+    void stopsAtNodeBudget() {
+        WardrobeIndex index = wardrobe(new Random(11), 6);
+
+        OutfitSearch.Result result = OutfitSearch.search(index, true, scorer, 1000, 10,
+            NO_TIME_LIMIT);
+
+        assertThat(result.budgetExhausted()).isTrue();
+        assertThat(result.nodesExpanded()).isEqualTo(11);
+        assertThat(result.outfits()).isNotEmpty().hasSizeLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 중단하고 그때까지 찾은 결과 반환")
+    void stopsAtTimeBudget() {
+        WardrobeIndex index = wardrobe(new Random(13), 6);
+        long combinations = bruteForceScores(index, true).size();
+
+        OutfitSearch.Result result = OutfitSearch.search(index, true, scorer, 1000, Long.MAX_VALUE,
+            Duration.ZERO);
+
+        assertThat(result.budgetExhausted()).isTrue();
+        assertThat(result.nodesExpanded()).isLessThan(combinations);
+        assertThat(result.outfits()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("K 가 0 이하이거나 옷장이 비면 빈 결과")
+    void emptyResult() {
+        WardrobeIndex index = wardrobe(new Random(17), 2);
+
+        assertThat(OutfitSearch.search(index, true, scorer, 0, Long.MAX_VALUE, NO_TIME_LIMIT)
+            .outfits()).isEmpty();
+        assertThat(OutfitSearch.search(WardrobeIndex.empty(UUID.randomUUID()), true, scorer, 3,
+            Long.MAX_VALUE, NO_TIME_LIMIT).outfits()).isEmpty();
+    }
+
+    /**
+     * @param perType 타입별 의상 수 (음수면 타입마다 0~3개, 상의는 최소 1개)
+     */
+    private WardrobeIndex wardrobe(Random random, int perType) {
+        List<WardrobeFeature> features = new ArrayList<>();
+        List<ClothesType> types = new ArrayList<>(List.of(ClothesType.OUTER, ClothesType.TOP,
+            ClothesType.DRESS));
+        types.addAll(SLOT_TYPES);
+        for (ClothesType type : types) {
+            int count = perType >= 0 ? perType
+                : random.nextInt(4) + (type == ClothesType.TOP ? 1 : 0);
+            for (int i = 0; i < count; i++) {
+                UUID id = UUID.randomUUID();
+                base.put(id, random.nextInt(9) - 2);
+                group.put(id, random.nextInt(3));
+                features.add(WardrobeFeature.of(id, type + "-" + i, type, null, null, null, null));
+            }
+        }
+        return WardrobeIndex.of(UUID.randomUUID(), features);
+    }
+
+    /**
+     * 탐색과 같은 규칙으로 가능한 모든 코디 점수 (내림차순)
+     * - 아우터(필요할 때) -> 상의/드레스 -> 기준 의상 고정 후 나머지 슬롯, 기준 점수 미달 의상은 제외
+     * - 통과 후보가 있는 슬롯은 반드시 하나 선택
+     */
+    private List<Integer> bruteForceScores(WardrobeIndex index, boolean outerNeeded) {
+        List<Integer> scores = new ArrayList<>();
+        List<WardrobeFeature> outers = outerNeeded ? passing(index, ClothesType.OUTER, null) : List.of();
+        for (WardrobeFeature outer : orNone(outers)) {
+            int outerScore = outer == null ? 0 : scorer.score(outer, null);
+
+            List<WardrobeFeature> inners = new ArrayList<>(passing(index, ClothesType.TOP, outer));
+            inners.addAll(passing(index, ClothesType.DRESS, outer));
+            for (WardrobeFeature inner : orNone(inners)) {
+                int partial = outerScore + (inner == null ? 0 : scorer.score(inner, outer));
+                WardrobeFeature anchor = outer != null ? outer : inner;
+
+                List<List<WardrobeFeature>> slots = new ArrayList<>();
+                for (ClothesType type : SLOT_TYPES) {
+                    if (type == ClothesType.BOTTOM && inner != null
+                        && inner.type() == ClothesType.DRESS) {
+                        continue;
+                    }
+                    List<WardrobeFeature> candidates = passing(index, type, anchor);
+                    if (!candidates.isEmpty()) {
+                        slots.add(candidates);
+                    }
+                }
+                enumerate(slots, 0, partial, anchor, scores);
+            }
+        }
+        scores.sort(Comparator.reverseOrder());
+        return scores;
+    }
+
+    private void enumerate(List<List<WardrobeFeature>> slots, int level, int partial,
+                           WardrobeFeature anchor, List<Integer> scores) {
+        if (level == slots.size()) {
+            scores.add(partial);
+            return;
+        }
+        for (WardrobeFeature item : slots.get(level)) {
+            enumerate(slots, level + 1, partial + scorer.score(item, anchor), anchor, scores);
+        }
+    }
+
+    private List<WardrobeFeature> passing(WardrobeIndex index, ClothesType type,
+                                          WardrobeFeature anchor) {
+        List<WardrobeFeature> items = index.get(type);
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream().filter(item -> scorer.score(item, anchor) >= FLOOR).toList();
+    }
+
+    /**
+     * 코디 구성만으로 점수 재계산 (아우터는 기준 없이, 상의/드레스는 아우터 기준, 나머지는 기준 의상 기준)
+     */
+    private int rescore(List<WardrobeFeature> items) {
+        WardrobeFeature outer = find(items, ClothesType.OUTER, ClothesType.OUTER);
+        WardrobeFeature inner = find(items, ClothesType.TOP, ClothesType.DRESS);
+        WardrobeFeature anchor = outer != null ? outer : inner;
+
+        int score = 0;
+        for (WardrobeFeature item : items) {
+            if (item == outer) {
+                score += scorer.score(item, null);
+            } else if (item == inner) {
+                score += scorer.score(item, outer);
+            } else {
+                score += scorer.score(item, anchor);
+            }
+        }
+        return score;
+    }
+
+    private static WardrobeFeature find(List<WardrobeFeature> items, ClothesType a, ClothesType b) {
+        return items.stream()
+            .filter(item -> item.type() == a || item.type() == b)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static List<WardrobeFeature> orNone(List<WardrobeFeature> candidates) {
+        return candidates.isEmpty() ? Collections.singletonList(null) : candidates;
+    }
+}
@@ -0,0 +1,105 @@
+package org.ikuzo.otboo.domain.weather.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 단기예보 응답 파싱 (src/test/resources/kma/village-forecast-sample.json, 2025-01-15 05시 발표 6개 시각)
+ */
+class KmaForecastStreamParserTest {
+
+    private static KmaForecastGrid grid;
+
+    @BeforeAll
+    static void load() throws IOException {
+        try (InputStream in = KmaForecastStreamParserTest.class.getResourceAsStream(
+            "/kma/village-forecast-sample.json")) {
+            grid = KmaForecastStreamParser.parse(in);
+        }
+    }
+
+    @Test
+    @DisplayName("발표시각/격자와 예보시각 슬롯 (KST -> UTC, 순서가 섞여도 오름차순)")
+    void parsesBaseAndSlots() {
+        assertThat(grid.baseDate()).isEqualTo("20250115");
+        assertThat(grid.baseTime()).isEqualTo("0500");
+        assertThat(grid.nx()).isEqualTo(60);
+        assertThat(grid.ny()).isEqualTo(127);
+
+        assertThat(grid.size()).isEqualTo(6);
+        assertThat(grid.forecastAt(0)).isEqualTo(Instant.parse("2025-01-14T20:00:00Z"));
+        assertThat(grid.forecastAt(1)).isEqualTo(Instant.parse("2025-01-14T21:00:00Z"));
+        assertThat(grid.forecastAt(5)).isEqualTo(Instant.parse("2025-01-15T01:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("수치 값은 소수 표기 그대로 보존 (float 오차 없음)")
+    void keepsDecimalValues() {
+        int i = grid.indexOf(KmaForecastGrid.toSlot(Instant.parse("2025-01-14T21:00:00Z")));
+
+        assertThat(grid.value(KmaForecastGrid.WSD, i)).isEqualTo(2.3);
+        assertThat(grid.value(KmaForecastGrid.TMP, i)).isEqualTo(-3.0);
+        assertThat(grid.value(KmaForecastGrid.TMN, i)).isEqualTo(-5.0);
+        assertThat(grid.value(KmaForecastGrid.REH, i)).isEqualTo(55.0);
+        assertThat(grid.value(KmaForecastGrid.TMX, i)).isNull();
+        assertThat(grid.value(KmaForecastGrid.WSD, i + 2)).isEqualTo(10.2);
+    }
+
+    @Test
+    @DisplayName("강수량 텍스트/범위 표기 해석")
+    void parsesPrecipitationText() {
+        assertThat(grid.value(KmaForecastGrid.PCP, 1)).isEqualTo(0.0);   // 강수없음
+        assertThat(grid.value(KmaForecastGrid.PCP, 2)).isEqualTo(1.0);   // 1mm 미만
+        assertThat(grid.value(KmaForecastGrid.PCP, 3)).isEqualTo(30.0);  // 30.0~50.0mm
+        assertThat(grid.value(KmaForecastGrid.PCP, 4)).isEqualTo(50.0);  // 50.0mm 이상
+        assertThat(grid.value(KmaForecastGrid.PCP, 5)).isEqualTo(1.5);   // 1.5mm
+        assertThat(grid.value(KmaForecastGrid.PCP, 0)).isNull();
+
+        assertThat(KmaForecastStreamParser.parsePrecipAmount(" 강수없음 ")).isEqualTo(0.0);
+        assertThat(Double.isNaN(KmaForecastStreamParser.parsePrecipAmount("-"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("SKY/PTY 코드, 해석 불가 값은 없음 처리")
+    void parsesCodesAndSkipsInvalidValues() {
+        assertThat(grid.sky(1)).isEqualTo(1);
+        assertThat(grid.pty(1)).isEqualTo(0);
+        assertThat(grid.sky(3)).isEqualTo(4);
+        assertThat(grid.pty(3)).isEqualTo(3);
+        assertThat(grid.sky(0)).isNull();
+
+        // REH "-"
+        assertThat(grid.value(KmaForecastGrid.REH, 5)).isNull();
+        assertThat(grid.value(KmaForecastGrid.TMP, 5)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("SNO 등 사용하지 않는 카테고리는 텍스트 값이어도 무시")
+    void ignoresUnusedCategories() {
+        assertThat(KmaForecastGrid.categoryIndex("SNO")).isEqualTo(-1);
+        assertThat(KmaForecastGrid.categoryIndex("UUU")).isEqualTo(-1);
+        // SNO "5.0cm 이상" 이 있는 시각도 나머지 값은 정상 기록
+        assertThat(grid.value(KmaForecastGrid.TMX, 4)).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("resultCode 가 00 이 아니면 빈 격자")
+    void emptyOnErrorResult() throws IOException {
+        String body = """
+            {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"},"body":{"items":""}}}
+            """;
+
+        KmaForecastGrid result = KmaForecastStreamParser.parse(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+}
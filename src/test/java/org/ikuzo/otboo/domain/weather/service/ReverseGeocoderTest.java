@@ -0,0 +1,60 @@
+package org.ikuzo.otboo.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.ikuzo.otboo.domain.weather.client.KakaoLocalClient;
+import org.ikuzo.otboo.domain.weather.dto.KakaoRegionDocument;
+import org.ikuzo.otboo.domain.weather.dto.KakaoRegionResponse;
+import org.ikuzo.otboo.domain.weather.dto.RegionInfoDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class ReverseGeocoderTest {
+
+    private final KakaoLocalClient kakaoLocalClient = mock(KakaoLocalClient.class);
+
+    // 경계 파일을 로드하지 않은 상태 -> 항상 카카오 조회
+    private final ReverseGeocoder reverseGeocoder = new ReverseGeocoder(kakaoLocalClient,
+        new DefaultResourceLoader(), new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("카카오 응답에서 법정동(B)보다 행정동(H) 문서를 사용")
+    void prefersAdministrativeDongDocument() {
+        given(kakaoLocalClient.coord2region(37.5759, 126.9769)).willReturn(new KakaoRegionResponse(null, List.of(
+            new KakaoRegionDocument("B", "서울특별시 종로구 세종로", "서울특별시", "종로구", "세종로", "",
+                "1111011900", 126.9769, 37.5759),
+            new KakaoRegionDocument("H", "서울특별시 종로구 사직동", "서울특별시", "종로구", "사직동", "",
+                "1111053000", 126.9690, 37.5762))));
+
+        RegionInfoDto result = reverseGeocoder.resolve(37.5759, 126.9769);
+
+        assertThat(result.code()).isEqualTo("1111053000");
+        assertThat(result.region3DepthName()).isEqualTo("사직동");
+        assertThat(result.addressName()).isEqualTo("서울특별시 종로구 사직동");
+    }
+
+    @Test
+    @DisplayName("행정동 문서가 없으면 첫 번째 문서 사용")
+    void fallsBackToFirstDocument() {
+        given(kakaoLocalClient.coord2region(37.5759, 126.9769)).willReturn(new KakaoRegionResponse(null, List.of(
+            new KakaoRegionDocument("B", "서울특별시 종로구 세종로", "서울특별시", "종로구", "세종로", "",
+                "1111011900", 126.9769, 37.5759))));
+
+        assertThat(reverseGeocoder.resolve(37.5759, 126.9769).code()).isEqualTo("1111011900");
+    }
+
+    @Test
+    @DisplayName("카카오 응답이 비어 있으면 UNKNOWN")
+    void unknownWhenNoDocuments() {
+        given(kakaoLocalClient.coord2region(37.5759, 126.9769))
+            .willReturn(new KakaoRegionResponse(null, List.of()));
+
+        assertThat(reverseGeocoder.resolve(37.5759, 126.9769).addressName()).isEqualTo("UNKNOWN");
+    }
+}
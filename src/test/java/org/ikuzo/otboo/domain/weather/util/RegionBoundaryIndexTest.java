@@ -0,0 +1,75 @@
+package org.ikuzo.otboo.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.ikuzo.otboo.domain.weather.util.RegionBoundaryIndex.Region;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 행정동 경계 인덱스 내부 판정 (src/test/resources/geo/admin-dong-sample.geojson, 단순화한 경계)
+ */
+class RegionBoundaryIndexTest {
+
+    private static RegionBoundaryIndex index;
+
+    @BeforeAll
+    static void load() throws IOException {
+        try (InputStream in = RegionBoundaryIndexTest.class.getResourceAsStream(
+            "/geo/admin-dong-sample.geojson")) {
+            index = RegionBoundaryIndex.fromGeoJson(new ObjectMapper().readTree(in));
+        }
+    }
+
+    @Test
+    @DisplayName("Polygon/MultiPolygon 만 인덱스에 포함")
+    void skipsNonPolygonFeatures() {
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("폴리곤 내부 좌표는 해당 행정동으로 판정")
+    void findsRegionContainingPoint() {
+        Region region = index.find(37.595, 126.975).orElseThrow();
+
+        assertThat(region.code()).isEqualTo("1111051500");
+        assertThat(region.region1DepthName()).isEqualTo("서울특별시");
+        assertThat(region.region2DepthName()).isEqualTo("종로구");
+        assertThat(region.region3DepthName()).isEqualTo("청운효자동");
+        assertThat(region.addressName()).isEqualTo("서울특별시 종로구 청운효자동");
+    }
+
+    @Test
+    @DisplayName("구멍(내부 링) 안의 좌표는 외곽 폴리곤에 속하지 않음")
+    void excludesHoles() {
+        assertThat(index.find(37.5875, 126.9675)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경계 상자 안이지만 폴리곤 밖이면 미적중")
+    void boundingBoxIsNotEnough() {
+        assertThat(index.find(37.575, 127.0)).map(Region::code).contains("1111053000");
+        assertThat(index.find(37.588, 127.005)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MultiPolygon 의 두 번째 폴리곤도 판정")
+    void findsInEveryPartOfMultiPolygon() {
+        assertThat(index.find(37.25, 126.42)).map(Region::code).contains("2872037000");
+        assertThat(index.find(37.21, 126.51)).map(Region::code).contains("2872037000");
+        assertThat(index.find(37.21, 126.47)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("어느 경계에도 속하지 않는 좌표와 빈 인덱스는 미적중")
+    void missesOutsideAndEmpty() {
+        assertThat(index.find(35.1796, 129.0756)).isEmpty();
+        assertThat(RegionBoundaryIndex.empty().find(37.595, 126.975)).isEmpty();
+        assertThat(RegionBoundaryIndex.of(List.of()).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,163 @@
+package org.ikuzo.otboo.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+class TotalCountResolverTest {
+
+    private static final String PAGE_CACHE = "pages";
+
+    private AnnotationConfigApplicationContext context;
+    private TotalCountResolver resolver;
+    private CountedPages pages;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        resolver = context.getBean(TotalCountResolver.class);
+        pages = context.getBean(CountedPages.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("EXACT 는 매 페이지 COUNT 실행")
+    void exactCountsEveryPage() {
+        AtomicLong queries = new AtomicLong();
+
+        resolver.resolve(TotalCountMode.EXACT, true, () -> queries.incrementAndGet(), "feeds");
+        Long total = resolver.resolve(TotalCountMode.EXACT, false, () -> queries.incrementAndGet(), "feeds");
+
+        assertThat(total).isEqualTo(2L);
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("CACHED 는 첫 페이지에서만 COUNT, 이후 페이지는 같은 조건의 값 재사용")
+    void cachedCountsOnlyFirstPage() {
+        AtomicLong queries = new AtomicLong();
+
+        assertThat(resolver.resolve(TotalCountMode.CACHED, true, () -> queries.incrementAndGet(), "feeds", "a"))
+            .isEqualTo(1L);
+        assertThat(resolver.resolve(TotalCountMode.CACHED, false, () -> queries.incrementAndGet(), "feeds", "a"))
+            .isEqualTo(1L);
+        // 조건이 다르면 별도 키
+        assertThat(resolver.resolve(TotalCountMode.CACHED, false, () -> queries.incrementAndGet(), "feeds", "b"))
+            .isEqualTo(2L);
+        // 첫 페이지는 다시 계산해 갱신
+        assertThat(resolver.resolve(TotalCountMode.CACHED, true, () -> queries.incrementAndGet(), "feeds", "a"))
+            .isEqualTo(3L);
+        assertThat(resolver.resolve(TotalCountMode.CACHED, false, () -> queries.incrementAndGet(), "feeds", "a"))
+            .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("NONE 은 COUNT 없이 null")
+    void noneSkipsCount() {
+        AtomicLong queries = new AtomicLong();
+
+        assertThat(resolver.resolve(TotalCountMode.NONE, true, () -> queries.incrementAndGet(), "feeds")).isNull();
+        assertThat(resolver.resolveCounter(TotalCountMode.NONE, () -> 5L)).isNull();
+        assertThat(resolver.resolveCounter(TotalCountMode.CACHED, () -> 5L)).isEqualTo(5L);
+        assertThat(queries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 응답 캐시는 방식별로 분리 (먼저 캐시된 방식의 totalCount 가 다른 방식에 노출되지 않음)")
+    void pageCacheIsKeyedByMode() {
+        UUID owner = UUID.randomUUID();
+
+        assertThat(pages.firstPage(owner, TotalCountMode.EXACT)).isEqualTo(1L);
+        assertThat(pages.firstPage(owner, TotalCountMode.NONE)).isNull();
+        assertThat(pages.firstPage(owner, TotalCountMode.CACHED)).isEqualTo(2L);
+
+        // 같은 방식은 캐시 적중
+        assertThat(pages.firstPage(owner, TotalCountMode.EXACT)).isEqualTo(1L);
+        assertThat(pages.firstPage(owner, TotalCountMode.NONE)).isNull();
+        assertThat(pages.invocations).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("evictAllModes 는 대상의 모든 방식 캐시를 제거하고 다른 대상은 유지")
+    void evictAllModesClearsEveryModeOfOwner() {
+        UUID owner = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        pages.firstPage(owner, TotalCountMode.EXACT);
+        pages.firstPage(owner, TotalCountMode.NONE);
+        pages.firstPage(other, TotalCountMode.EXACT);
+
+        Cache cache = context.getBean(CacheManager.class).getCache(PAGE_CACHE);
+        TotalCountResolver.evictAllModes(cache, owner);
+
+        assertThat(cache.get(TotalCountResolver.cacheKey(owner, TotalCountMode.EXACT))).isNull();
+        assertThat(cache.get(TotalCountResolver.cacheKey(owner, TotalCountMode.NONE))).isNull();
+        assertThat(cache.get(TotalCountResolver.cacheKey(other, TotalCountMode.EXACT))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("요청 파라미터 값은 대소문자 무시, 알 수 없는 값은 기본값")
+    void parsesModeParameter() {
+        assertThat(TotalCountMode.from("cached", TotalCountMode.EXACT)).isEqualTo(TotalCountMode.CACHED);
+        assertThat(TotalCountMode.from(" NONE ", TotalCountMode.EXACT)).isEqualTo(TotalCountMode.NONE);
+        assertThat(TotalCountMode.from("all", TotalCountMode.EXACT)).isEqualTo(TotalCountMode.EXACT);
+        assertThat(TotalCountMode.from(null, TotalCountMode.EXACT)).isEqualTo(TotalCountMode.EXACT);
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(PAGE_CACHE, TotalCountResolver.CACHE_NAME);
+        }
+
+        @Bean
+        TotalCountResolver totalCountResolver(CacheManager cacheManager) {
+            return new TotalCountResolver(cacheManager);
+        }
+
+        @Bean
+        CountedPages countedPages(TotalCountResolver totalCountResolver) {
+            return new CountedPages(totalCountResolver);
+        }
+    }
+
+    /**
+     * 목록 서비스의 첫 페이지 @Cacheable 과 같은 키 구성 (COUNT 결과 = 호출 순번)
+     */
+    static class CountedPages {
+
+        private final TotalCountResolver totalCountResolver;
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong counts = new AtomicLong();
+
+        CountedPages(TotalCountResolver totalCountResolver) {
+            this.totalCountResolver = totalCountResolver;
+        }
+
+        @Cacheable(cacheNames = PAGE_CACHE,
+            key = "T(org.ikuzo.otboo.global.pagination.TotalCountResolver).cacheKey(#ownerId, #countMode)")
+        public Long firstPage(UUID ownerId, TotalCountMode countMode) {
+            invocations.incrementAndGet();
+            return totalCountResolver.resolve(countMode, true, counts::incrementAndGet, "pages", ownerId);
+        }
+    }
+}
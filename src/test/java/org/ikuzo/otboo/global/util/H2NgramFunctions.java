@@ -0,0 +1,32 @@
+package org.ikuzo.otboo.global.util;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * H2 에 CREATE ALIAS 로 등록하는 otboo_ngram_match 대체 함수 (db/migration/V5 의 SQL 정의와 같은 규칙)
+ * - H2 가 리플렉션으로 호출하므로 public
+ */
+public final class H2NgramFunctions {
+
+    static final AtomicInteger CALLS = new AtomicInteger();
+
+    private H2NgramFunctions() {
+    }
+
+    public static boolean ngramMatch(String target, String keyword) {
+        CALLS.incrementAndGet();
+        return bigrams(target).containsAll(bigrams(keyword));
+    }
+
+    static Set<String> bigrams(String input) {
+        String s = input == null ? "" : input.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 2 <= s.length(); i++) {
+            result.add(s.substring(i, i + 2));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package org.ikuzo.otboo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import java.util.List;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * H2(PostgreSQL 모드) + Hibernate 로 실제 JPQL 을 실행해 2-gram 조건과 ILIKE 대체 경로 검증
+ * - otboo_ngram_match 는 H2NgramFunctions 를 별칭으로 등록해 대신함
+ */
+class NgramSearchSupportTest {
+
+    private static final String URL = "jdbc:h2:mem:ngram-search;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private static SessionFactory sessionFactory;
+    private static JdbcTemplate h2JdbcTemplate;
+
+    private EntityManager em;
+    private final PathBuilder<SearchTarget> target = new PathBuilder<>(SearchTarget.class, "searchTarget");
+
+    @Entity(name = "SearchTarget")
+    static class SearchTarget {
+
+        @Id
+        private Long id;
+
+        private String content;
+
+        protected SearchTarget() {
+        }
+
+        SearchTarget(Long id, String content) {
+            this.id = id;
+            this.content = content;
+        }
+    }
+
+    @BeforeAll
+    static void setUpDatabase() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(SearchTarget.class)
+            .setProperty("hibernate.connection.url", URL)
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .buildSessionFactory();
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(URL);
+        h2JdbcTemplate = new JdbcTemplate(dataSource);
+        h2JdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS otboo_ngram_match FOR '"
+            + H2NgramFunctions.class.getName() + ".ngramMatch'");
+
+        sessionFactory.inTransaction(session -> {
+            session.persist(new SearchTarget(1L, "오늘의 코디"));
+            session.persist(new SearchTarget(2L, "Otboo Daily Look"));
+            session.persist(new SearchTarget(3L, "비 오는 날 코디"));
+            session.persist(new SearchTarget(4L, "코 디"));
+        });
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        sessionFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = sessionFactory.createEntityManager();
+        H2NgramFunctions.CALLS.set(0);
+    }
+
+    @Test
+    @DisplayName("함수가 있으면 2-gram 조건으로 거른 뒤 ILIKE 로 재확인")
+    void ngramPredicate() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).willReturn(true);
+        NgramSearchSupport support = support(jdbcTemplate);
+
+        // "코 디" 는 2-gram 이 같아도 ILIKE 재확인에서 제외
+        assertThat(search(support, "코디")).containsExactly(1L, 3L);
+        assertThat(H2NgramFunctions.CALLS.get()).isPositive();
+        assertThat(search(support, "DAILY")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("1글자 키워드는 함수가 있어도 ILIKE 만 사용")
+    void singleCharacterKeyword() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).willReturn(true);
+        NgramSearchSupport support = support(jdbcTemplate);
+
+        assertThat(search(support, "비")).containsExactly(3L);
+        assertThat(H2NgramFunctions.CALLS.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("함수 확인에 실패하면 ILIKE 만으로 같은 결과")
+    void ilikeFallback() {
+        // H2 에는 to_regproc 가 없어 확인 쿼리가 실패
+        NgramSearchSupport support = support(h2JdbcTemplate);
+
+        assertThat(search(support, "코디")).containsExactly(1L, 3L);
+        assertThat(search(support, "DAILY")).containsExactly(2L);
+        assertThat(H2NgramFunctions.CALLS.get()).isZero();
+    }
+
+    private NgramSearchSupport support(JdbcTemplate jdbcTemplate) {
+        NgramSearchSupport support = new NgramSearchSupport(jdbcTemplate);
+        ReflectionTestUtils.setField(support, "enabled", true);
+        support.detect();
+        return support;
+    }
+
+    private List<Long> search(NgramSearchSupport support, String keyword) {
+        return new JPAQueryFactory(em)
+            .select(target.getNumber("id", Long.class))
+            .from(target)
+            .where(support.containsIgnoreCase(target.getString("content"), keyword))
+            .orderBy(target.getNumber("id", Long.class).asc())
+            .fetch();
+    }
+}
@@ -0,0 +1,102 @@
+package org.ikuzo.otboo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("버킷이 가득 찬 상태에서는 burst 개수만큼 즉시 획득")
+    void burst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 3, now::get);
+
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 소진 후 대기 한도보다 다음 토큰이 늦으면 false")
+    void exhausted() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, now::get);
+
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        // 다음 토큰은 1초 뒤
+        assertThat(limiter.tryAcquire(Duration.ofMillis(500))).isFalse();
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 초당 permitsPerSecond 개씩 충전")
+    void refill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 2, now::get);
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst 개수까지만 적립")
+    void refillCappedAtBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, now::get);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 한도 안이면 다음 토큰을 예약하고 그 시각까지 대기 후 획득")
+    void waitsForReservedToken() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 1, now::get);
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+
+        // 다음 토큰까지 10ms (실제 대기)
+        assertThat(limiter.tryAcquire(Duration.ofMillis(100))).isTrue();
+        // 예약으로 잔량이 음수 -> 그다음 토큰은 20ms 뒤라 한도 15ms 로는 실패
+        assertThat(limiter.tryAcquire(Duration.ofMillis(15))).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되면 false 를 반환하고 인터럽트 상태 유지")
+    void interruptedWhileWaiting() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, now::get);
+        assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(limiter.tryAcquire(Duration.ofSeconds(2))).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("충전 속도나 burst 가 0 이하면 생성 실패")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
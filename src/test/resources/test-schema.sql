@@ -26,6 +26,7 @@ CREATE TABLE users
     role                    VARCHAR(20)      NOT NULL,
     provider_id             VARCHAR(255)     NULL,
     provider                VARCHAR(255)     NULL,
+    wardrobe_version        BIGINT           NOT NULL DEFAULT 0,
     PRIMARY KEY (id)
 );
 